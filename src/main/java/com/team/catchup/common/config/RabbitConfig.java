@@ -1,7 +1,15 @@
 package com.team.catchup.common.config;
 
+import com.team.catchup.github.config.WebhookProperties;
+import org.springframework.amqp.core.AcknowledgeMode;
 import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.rabbit.config.RetryInterceptorBuilder;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.retry.RejectAndDontRequeueRecoverer;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -22,6 +30,11 @@ public class RabbitConfig {
     public static final String GITHUB_PUSH_EVENT_QUEUE = "github_push_queue";
     public static final String GITHUB_PR_ISSUE_EVENT_QUEUE = "github_pr_issue_queue";
 
+    // 재시도 후에도 처리하지 못한 Webhook Event 보관용 Dead Letter Queue
+    public static final String GITHUB_PUSH_EVENT_DLQ = GITHUB_PUSH_EVENT_QUEUE + ".dlq";
+    public static final String GITHUB_PR_ISSUE_EVENT_DLQ = GITHUB_PR_ISSUE_EVENT_QUEUE + ".dlq";
+
+    public static final String WEBHOOK_LISTENER_CONTAINER_FACTORY = "webhookListenerContainerFactory";
 
     @Bean
     public Queue notionSyncQueue() {
@@ -44,6 +57,63 @@ public class RabbitConfig {
         return new Queue(GITHUB_ISSUE_QUEUE, false);
     }
 
+    /**
+     * Webhook Inbox Queue
+     * 원본 payload를 보관하므로 durable, 처리 실패 메시지는 기본 Exchange를 통해 DLQ로 이동
+     */
+    @Bean
+    public Queue githubPushEventQueue() {
+        return QueueBuilder.durable(GITHUB_PUSH_EVENT_QUEUE)
+                .deadLetterExchange("")
+                .deadLetterRoutingKey(GITHUB_PUSH_EVENT_DLQ)
+                .build();
+    }
+
+    @Bean
+    public Queue githubPushEventDeadLetterQueue() {
+        return QueueBuilder.durable(GITHUB_PUSH_EVENT_DLQ).build();
+    }
+
+    @Bean
+    public Queue githubPrIssueEventQueue() {
+        return QueueBuilder.durable(GITHUB_PR_ISSUE_EVENT_QUEUE)
+                .deadLetterExchange("")
+                .deadLetterRoutingKey(GITHUB_PR_ISSUE_EVENT_DLQ)
+                .build();
+    }
+
+    @Bean
+    public Queue githubPrIssueEventDeadLetterQueue() {
+        return QueueBuilder.durable(GITHUB_PR_ISSUE_EVENT_DLQ).build();
+    }
+
+    /**
+     * Webhook Inbox Consumer
+     * Queue별 Consumer 수와 prefetch로 동시 처리량을 제한하고,
+     * 예외 발생 시 지수 백오프로 재시도한 뒤 requeue 없이 reject (DLQ로 이동)
+     */
+    @Bean(name = WEBHOOK_LISTENER_CONTAINER_FACTORY)
+    public SimpleRabbitListenerContainerFactory webhookListenerContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            ConnectionFactory connectionFactory,
+            WebhookProperties webhookProperties) {
+        WebhookProperties.Ingestion ingestion = webhookProperties.getIngestion();
+
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setAcknowledgeMode(AcknowledgeMode.AUTO);
+        factory.setConcurrentConsumers(ingestion.getConcurrency());
+        factory.setMaxConcurrentConsumers(ingestion.getMaxConcurrency());
+        factory.setPrefetchCount(ingestion.getPrefetch());
+        factory.setDefaultRequeueRejected(false);
+        factory.setAdviceChain(RetryInterceptorBuilder.stateless()
+                .maxAttempts(ingestion.getMaxAttempts())
+                .backOffOptions(ingestion.getInitialBackoffMs(), 2.0, ingestion.getInitialBackoffMs() * 10)
+                .recoverer(new RejectAndDontRequeueRecoverer())
+                .build());
+        return factory;
+    }
+
     @Bean
     public Jackson2JsonMessageConverter producerMessageConverter() {
         return new Jackson2JsonMessageConverter();
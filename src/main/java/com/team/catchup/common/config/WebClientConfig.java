@@ -1,6 +1,9 @@
 package com.team.catchup.common.config;
 
+import com.team.catchup.github.client.GithubConditionalRequestCache;
+import com.team.catchup.github.client.GithubRateLimitGovernor;
 import com.team.catchup.github.config.GithubProperties;
+import com.team.catchup.jira.client.JiraRateLimiter;
 import com.team.catchup.jira.config.JiraProperties;
 import com.team.catchup.notion.config.NotionProperties;
 import com.team.catchup.rag.config.RagProperties;
@@ -37,6 +40,9 @@ public class WebClientConfig {
     private final NotionProperties notionProperties;
     private final GithubProperties githubProperties;
     private final RagProperties ragProperties;
+    private final GithubRateLimitGovernor githubRateLimitGovernor;
+    private final GithubConditionalRequestCache githubConditionalRequestCache;
+    private final JiraRateLimiter jiraRateLimiter;
 
     // Jira WebClient
     @Bean
@@ -70,6 +76,8 @@ public class WebClientConfig {
                 .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(jiraProperties.getMemory().getMaxInMemorySize()))
                 .filter(logRequest())
                 .filter(logResponse())
+                // 프로젝트 병렬 동기화 시에도 전체 요청 속도 제한 및 429 / 503 재시도 (가장 안쪽 필터)
+                .filter(jiraRateLimiter.filter())
                 .build();
     }
     //==================================================================================================================
@@ -123,6 +131,10 @@ public class WebClientConfig {
                         .maxInMemorySize(githubProperties.getMemory().getMaxInMemorySize()))
                 .filter(logRequest())
                 .filter(logResponse())
+                // ETag 조건부 요청 캐시 (304 응답은 Rate Limit 미차감)
+                .filter(githubConditionalRequestCache.filter())
+                // Rate Limit 헤더 기반 요청 간격 조절 및 403/429 재시도 (가장 안쪽 필터)
+                .filter(githubRateLimitGovernor.filter())
                 .build();
     }
 
@@ -25,4 +25,8 @@ public class SyncCount {
                 .skipped(0)
                 .build();
     }
-}
\ No newline at end of file
+
+    public SyncCount plus(SyncCount other) {
+        return SyncCount.of(total + other.getTotal(), saved + other.getSaved());
+    }
+}
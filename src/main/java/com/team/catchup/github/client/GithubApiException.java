@@ -0,0 +1,24 @@
+package com.team.catchup.github.client;
+
+import lombok.Getter;
+
+/**
+ * GitHub REST API 비정상 응답
+ * 페이지네이션 중 발생한 오류를 빈 결과로 삼키지 않고 호출자에게 전파하기 위해 사용
+ */
+@Getter
+public class GithubApiException extends RuntimeException {
+
+    private final int statusCode;
+    private final String uri;
+
+    public GithubApiException(int statusCode, String uri, String responseBody) {
+        super(String.format("GitHub API request failed (%d): %s - %s", statusCode, uri, responseBody));
+        this.statusCode = statusCode;
+        this.uri = uri;
+    }
+
+    public boolean isNotFound() {
+        return statusCode == 404;
+    }
+}
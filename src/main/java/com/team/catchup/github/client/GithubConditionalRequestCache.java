@@ -0,0 +1,186 @@
+package com.team.catchup.github.client;
+
+import com.team.catchup.github.config.GithubProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * githubWebClient 조건부 요청(ETag / Last-Modified) 캐시
+ * 목록 조회 응답을 요청 URI 기준으로 Redis에 저장하고, 재요청 시 If-None-Match / If-Modified-Since를 전송한다.
+ * 304 Not Modified 응답은 Primary Rate Limit에 포함되지 않으므로 캐시된 본문을 200 응답으로 재사용한다.
+ */
+@Slf4j
+@Component
+public class GithubConditionalRequestCache {
+
+    private static final String KEY_PREFIX = "github:etag:";
+    private static final String FIELD_ETAG = "etag";
+    private static final String FIELD_LAST_MODIFIED = "lastModified";
+    private static final String FIELD_LINK = "link";
+    private static final String FIELD_BODY = "body";
+
+    // 캐시 대상: PR / Issue / Review / Comment / File 목록 조회
+    private static final Pattern CACHEABLE_PATH =
+            Pattern.compile(".*/(pulls|issues|reviews|comments|files)$");
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final GithubProperties.CacheProperties properties;
+    private final ExchangeStrategies exchangeStrategies;
+
+    public GithubConditionalRequestCache(RedisTemplate<String, String> redisTemplate, GithubProperties githubProperties) {
+        this.redisTemplate = redisTemplate;
+        this.properties = githubProperties.getCache();
+        // 재구성한 응답도 githubWebClient와 동일한 버퍼 크기로 디코딩
+        this.exchangeStrategies = ExchangeStrategies.builder()
+                .codecs(configurer -> configurer.defaultCodecs()
+                        .maxInMemorySize(githubProperties.getMemory().getMaxInMemorySize()))
+                .build();
+    }
+
+    /**
+     * githubWebClient에 등록할 ExchangeFilterFunction
+     */
+    public ExchangeFilterFunction filter() {
+        return (request, next) -> {
+            if (!isCacheable(request)) {
+                return next.exchange(request);
+            }
+
+            String key = KEY_PREFIX + request.url();
+
+            return load(key)
+                    .flatMap(cached -> exchangeConditional(request, next, key, cached))
+                    .switchIfEmpty(Mono.defer(() -> next.exchange(request)
+                            .flatMap(response -> storeIfCacheable(key, response))));
+        };
+    }
+
+    private Mono<ClientResponse> exchangeConditional(ClientRequest request, ExchangeFunction next,
+                                                     String key, CachedResponse cached) {
+        ClientRequest conditionalRequest = ClientRequest.from(request)
+                .headers(headers -> {
+                    if (cached.etag() != null) {
+                        headers.set(HttpHeaders.IF_NONE_MATCH, cached.etag());
+                    } else if (cached.lastModified() != null) {
+                        headers.set(HttpHeaders.IF_MODIFIED_SINCE, cached.lastModified());
+                    }
+                })
+                .build();
+
+        return next.exchange(conditionalRequest)
+                .flatMap(response -> {
+                    if (response.statusCode().value() != HttpStatus.NOT_MODIFIED.value()) {
+                        return storeIfCacheable(key, response);
+                    }
+
+                    log.debug("[GITHUB][CACHE] 304 Not Modified - reusing cached page: {}", request.url());
+                    return response.releaseBody()
+                            .then(Mono.fromCallable(() -> rebuild(response, cached.body(), cached.link())));
+                });
+    }
+
+    /**
+     * ETag 또는 Last-Modified가 있는 200 응답을 캐시에 저장하고, 본문을 다시 읽을 수 있는 응답으로 반환
+     */
+    private Mono<ClientResponse> storeIfCacheable(String key, ClientResponse response) {
+        HttpHeaders headers = response.headers().asHttpHeaders();
+        String etag = headers.getETag();
+        String lastModified = headers.getFirst(HttpHeaders.LAST_MODIFIED);
+
+        if (response.statusCode().value() != HttpStatus.OK.value() || (etag == null && lastModified == null)) {
+            return Mono.just(response);
+        }
+
+        return response.bodyToMono(String.class)
+                .defaultIfEmpty("")
+                .flatMap(body -> save(key, new CachedResponse(etag, lastModified, headers.getFirst(HttpHeaders.LINK), body))
+                        .then(Mono.fromCallable(() -> rebuild(response, body, null))));
+    }
+
+    /**
+     * 이미 읽은(또는 캐시된) 본문으로 200 응답을 다시 구성
+     * 원본 응답의 헤더(Rate Limit, Link 등)는 유지
+     */
+    private ClientResponse rebuild(ClientResponse original, String body, String link) {
+        return ClientResponse.create(HttpStatus.OK, exchangeStrategies)
+                .headers(headers -> {
+                    headers.addAll(original.headers().asHttpHeaders());
+                    headers.setContentType(MediaType.APPLICATION_JSON);
+                    headers.remove(HttpHeaders.CONTENT_LENGTH);
+                    if (link != null) {
+                        headers.set(HttpHeaders.LINK, link);
+                    }
+                })
+                .request(original.request())
+                .body(body)
+                .build();
+    }
+
+    private boolean isCacheable(ClientRequest request) {
+        return properties.isEnabled()
+                && HttpMethod.GET.equals(request.method())
+                && CACHEABLE_PATH.matcher(request.url().getPath()).matches();
+    }
+
+    // ==================== Redis ====================
+
+    private Mono<CachedResponse> load(String key) {
+        return Mono.fromCallable(() -> {
+                    Map<Object, Object> entry = redisTemplate.opsForHash().entries(key);
+                    if (entry.isEmpty() || !entry.containsKey(FIELD_BODY)) {
+                        return null;
+                    }
+                    return new CachedResponse(
+                            (String) entry.get(FIELD_ETAG),
+                            (String) entry.get(FIELD_LAST_MODIFIED),
+                            (String) entry.get(FIELD_LINK),
+                            (String) entry.get(FIELD_BODY)
+                    );
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(e -> {
+                    log.warn("[GITHUB][CACHE] Failed to read cache entry: {}", key, e);
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<Void> save(String key, CachedResponse cached) {
+        return Mono.fromRunnable(() -> {
+                    Map<String, String> entry = new HashMap<>();
+                    entry.put(FIELD_BODY, cached.body());
+                    if (cached.etag() != null) entry.put(FIELD_ETAG, cached.etag());
+                    if (cached.lastModified() != null) entry.put(FIELD_LAST_MODIFIED, cached.lastModified());
+                    if (cached.link() != null) entry.put(FIELD_LINK, cached.link());
+
+                    redisTemplate.delete(key);
+                    redisTemplate.opsForHash().putAll(key, entry);
+                    redisTemplate.expire(key, Duration.ofHours(properties.getTtlHours()));
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(e -> {
+                    log.warn("[GITHUB][CACHE] Failed to write cache entry: {}", key, e);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private record CachedResponse(String etag, String lastModified, String link, String body) {
+    }
+}
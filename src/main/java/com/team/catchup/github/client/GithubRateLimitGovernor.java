@@ -0,0 +1,226 @@
+package com.team.catchup.github.client;
+
+import com.team.catchup.github.config.GithubProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * githubWebClient 공용 Rate Limit Governor
+ * 모든 응답의 X-RateLimit-Remaining / X-RateLimit-Reset / Retry-After 헤더를 읽어
+ * 남은 호출 수를 Reset 시점까지 균등하게 분배하도록 요청 간격을 조절한다.
+ * Secondary Rate Limit(429, 또는 본문에 "rate limit"이 있는 403) 응답은 대기 후 재시도한다.
+ */
+@Slf4j
+@Component
+public class GithubRateLimitGovernor {
+
+    private static final String CORE_RESOURCE = "core";
+    private static final String GRAPHQL_RESOURCE = "graphql";
+    private static final String SEARCH_RESOURCE = "search";
+
+    private static final String HEADER_REMAINING = "X-RateLimit-Remaining";
+    private static final String HEADER_RESET = "X-RateLimit-Reset";
+    private static final String HEADER_RESOURCE = "X-RateLimit-Resource";
+
+    // GitHub 문서: Retry-After 없는 Secondary Rate Limit은 최소 1분 대기 후 재시도
+    private static final Duration SECONDARY_LIMIT_MIN_WAIT = Duration.ofSeconds(60);
+
+    private final GithubProperties.RateLimitProperties properties;
+    private final Map<String, Budget> budgets = new ConcurrentHashMap<>();
+
+    public GithubRateLimitGovernor(GithubProperties githubProperties) {
+        this.properties = githubProperties.getRateLimit();
+    }
+
+    /**
+     * githubWebClient에 등록할 ExchangeFilterFunction
+     */
+    public ExchangeFilterFunction filter() {
+        return (request, next) -> exchange(request, next, 0);
+    }
+
+    private Mono<ClientResponse> exchange(ClientRequest request, ExchangeFunction next, int attempt) {
+        Budget budget = budgetFor(resolveResource(request));
+
+        return Mono.defer(() -> {
+                    Duration wait = budget.reserveSlot(properties);
+                    if (wait.isZero()) {
+                        return next.exchange(request);
+                    }
+                    log.debug("[GITHUB][RATE LIMIT] Waiting {}ms before {} {}", wait.toMillis(),
+                            request.method(), request.url());
+                    return Mono.delay(wait).then(Mono.defer(() -> next.exchange(request)));
+                })
+                .flatMap(response -> {
+                    HttpHeaders headers = response.headers().asHttpHeaders();
+                    String resource = headers.getFirst(HEADER_RESOURCE);
+                    Budget updated = resource != null ? budgetFor(resource) : budget;
+                    updated.update(headers);
+
+                    int status = response.statusCode().value();
+                    Duration backoff = resolveBackoff(status, headers, attempt);
+                    if (backoff != null) {
+                        return retryAfterBackoff(request, next, attempt, response, updated, backoff);
+                    }
+                    if (status != HttpStatus.FORBIDDEN.value()) {
+                        return Mono.just(response);
+                    }
+
+                    // Rate Limit 헤더 없는 403: 본문에 "rate limit"이 있으면 Secondary Rate Limit, 아니면 권한 오류
+                    return response.bodyToMono(String.class)
+                            .defaultIfEmpty("")
+                            .flatMap(body -> {
+                                ClientResponse restored = response.mutate().body(body).build();
+                                if (!body.toLowerCase().contains("rate limit")) {
+                                    return Mono.just(restored);
+                                }
+                                return retryAfterBackoff(request, next, attempt, restored, updated,
+                                        secondaryBackoff(attempt, SECONDARY_LIMIT_MIN_WAIT));
+                            });
+                });
+    }
+
+    private Mono<ClientResponse> retryAfterBackoff(ClientRequest request, ExchangeFunction next, int attempt,
+                                                   ClientResponse response, Budget budget, Duration backoff) {
+        if (attempt >= properties.getMaxRetries()) {
+            log.warn("[GITHUB][RATE LIMIT] Giving up after {} retries: {} {}",
+                    attempt, request.method(), request.url());
+            return Mono.just(response);
+        }
+
+        log.warn("[GITHUB][RATE LIMIT] Rate limited ({}) - backing off {}s before retry #{}: {}",
+                response.statusCode().value(), backoff.toSeconds(), attempt + 1, request.url());
+        budget.pauseFor(backoff);
+
+        return response.releaseBody()
+                .then(Mono.defer(() -> exchange(request, next, attempt + 1)));
+    }
+
+    /**
+     * Rate Limit 응답이면 대기 시간을, 아니면 null을 반환
+     */
+    private Duration resolveBackoff(int status, HttpHeaders headers, int attempt) {
+        if (status != HttpStatus.FORBIDDEN.value() && status != HttpStatus.TOO_MANY_REQUESTS.value()) {
+            return null;
+        }
+
+        String retryAfter = headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (retryAfter != null) {
+            try {
+                return Duration.ofSeconds(Long.parseLong(retryAfter.trim()));
+            } catch (NumberFormatException e) {
+                log.warn("[GITHUB][RATE LIMIT] Unparseable Retry-After header: {}", retryAfter);
+            }
+        }
+
+        // Primary Rate Limit 소진 -> Reset 시점까지 대기
+        if ("0".equals(headers.getFirst(HEADER_REMAINING))) {
+            long resetAt = parseLong(headers.getFirst(HEADER_RESET), 0L) * 1000;
+            long wait = Math.max(resetAt - System.currentTimeMillis(), 0) + 1000;
+            return Duration.ofMillis(wait);
+        }
+
+        // Retry-After 없는 429 -> Secondary Rate Limit, 지수 백오프
+        // (Rate Limit 헤더 없는 403은 본문으로 판별하므로 호출자에서 처리)
+        if (status == HttpStatus.TOO_MANY_REQUESTS.value()) {
+            return secondaryBackoff(attempt, Duration.ZERO);
+        }
+        return null;
+    }
+
+    private Duration secondaryBackoff(int attempt, Duration minimum) {
+        Duration backoff = Duration.ofMillis(properties.getSecondaryBackoffMs() * (1L << attempt));
+        return backoff.compareTo(minimum) < 0 ? minimum : backoff;
+    }
+
+    private Budget budgetFor(String resource) {
+        return budgets.computeIfAbsent(resource, key -> new Budget());
+    }
+
+    private String resolveResource(ClientRequest request) {
+        String path = request.url().getPath();
+        if (path.endsWith("/graphql")) {
+            return GRAPHQL_RESOURCE;
+        }
+        if (path.startsWith("/search")) {
+            return SEARCH_RESOURCE;
+        }
+        return CORE_RESOURCE;
+    }
+
+    private static long parseLong(String value, long defaultValue) {
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    // ==================== Budget ====================
+
+    /**
+     * Resource(core, graphql, search)별 남은 호출 수와 다음 요청 가능 시각
+     */
+    private static class Budget {
+
+        private volatile int remaining = -1;
+        private volatile long resetAtMillis;
+        private volatile long pausedUntilMillis;
+        private final AtomicLong nextSlotMillis = new AtomicLong();
+
+        /**
+         * 다음 요청 슬롯을 예약하고 그때까지의 대기 시간을 반환
+         */
+        Duration reserveSlot(GithubProperties.RateLimitProperties properties) {
+            long now = System.currentTimeMillis();
+            long earliest = Math.max(now, pausedUntilMillis);
+            long interval = properties.getMinIntervalMs();
+
+            int currentRemaining = remaining;
+            long currentResetAt = resetAtMillis;
+            if (currentRemaining >= 0 && now < currentResetAt) {
+                int usable = currentRemaining - properties.getReserve();
+                if (usable <= 0) {
+                    // 여유분까지 소진 -> Reset 이후로 미룸
+                    earliest = Math.max(earliest, currentResetAt + 1000);
+                } else {
+                    // 남은 호출 수를 Reset 시점까지 균등 분배
+                    interval = Math.max(interval, (currentResetAt - now) / usable);
+                }
+            }
+
+            long start = earliest;
+            long step = interval;
+            long slot = nextSlotMillis.updateAndGet(prev -> Math.max(prev, start) + step) - step;
+            return Duration.ofMillis(Math.max(slot - now, 0));
+        }
+
+        void update(HttpHeaders headers) {
+            String remainingHeader = headers.getFirst(HEADER_REMAINING);
+            if (remainingHeader == null) {
+                return;
+            }
+            this.remaining = (int) parseLong(remainingHeader, -1);
+            this.resetAtMillis = parseLong(headers.getFirst(HEADER_RESET), 0L) * 1000;
+        }
+
+        void pauseFor(Duration duration) {
+            this.pausedUntilMillis = Math.max(pausedUntilMillis, System.currentTimeMillis() + duration.toMillis());
+        }
+    }
+}
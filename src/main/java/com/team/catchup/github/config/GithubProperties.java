@@ -17,6 +17,11 @@ public class GithubProperties {
     private ConnectionProperties connection;
     private TimeoutProperties timeout;
     private MemoryProperties memory;
+    private RateLimitProperties rateLimit = new RateLimitProperties();
+    private SyncProperties sync = new SyncProperties();
+    private CacheProperties cache = new CacheProperties();
+    private GraphQlProperties graphql = new GraphQlProperties();
+    private FileHistoryProperties fileHistory = new FileHistoryProperties();
 
     @Getter
     @Setter
@@ -38,4 +43,80 @@ public class GithubProperties {
     public static class MemoryProperties {
         private Integer maxInMemorySize;
     }
+
+    @Getter
+    @Setter
+    public static class RateLimitProperties {
+        // Reset 시점까지 남겨둘 여유 호출 수 (다른 클라이언트/수동 호출용)
+        private int reserve = 100;
+        // Secondary Rate Limit 회피를 위한 최소 요청 간격 (REST 기준 900 points/min)
+        private long minIntervalMs = 70;
+        // 403/429 응답 시 최대 재시도 횟수
+        private int maxRetries = 3;
+        // Retry-After 헤더가 없는 Secondary Rate Limit 응답 시 기본 대기 시간
+        private long secondaryBackoffMs = 60000;
+    }
+
+    @Getter
+    @Setter
+    public static class SyncProperties {
+        // Repository별 Commit 상세 조회 동시 요청 수
+        private int commitConcurrency = 8;
+        // Commit 상세 조회 시 inner Publisher prefetch 크기
+        private int commitPrefetch = 1;
+        // Commit 저장 단위 (Window마다 별도 트랜잭션으로 저장)
+        private int commitWindowSize = 200;
+        // Link 헤더로 마지막 페이지를 알 수 있을 때 병렬로 미리 조회할 페이지 수
+        private int pageConcurrency = 4;
+        // PR 상세(Review Comment / Review / File) REST 조회 시 동시 처리 PR 수
+        private int pullRequestConcurrency = 8;
+        // PR 상세 저장 단위 (PR 묶음마다 하나의 트랜잭션으로 저장)
+        private int pullRequestBatchSize = 50;
+        // PR별 Review / Review Comment / File 조회 방식
+        private FanOutEngine fanOutEngine = FanOutEngine.REST;
+        // 동시에 실행할 Repository Sync 작업 수 (나머지는 대기열에서 대기)
+        private int maxConcurrentJobs = 3;
+        // 완료 이력이 없을 때 ETA 계산에 사용할 작업당 예상 시간
+        private long defaultJobDurationSeconds = 600;
+    }
+
+    public enum FanOutEngine {
+        // PR마다 REST API 호출
+        REST,
+        // GraphQL API로 여러 PR을 한 번에 조회
+        GRAPHQL
+    }
+
+    @Getter
+    @Setter
+    public static class CacheProperties {
+        // ETag / Last-Modified 기반 조건부 요청 캐시 사용 여부
+        private boolean enabled = true;
+        // 캐시 항목 보관 기간
+        private long ttlHours = 168;
+    }
+
+    @Getter
+    @Setter
+    public static class GraphQlProperties {
+        // baseUrl 기준 GraphQL 엔드포인트 경로
+        private String path = "/graphql";
+        // 쿼리 하나에 alias로 묶어 조회할 PR 수
+        private int batchSize = 50;
+        // PR별 조회 개수 (초과 시 해당 PR만 REST API로 조회)
+        private int reviewsPerPullRequest = 50;
+        private int commentsPerReview = 50;
+        private int filesPerPullRequest = 100;
+    }
+
+    @Getter
+    @Setter
+    public static class FileHistoryProperties {
+        // 파일 이력 조회 페이지 크기 (요청에 size가 없을 때)
+        private int defaultPageSize = 50;
+        // 파일 이력 조회 최대 페이지 크기
+        private int maxPageSize = 200;
+        // PREFIX / GLOB 조회 시 경로 ID로 바로 조회할 최대 일치 경로 수 (이 Repository가 변경한 경로 기준, 초과 시 최신순 변경 이력을 경로 조건으로 거름)
+        private int prefixMaxPaths = 500;
+    }
 }
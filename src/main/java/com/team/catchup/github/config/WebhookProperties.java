@@ -13,11 +13,52 @@ public class WebhookProperties {
 
     private String secret;
     private Batch batch = new Batch();
+    private Ingestion ingestion = new Ingestion();
+    private Delivery delivery = new Delivery();
+    private RenameDetection renameDetection = new RenameDetection();
 
     @Getter
     @Setter
     public static class Batch {
+        // Repository / Branch별 Push를 묶어 발행하는 최대 건수 (1 이하면 묶지 않음)
         private int size = 10;
+        // 첫 Push 이후 발행까지 대기 시간
         private int intervalMs = 5000;
     }
+
+    @Getter
+    @Setter
+    public static class Ingestion {
+        // true: 서명 검증 후 Inbox Queue에 적재하고 202 응답, false: 요청 스레드에서 바로 처리
+        private boolean async = true;
+        // Inbox Queue Consumer 수 (Queue별)
+        private int concurrency = 2;
+        private int maxConcurrency = 4;
+        // Consumer당 미확인(unacked) 메시지 상한
+        private int prefetch = 10;
+        // 처리 실패 시 재시도 횟수 (초과 시 Dead Letter Queue로 이동)
+        private int maxAttempts = 3;
+        private long initialBackoffMs = 1000;
+        // Broker 저장 확인(Publisher Confirm) 대기 시간
+        private long confirmTimeoutMs = 5000;
+        // 같은 PR / Issue / Branch 이벤트를 순서대로 처리하기 위한 파티션(단일 스레드) 수
+        private int partitions = 8;
+    }
+
+    @Getter
+    @Setter
+    public static class Delivery {
+        // 처리 완료된 X-GitHub-Delivery 보관 기간 (GitHub 재전송 가능 기간 3일)
+        private long ttlHours = 72;
+        // 처리 중 표시 보관 기간 (처리 중 장애 시 이 시간 이후 재전송 허용)
+        private long inFlightTtlSeconds = 600;
+    }
+
+    @Getter
+    @Setter
+    public static class RenameDetection {
+        // Push 묶음에 추가 / 삭제가 함께 있으면 Compare API로 이름 변경 확인
+        private boolean enabled = true;
+        private long timeoutMs = 5000;
+    }
 }
@@ -0,0 +1,42 @@
+package com.team.catchup.github.controller;
+
+import com.team.catchup.github.dto.GithubFileHistoryMode;
+import com.team.catchup.github.dto.response.GithubFileHistoryPage;
+import com.team.catchup.github.service.GithubFileHistoryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/github/repositories/{owner}/{repo}/file-history")
+@RequiredArgsConstructor
+@Slf4j
+public class GithubFileHistoryController {
+
+    private final GithubFileHistoryService fileHistoryService;
+
+    /**
+     * 파일 / 디렉터리 변경 이력
+     * 경로(EXACT), 디렉터리 하위(PREFIX), Glob 패턴(GLOB)으로 변경한 Commit / PR을 최신순으로 조회
+     */
+    @GetMapping
+    public ResponseEntity<GithubFileHistoryPage> getFileHistory(
+            @PathVariable String owner,
+            @PathVariable String repo,
+            @RequestParam String path,
+            @RequestParam(defaultValue = "EXACT") GithubFileHistoryMode mode,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        return ResponseEntity.ok(fileHistoryService.getHistory(owner, repo, path, mode, cursor, size));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidRequest(IllegalArgumentException e) {
+        log.warn("[GITHUB][FILE HISTORY] Invalid request: {}", e.getMessage());
+        return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+    }
+}
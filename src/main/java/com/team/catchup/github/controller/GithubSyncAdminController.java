@@ -0,0 +1,28 @@
+package com.team.catchup.github.controller;
+
+import com.team.catchup.github.dto.response.GithubSyncQueueStatus;
+import com.team.catchup.github.service.GithubSyncScheduler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/github/sync")
+@RequiredArgsConstructor
+@Slf4j
+public class GithubSyncAdminController {
+
+    private final GithubSyncScheduler syncScheduler;
+
+    /**
+     * Sync Scheduler 대기열 현황
+     * 대기열 길이, 실행 중인 작업, 작업별 예상 완료 시간(ETA) 조회
+     */
+    @GetMapping("/queue")
+    public ResponseEntity<GithubSyncQueueStatus> getQueueStatus() {
+        return ResponseEntity.ok(syncScheduler.getQueueStatus());
+    }
+}
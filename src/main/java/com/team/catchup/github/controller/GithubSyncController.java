@@ -2,7 +2,11 @@ package com.team.catchup.github.controller;
 
 import com.team.catchup.auth.user.CustomUserDetails;
 import com.team.catchup.github.dto.request.GithubFullSyncRequest;
+import com.team.catchup.github.dto.request.GithubIncrementalSyncRequest;
 import com.team.catchup.github.dto.request.GithubRetryRequest;
+import com.team.catchup.github.dto.response.CommitFetchStatus;
+import com.team.catchup.github.dto.response.GithubSyncJobStatus;
+import com.team.catchup.github.service.GithubCommitFetchTracker;
 import com.team.catchup.github.service.GithubSyncService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +24,7 @@ import java.util.Map;
 public class GithubSyncController {
 
     private final GithubSyncService githubSyncService;
+    private final GithubCommitFetchTracker commitFetchTracker;
 
     /**
      * Full Repository Sync
@@ -33,33 +38,68 @@ public class GithubSyncController {
         log.info("[GITHUB][CONTROLLER] Full sync request received for {}/{}@{}",
                 request.owner(), request.repository(), request.branch());
 
-        githubSyncService.fullSync(
+        GithubSyncJobStatus job = githubSyncService.fullSync(
                 userDetails.getMemberId(),
                 request.owner(),
                 request.repository(),
                 request.branch()
         );
 
-        return ResponseEntity.ok(Map.of(
-                "status", "started",
-                "message", String.format("Full sync started for %s/%s@%s",
-                        request.owner(), request.repository(), request.branch())
-        ));
+        return ResponseEntity.ok(toJobResponse(job, String.format("Full sync scheduled for %s/%s@%s",
+                request.owner(), request.repository(), request.branch())));
+    }
+
+    /**
+     * Incremental Repository Sync
+     * 마지막 동기화 Watermark 이후 변경된 Commits, Pull Requests, Issues와 그 하위 데이터만 동기화
+     */
+    @PostMapping("/incremental")
+    public ResponseEntity<Map<String, String>> incrementalSync(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @Valid @RequestBody GithubIncrementalSyncRequest request
+    ) {
+        log.info("[GITHUB][CONTROLLER] Incremental sync request received for {}/{}@{}",
+                request.owner(), request.repository(), request.branch());
+
+        GithubSyncJobStatus job = githubSyncService.incrementalSync(
+                userDetails.getMemberId(),
+                request.owner(),
+                request.repository(),
+                request.branch()
+        );
+
+        return ResponseEntity.ok(toJobResponse(job, String.format("Incremental sync scheduled for %s/%s@%s",
+                request.owner(), request.repository(), request.branch())));
     }
 
     /**
      * Retry Full Sync from a specific step
      * 특정 단계부터 Full Sync 재시도
+     * resumeFromCheckpoint=true이면 실패한 단계의 마지막 저장 위치(Commit 페이지, PR / Issue 번호)부터 이어서 진행
      */
     @PostMapping("/retry")
     public ResponseEntity<Map<String, String>> retryFromStep(
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @Valid @RequestBody GithubRetryRequest request
     ) {
-        log.info("[GITHUB][CONTROLLER] Retry sync request received for {}/{}@{} from step: {}",
-                request.owner(), request.repository(), request.branch(), request.startFrom());
+        log.info("[GITHUB][CONTROLLER] Retry sync request received for {}/{}@{} from step: {}, resumeFromCheckpoint: {}",
+                request.owner(), request.repository(), request.branch(), request.startFrom(),
+                request.resumesFromCheckpoint());
+
+        if (request.resumesFromCheckpoint()) {
+            GithubSyncJobStatus job = githubSyncService.resumeFromCheckpoint(
+                    userDetails.getMemberId(),
+                    request.owner(),
+                    request.repository(),
+                    request.branch(),
+                    request.startFrom()
+            );
 
-        githubSyncService.fullSyncFrom(
+            return ResponseEntity.ok(toJobResponse(job, String.format("Retry sync scheduled for %s/%s@%s from checkpoint",
+                    request.owner(), request.repository(), request.branch())));
+        }
+
+        GithubSyncJobStatus job = githubSyncService.fullSyncFrom(
                 userDetails.getMemberId(),
                 request.owner(),
                 request.repository(),
@@ -67,10 +107,29 @@ public class GithubSyncController {
                 request.startFrom()
         );
 
-        return ResponseEntity.ok(Map.of(
-                "status", "started",
-                "message", String.format("Retry sync started for %s/%s@%s from step: %s",
-                        request.owner(), request.repository(), request.branch(), request.startFrom())
-        ));
+        return ResponseEntity.ok(toJobResponse(job, String.format("Retry sync scheduled for %s/%s@%s from step: %s",
+                request.owner(), request.repository(), request.branch(), request.startFrom())));
+    }
+
+    /**
+     * Commit 상세 조회 진행 상황
+     * 대기(waiting), 진행 중(inFlight), 완료(completed), 실패(failed) 개수 조회
+     */
+    @GetMapping("/commits/status")
+    public ResponseEntity<CommitFetchStatus> getCommitFetchStatus(
+            @RequestParam String owner,
+            @RequestParam String repository
+    ) {
+        return ResponseEntity.ok(commitFetchTracker.getStatus(owner + "/" + repository));
+    }
+
+    private Map<String, String> toJobResponse(GithubSyncJobStatus job, String message) {
+        return Map.of(
+                "status", job.running() ? "started" : "queued",
+                "jobId", job.jobId(),
+                "queuePosition", String.valueOf(job.queuePosition()),
+                "estimatedSecondsUntilDone", String.valueOf(job.estimatedSecondsUntilDone()),
+                "message", message
+        );
     }
-}
\ No newline at end of file
+}
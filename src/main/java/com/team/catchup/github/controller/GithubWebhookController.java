@@ -1,6 +1,8 @@
 package com.team.catchup.github.controller;
 
-import com.team.catchup.github.service.webhook.WebhookEventService;
+import com.team.catchup.github.config.WebhookProperties;
+import com.team.catchup.github.service.webhook.WebhookEventDispatcher;
+import com.team.catchup.github.service.webhook.WebhookInboxPublisher;
 import com.team.catchup.github.service.webhook.WebhookSignatureValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -8,6 +10,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.nio.charset.StandardCharsets;
+
 @Slf4j
 @RestController
 @RequestMapping("api/v1/github/webhook")
@@ -15,51 +19,65 @@ import org.springframework.web.bind.annotation.*;
 public class GithubWebhookController {
 
     private final WebhookSignatureValidator signatureValidator;
-    private final WebhookEventService webhookEventService;
+    private final WebhookEventDispatcher eventDispatcher;
+    private final WebhookInboxPublisher inboxPublisher;
+    private final WebhookProperties webhookProperties;
 
     @PostMapping
     public ResponseEntity<String> handleWebhook(
             @RequestHeader("X-Github-Event") String eventType,
             @RequestHeader("X-Hub-Signature-256") String signature,
-            @RequestBody String payload) {
+            @RequestHeader(value = "X-GitHub-Delivery", required = false) String deliveryId,
+            @RequestBody byte[] payload) {
 
         if(!signatureValidator.validateSignature(payload, signature)) {
             log.warn("[Webhook] Invalid signature received for event: {}", eventType);
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Invalid signature");
         }
 
-        try {
-            switch (eventType) {
-                case "push":
-                    webhookEventService.handlePushEvent(payload);
-                    log.info("[Webhook] Successfully processed push event");
-                    break;
-
-                case "pull_request":
-                    webhookEventService.handlePrEvent(payload);
-                    log.info("[Webhook] Successfully processed pull_request event");
-                    break;
+        if (!eventDispatcher.supports(eventType)) {
+            log.debug("[Webhook] Unsupported event type: {}", eventType);
+            return ResponseEntity.ok("Event ignored");
+        }
 
-                case "issues":
-                    webhookEventService.handleIssueEvent(payload);
-                    log.info("[Webhook] Successfully processed issues event");
-                    break;
+        if (eventDispatcher.isDuplicate(deliveryId)) {
+            log.info("[Webhook] Ignoring already processed {} event (delivery: {})", eventType, deliveryId);
+            return ResponseEntity.ok("Duplicate delivery");
+        }
 
-                default:
-                    log.debug("[Webhook] Unsupported event type: {}", eventType);
-                    return ResponseEntity.ok("Event ignored");
-            }
+        if (webhookProperties.getIngestion().isAsync()) {
+            return enqueue(eventType, deliveryId, payload);
+        }
 
+        try {
+            eventDispatcher.dispatch(eventType, deliveryId, payload);
             return ResponseEntity.ok("Processed");
 
         } catch (Exception e) {
             log.error("[Webhook] Failed to process {} event - payload will be included in logs for debugging",
                     eventType, e);
-            log.error("[Webhook] Failed payload: {}", payload);
+            log.error("[Webhook] Failed payload: {}", new String(payload, StandardCharsets.UTF_8));
 
             // 500 Error -> Github에서 재시도 유도
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body("Processing failed - will be retried");
         }
     }
+
+    /**
+     * Inbox Queue 적재 후 즉시 202 응답 (실제 처리는 WebhookInboxListener)
+     */
+    private ResponseEntity<String> enqueue(String eventType, String deliveryId, byte[] payload) {
+        try {
+            inboxPublisher.enqueue(eventType, deliveryId, payload);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body("Queued");
+
+        } catch (Exception e) {
+            log.error("[Webhook][Inbox] Failed to queue {} event (delivery: {})", eventType, deliveryId, e);
+
+            // Broker 저장 실패 -> 500 응답으로 Github 재시도 유도
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("Queueing failed - will be retried");
+        }
+    }
 }
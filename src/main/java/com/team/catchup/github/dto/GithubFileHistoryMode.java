@@ -0,0 +1,11 @@
+package com.team.catchup.github.dto;
+
+/**
+ * 파일 이력 조회 경로 일치 방식
+ * EXACT: 경로 일치, PREFIX: 디렉터리 하위 전체, GLOB: 와일드카드 패턴 (* ? 는 경로 구분자 제외, ** 는 하위 디렉터리 포함)
+ */
+public enum GithubFileHistoryMode {
+    EXACT,
+    PREFIX,
+    GLOB
+}
@@ -0,0 +1,17 @@
+package com.team.catchup.github.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.List;
+
+/**
+ * PR 하나의 Review / Review Comment / File 목록
+ * 각 항목은 REST API 응답과 같은 형태의 JsonNode (기존 Mapper 재사용)
+ */
+public record GithubPullRequestDetails(
+        int number,
+        List<JsonNode> reviews,
+        List<JsonNode> reviewComments,
+        List<JsonNode> files
+) {
+}
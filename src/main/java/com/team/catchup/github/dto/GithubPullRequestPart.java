@@ -0,0 +1,10 @@
+package com.team.catchup.github.dto;
+
+/**
+ * PR 단위로 추가 조회하는 하위 데이터
+ */
+public enum GithubPullRequestPart {
+    REVIEWS,
+    REVIEW_COMMENTS,
+    FILES
+}
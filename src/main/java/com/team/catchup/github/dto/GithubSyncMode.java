@@ -0,0 +1,6 @@
+package com.team.catchup.github.dto;
+
+public enum GithubSyncMode {
+    FULL,
+    INCREMENTAL
+}
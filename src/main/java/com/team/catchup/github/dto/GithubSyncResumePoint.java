@@ -0,0 +1,28 @@
+package com.team.catchup.github.dto;
+
+/**
+ * Checkpoint 기반 재시작 위치
+ * step 단계만 기록된 위치부터 이어서 진행하고, 이후 단계는 처음부터 진행
+ */
+public record GithubSyncResumePoint(
+        GithubSyncStep step,
+        int lastPage,
+        int lastPullRequestNumber,
+        int lastIssueNumber,
+        GithubSyncMode mode
+) {
+    public static GithubSyncResumePoint from(GithubSyncStep step) {
+        return from(step, GithubSyncMode.FULL);
+    }
+
+    public static GithubSyncResumePoint from(GithubSyncStep step, GithubSyncMode mode) {
+        return new GithubSyncResumePoint(step, 0, 0, 0, mode);
+    }
+
+    /**
+     * target 단계의 재시작 위치 (다른 단계면 처음부터, 동기화 모드는 유지)
+     */
+    public GithubSyncResumePoint forStep(GithubSyncStep target) {
+        return step == target ? this : from(target, mode);
+    }
+}
@@ -0,0 +1,27 @@
+package com.team.catchup.github.dto;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 증분 동기화 기준 시각 (UTC)
+ * null인 항목은 전체 히스토리를 동기화
+ */
+public record GithubSyncWatermarks(
+        LocalDateTime commits,
+        LocalDateTime pullRequests,
+        LocalDateTime issues
+) {
+    private static final DateTimeFormatter GITHUB_TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss'Z'");
+
+    public static GithubSyncWatermarks none() {
+        return new GithubSyncWatermarks(null, null, null);
+    }
+
+    /**
+     * GitHub API since 파라미터 형식 (ISO 8601, UTC)
+     */
+    public static String toSinceParam(LocalDateTime watermark) {
+        return watermark != null ? watermark.format(GITHUB_TIMESTAMP) : null;
+    }
+}
@@ -1,6 +1,7 @@
 package com.team.catchup.github.dto.request;
 
 import com.team.catchup.github.dto.GithubSyncStep;
+import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.NotBlank;
 
 public record GithubRetryRequest(
@@ -13,7 +14,18 @@ public record GithubRetryRequest(
         @NotBlank(message = "Target Branch Name is Required")
         String branch,
 
-        @NotBlank(message = "Start Point is Required")
-        GithubSyncStep startFrom
+        // resumeFromCheckpoint인 경우 생략 가능 (완료되지 않은 가장 앞 단계부터)
+        GithubSyncStep startFrom,
+
+        // 실패한 단계의 마지막 저장 위치부터 이어서 진행
+        Boolean resumeFromCheckpoint
 ) {
+    public boolean resumesFromCheckpoint() {
+        return Boolean.TRUE.equals(resumeFromCheckpoint);
+    }
+
+    @AssertTrue(message = "Start Point is Required")
+    public boolean isStartPointResolvable() {
+        return startFrom != null || resumesFromCheckpoint();
+    }
 }
@@ -0,0 +1,14 @@
+package com.team.catchup.github.dto.response;
+
+public record CommitFetchStatus(
+    String repositoryName,
+    int waiting,
+    int inFlight,
+    int completed,
+    int failed,
+    boolean active
+) {
+    public static CommitFetchStatus idle(String repositoryName) {
+        return new CommitFetchStatus(repositoryName, 0, 0, 0, 0, false);
+    }
+}
@@ -0,0 +1,23 @@
+package com.team.catchup.github.dto.response;
+
+import com.team.catchup.github.entity.GithubFileChange;
+
+import java.time.LocalDateTime;
+
+/**
+ * 파일 이력 항목 (Commit 또는 PR의 파일 변경 1건)
+ * @param commitSha Commit의 변경이면 SHA, PR의 변경이면 null
+ * @param pullRequestNumber PR의 변경이면 PR 번호, Commit의 변경이면 null
+ */
+public record GithubFileHistoryEntry(
+        Long fileChangeId,
+        String commitSha,
+        Integer pullRequestNumber,
+        String path,
+        String previousPath,
+        GithubFileChange.FileChangeType changeType,
+        Integer additions,
+        Integer deletions,
+        LocalDateTime changedAt
+) {
+}
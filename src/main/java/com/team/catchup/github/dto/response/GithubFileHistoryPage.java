@@ -0,0 +1,13 @@
+package com.team.catchup.github.dto.response;
+
+import java.util.List;
+
+/**
+ * 파일 이력 페이지 (변경 시각 최신순)
+ * @param nextCursor 다음 페이지 조회용 Cursor (마지막 페이지면 null)
+ */
+public record GithubFileHistoryPage(
+        List<GithubFileHistoryEntry> entries,
+        String nextCursor
+) {
+}
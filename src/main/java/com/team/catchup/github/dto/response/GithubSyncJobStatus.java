@@ -0,0 +1,24 @@
+package com.team.catchup.github.dto.response;
+
+import com.team.catchup.github.dto.GithubSyncMode;
+
+import java.time.LocalDateTime;
+
+/**
+ * Sync Scheduler에 등록된 작업 상태
+ * @param queuePosition 대기 순번 (1부터, 실행 중이면 0)
+ * @param estimatedSecondsUntilDone 평균 작업 시간 기준 예상 완료까지 남은 시간(초)
+ */
+public record GithubSyncJobStatus(
+        String jobId,
+        String repositoryName,
+        String branch,
+        GithubSyncMode mode,
+        Long userId,
+        boolean running,
+        int queuePosition,
+        LocalDateTime submittedAt,
+        LocalDateTime startedAt,
+        long estimatedSecondsUntilDone
+) {
+}
@@ -0,0 +1,19 @@
+package com.team.catchup.github.dto.response;
+
+import java.util.List;
+
+/**
+ * Sync Scheduler 대기열 현황
+ * @param estimatedSecondsUntilDrained 현재 실행 중 / 대기 중인 작업이 모두 끝날 때까지 예상 시간(초)
+ */
+public record GithubSyncQueueStatus(
+        int maxConcurrentJobs,
+        int runningCount,
+        int queueDepth,
+        long averageFullSyncSeconds,
+        long averageIncrementalSyncSeconds,
+        long estimatedSecondsUntilDrained,
+        List<GithubSyncJobStatus> running,
+        List<GithubSyncJobStatus> queued
+) {
+}
@@ -0,0 +1,22 @@
+package com.team.catchup.github.dto.response;
+
+/**
+ * PR 상세 동기화 단계(Review Comment / Review / File Change) 항목별 결과
+ */
+public record PullRequestEnrichmentCount(
+        SyncCount reviewComments,
+        SyncCount reviews,
+        SyncCount fileChanges
+) {
+    public static PullRequestEnrichmentCount empty() {
+        return new PullRequestEnrichmentCount(SyncCount.empty(), SyncCount.empty(), SyncCount.empty());
+    }
+
+    public PullRequestEnrichmentCount plus(PullRequestEnrichmentCount other) {
+        return new PullRequestEnrichmentCount(
+                reviewComments.plus(other.reviewComments()),
+                reviews.plus(other.reviews()),
+                fileChanges.plus(other.fileChanges())
+        );
+    }
+}
@@ -3,13 +3,22 @@ package com.team.catchup.github.dto.response;
 public record SyncCount(
     int totalFetched,
     int saved,
+    int updated,
     int skipped
 ) {
     public static SyncCount of(int totalFetched, int saved) {
-        return new SyncCount(totalFetched, saved, totalFetched - saved);
+        return of(totalFetched, saved, 0);
+    }
+
+    public static SyncCount of(int totalFetched, int saved, int updated) {
+        return new SyncCount(totalFetched, saved, updated, totalFetched - saved - updated);
     }
 
     public static SyncCount empty() {
-        return new SyncCount(0, 0, 0);
+        return new SyncCount(0, 0, 0, 0);
+    }
+
+    public SyncCount plus(SyncCount other) {
+        return SyncCount.of(totalFetched + other.totalFetched(), saved + other.saved(), updated + other.updated());
     }
 }
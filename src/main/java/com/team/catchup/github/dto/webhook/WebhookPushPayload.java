@@ -11,6 +11,8 @@ import java.util.List;
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class WebhookPushPayload {
     private String ref;  // refs/heads/main
+    private String before;  // Push 이전 HEAD SHA (새 브랜치면 0으로 채워진 SHA)
+    private String after;  // Push 이후 HEAD SHA
     private Repository repository;
     private List<Commit> commits;
 
@@ -27,7 +27,8 @@ public class GithubCommit {
 
     // 커밋 고유 ID
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "github_commit_seq")
+    @SequenceGenerator(name = "github_commit_seq", sequenceName = "github_commit_seq", allocationSize = 50)
     @Column(name = "commit_id")
     private Long commitId;
 
@@ -15,7 +15,8 @@ import lombok.NoArgsConstructor;
 public class GithubCommitParent {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "github_commit_parent_seq")
+    @SequenceGenerator(name = "github_commit_parent_seq", sequenceName = "github_commit_parent_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
@@ -6,17 +6,40 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Entity
-@Table(name = "github_file_change")
+@Table(
+    name = "github_file_change",
+    uniqueConstraints = {
+        @UniqueConstraint(
+            name = "uk_file_change_commit_path",
+            columnNames = {"repository_id", "commit_sha", "file_path_id"}
+        ),
+        @UniqueConstraint(
+            name = "uk_file_change_pull_request_path",
+            columnNames = {"pull_request_id", "file_path_id"}
+        )
+    },
+    indexes = {
+        // 파일 이력 조회 (경로별 최신순 Keyset 페이지네이션)
+        @Index(name = "idx_file_change_history",
+                columnList = "repository_id, file_path_id, changed_at DESC, file_change_id DESC"),
+        // 파일 이력 조회 (일치 경로가 많은 PREFIX / GLOB은 최신순으로 훑으며 경로 조건으로 거름)
+        @Index(name = "idx_file_change_recent",
+                columnList = "repository_id, changed_at DESC, file_change_id DESC")
+    }
+)
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class GithubFileChange {
 
-    // 파일 변경 고유 ID (자동 생성)
+    // 파일 변경 고유 ID (Sequence, 50개 단위 할당)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "github_file_change_seq")
+    @SequenceGenerator(name = "github_file_change_seq", sequenceName = "github_file_change_seq", allocationSize = 50)
     @Column(name = "file_change_id")
     private Long fileChangeId;
 
@@ -34,19 +57,25 @@ public class GithubFileChange {
     @JoinColumn(name = "pull_request_id")
     private GithubPullRequest pullRequest;
 
-    // 파일 경로
-    @Column(name = "file_path", nullable = false, length = 1000)
-    private String filePath;
+    // 파일 경로 (경로 사전 참조)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "file_path_id", nullable = false)
+    private GithubFilePath filePath;
 
     // 이전 파일 경로 (이름 변경된 경우)
-    @Column(name = "previous_file_path", length = 1000)
-    private String previousFilePath;
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "previous_file_path_id")
+    private GithubFilePath previousFilePath;
 
     // 변경 유형 (ADDED, MODIFIED, DELETED, RENAMED, COPIED)
     @Enumerated(EnumType.STRING)
     @Column(name = "change_type", nullable = false)
     private FileChangeType changeType;
 
+    // 변경 시각 (Commit: 작성 시각, PR: Merge 시각 또는 마지막 갱신 시각)
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+
     // 추가된 라인 수
     @Column(name = "additions")
     private Integer additions;
@@ -55,6 +84,14 @@ public class GithubFileChange {
     @Column(name = "deletions")
     private Integer deletions;
 
+    public String getPath() {
+        return filePath != null ? filePath.getPath() : null;
+    }
+
+    public String getPreviousPath() {
+        return previousFilePath != null ? previousFilePath.getPath() : null;
+    }
+
     public enum FileChangeType {
         ADDED,
         MODIFIED,
@@ -0,0 +1,49 @@
+package com.team.catchup.github.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 파일 경로 사전
+ * File Change마다 반복되는 경로 문자열을 한 번만 저장하고 file_path_id로 참조한다.
+ * 경로는 바이트 순서(COLLATE "C")로 비교해 접두사 범위 검색에 인덱스를 사용할 수 있게 한다.
+ */
+@Entity
+@Table(
+    name = "github_file_path",
+    uniqueConstraints = {
+        @UniqueConstraint(
+            name = "uk_file_path_path",
+            columnNames = {"path"}
+        )
+    }
+)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GithubFilePath {
+
+    // 경로 고유 ID (Sequence, 50개 단위 할당)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "github_file_path_seq")
+    @SequenceGenerator(name = "github_file_path_seq", sequenceName = "github_file_path_seq", allocationSize = 50)
+    @Column(name = "file_path_id")
+    private Long filePathId;
+
+    // 파일 경로
+    @Column(nullable = false, length = 1000, columnDefinition = "varchar(1000) collate \"C\"")
+    private String path;
+
+    /**
+     * ID 미할당 경로 (저장 시 GithubFilePathDictionary가 ID를 조회/생성)
+     */
+    public static GithubFilePath of(String path) {
+        return GithubFilePath.builder()
+                .path(path)
+                .build();
+    }
+}
@@ -0,0 +1,72 @@
+package com.team.catchup.github.entity;
+
+import com.team.catchup.common.entity.BaseTimeEntity;
+import com.team.catchup.github.dto.GithubSyncMode;
+import com.team.catchup.github.dto.GithubSyncStep;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(
+    name = "github_sync_checkpoint",
+    uniqueConstraints = {
+        @UniqueConstraint(
+            name = "uk_checkpoint_repository_branch_step",
+            columnNames = {"repository_id", "branch", "step"}
+        )
+    }
+)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GithubSyncCheckpoint extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "checkpoint_id")
+    private Long checkpointId;
+
+    // 소속 리포지토리
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "repository_id", nullable = false)
+    private GithubRepository repository;
+
+    // 동기화 대상 브랜치
+    @Column(nullable = false)
+    private String branch;
+
+    // 동기화 단계 (COMMENTS / REVIEWS / FILE_CHANGES 통합 단계는 시작 단계 기준으로 기록)
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private GithubSyncStep step;
+
+    // 동기화 모드 (재시도 시 같은 모드로 이어서 진행, 값이 없으면 FULL)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "sync_mode")
+    private GithubSyncMode mode;
+
+    // COMMITS: 저장이 끝난 마지막 목록 페이지
+    @Column(name = "last_page")
+    private Integer lastPage;
+
+    // PR 상세 단계: 저장이 끝난 마지막 PR 번호 (PR 번호 오름차순으로 처리)
+    @Column(name = "last_pull_request_number")
+    private Integer lastPullRequestNumber;
+
+    // PR 상세 단계: Issue Comment 저장이 끝난 마지막 Issue 번호
+    @Column(name = "last_issue_number")
+    private Integer lastIssueNumber;
+
+    // 단계 완료 여부
+    @Column(nullable = false)
+    private boolean completed;
+
+    public void restart(GithubSyncMode mode) {
+        this.mode = mode;
+        this.completed = false;
+    }
+}
@@ -0,0 +1,59 @@
+package com.team.catchup.github.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(
+    name = "github_sync_watermark",
+    uniqueConstraints = {
+        @UniqueConstraint(
+            name = "uk_watermark_repository_branch_type",
+            columnNames = {"repository_id", "branch", "entity_type"}
+        )
+    }
+)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GithubSyncWatermark {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "watermark_id")
+    private Long watermarkId;
+
+    // 소속 리포지토리
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "repository_id", nullable = false)
+    private GithubRepository repository;
+
+    // 동기화 대상 브랜치
+    @Column(nullable = false)
+    private String branch;
+
+    // 동기화 대상 엔티티 유형 (COMMIT, PULL_REQUEST, ISSUE)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false)
+    private EntityType entityType;
+
+    // 이 시각(UTC) 이후 변경분만 증분 동기화 대상
+    @Column(name = "synced_until", nullable = false)
+    private LocalDateTime syncedUntil;
+
+    public enum EntityType {
+        COMMIT,
+        PULL_REQUEST,
+        ISSUE
+    }
+
+    public void updateSyncedUntil(LocalDateTime syncedUntil) {
+        this.syncedUntil = syncedUntil;
+    }
+}
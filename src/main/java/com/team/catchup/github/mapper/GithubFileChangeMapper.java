@@ -1,7 +1,10 @@
 package com.team.catchup.github.mapper;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.team.catchup.github.entity.GithubCommit;
 import com.team.catchup.github.entity.GithubFileChange;
+import com.team.catchup.github.entity.GithubFilePath;
+import com.team.catchup.github.entity.GithubPullRequest;
 import com.team.catchup.github.entity.GithubRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -10,13 +13,14 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class GithubFileChangeMapper {
 
-    public GithubFileChange toEntityFromCommit(JsonNode apiResponse, GithubRepository repository, String commitSha) {
+    public GithubFileChange toEntityFromCommit(JsonNode apiResponse, GithubRepository repository, GithubCommit commit) {
         try {
             return GithubFileChange.builder()
                     .repository(repository)
-                    .commitSha(commitSha)
-                    .filePath(apiResponse.get("filename").asText())
-                    .previousFilePath(getTextOrNull(apiResponse, "previous_filename"))
+                    .commitSha(commit.getSha())
+                    .changedAt(commit.getAuthorDate())
+                    .filePath(GithubFilePath.of(apiResponse.get("filename").asText()))
+                    .previousFilePath(toFilePath(getTextOrNull(apiResponse, "previous_filename")))
                     .changeType(parseChangeType(apiResponse.get("status").asText()))
                     .additions(apiResponse.get("additions").asInt())
                     .deletions(apiResponse.get("deletions").asInt())
@@ -27,13 +31,14 @@ public class GithubFileChangeMapper {
         }
     }
 
-    public GithubFileChange toEntityFromPullRequest(JsonNode apiResponse, GithubRepository repository, com.team.catchup.github.entity.GithubPullRequest pullRequest) {
+    public GithubFileChange toEntityFromPullRequest(JsonNode apiResponse, GithubRepository repository, GithubPullRequest pullRequest) {
         try {
             return GithubFileChange.builder()
                     .repository(repository)
                     .pullRequest(pullRequest)
-                    .filePath(apiResponse.get("filename").asText())
-                    .previousFilePath(getTextOrNull(apiResponse, "previous_filename"))
+                    .changedAt(pullRequest.getMergedAt() != null ? pullRequest.getMergedAt() : pullRequest.getUpdatedAt())
+                    .filePath(GithubFilePath.of(apiResponse.get("filename").asText()))
+                    .previousFilePath(toFilePath(getTextOrNull(apiResponse, "previous_filename")))
                     .changeType(parseChangeType(apiResponse.get("status").asText()))
                     .additions(apiResponse.get("additions").asInt())
                     .deletions(apiResponse.get("deletions").asInt())
@@ -58,6 +63,10 @@ public class GithubFileChangeMapper {
         };
     }
 
+    private GithubFilePath toFilePath(String path) {
+        return path != null ? GithubFilePath.of(path) : null;
+    }
+
     private String getTextOrNull(JsonNode node, String fieldName) {
         JsonNode field = node.get(fieldName);
         return (field != null && !field.isNull()) ? field.asText() : null;
@@ -0,0 +1,344 @@
+package com.team.catchup.github.repository;
+
+import com.team.catchup.github.entity.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 동기화 대량 저장용 PostgreSQL Upsert (INSERT ... ON CONFLICT DO UPDATE)
+ * JPA saveAll은 IDENTITY 키 엔티티를 JDBC Batch로 묶지 못해 행마다 INSERT가 실행되므로,
+ * 다중 VALUES 구문 하나로 삽입/갱신하고 RETURNING (xmax = 0)으로 신규 삽입 여부를 구분한다.
+ * - 값이 바뀌지 않은 기존 행은 갱신하지 않음 (반환되지 않으므로 inserted/updated 어디에도 포함되지 않음)
+ * - updated_at이 있는 엔티티는 더 최신인 경우에만 갱신
+ * - 호출자의 트랜잭션(TransactionTemplate)에 참여
+ * - Sequence ID 엔티티는 pooled-lo 방식(Sequence 값 v로 v ~ v+49)으로 ID를 미리 할당해 Hibernate 할당 구간과 겹치지 않음
+ */
+@Repository
+@RequiredArgsConstructor
+public class GithubBulkUpsertRepository {
+
+    // 구문당 바인드 파라미터 수를 PostgreSQL 상한(65535) 이내로 유지
+    private static final int CHUNK_SIZE = 500;
+
+    // 엔티티 @SequenceGenerator allocationSize와 동일해야 함
+    private static final int ID_ALLOCATION_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final GithubFilePathDictionary filePathDictionary;
+
+    // ==================== Commits ====================
+
+    /**
+     * Commit Upsert, 신규 삽입된 Commit의 Parent도 함께 저장
+     * @return 신규 삽입된 Commit SHA는 insertedKeys로 반환
+     */
+    public UpsertResult<String> upsertCommits(List<GithubCommit> commits) {
+        List<GithubCommit> rows = distinctBy(commits, GithubCommit::getSha);
+        List<UpsertedRow<String>> upserted = executeChunked(
+                "INSERT INTO github_commit (commit_id, repository_id, sha, message, author_name, author_email, " +
+                        "author_date, additions, deletions, html_url)",
+                "ON CONFLICT (repository_id, sha) DO UPDATE SET " +
+                        "message = EXCLUDED.message, author_name = EXCLUDED.author_name, " +
+                        "author_email = EXCLUDED.author_email, author_date = EXCLUDED.author_date, " +
+                        "additions = EXCLUDED.additions, deletions = EXCLUDED.deletions, html_url = EXCLUDED.html_url " +
+                        "WHERE (github_commit.message, github_commit.author_name, github_commit.author_email, " +
+                        "github_commit.author_date, github_commit.additions, github_commit.deletions, github_commit.html_url) " +
+                        "IS DISTINCT FROM (EXCLUDED.message, EXCLUDED.author_name, EXCLUDED.author_email, " +
+                        "EXCLUDED.author_date, EXCLUDED.additions, EXCLUDED.deletions, EXCLUDED.html_url) " +
+                        "RETURNING commit_id, sha, (xmax = 0) AS inserted",
+                10,
+                withIds("github_commit_seq", rows, commit -> new Object[]{
+                        commit.getRepository().getRepositoryId(), commit.getSha(), commit.getMessage(),
+                        commit.getAuthorName(), commit.getAuthorEmail(), commit.getAuthorDate(),
+                        commit.getAdditions(), commit.getDeletions(), commit.getHtmlUrl()
+                }),
+                Function.identity(),
+                (rs, rowNum) -> new UpsertedRow<>(rs.getString("sha"), rs.getLong("commit_id"), rs.getBoolean("inserted"))
+        );
+
+        // Parent는 Commit과 함께 생성되고 변하지 않으므로 신규 Commit만 저장
+        Map<String, GithubCommit> commitsBySha = new LinkedHashMap<>();
+        rows.forEach(commit -> commitsBySha.put(commit.getSha(), commit));
+
+        List<Object[]> parents = new ArrayList<>();
+        for (UpsertedRow<String> row : upserted) {
+            if (!row.inserted() || commitsBySha.get(row.key()).getParents() == null) continue;
+            for (GithubCommitParent parent : commitsBySha.get(row.key()).getParents()) {
+                parents.add(new Object[]{row.id(), parent.getParentSha(), parent.getParentOrder()});
+            }
+        }
+        executeChunked(
+                "INSERT INTO github_commit_parent (id, commit_id, parent_sha, parent_order)",
+                "",
+                4,
+                withIds("github_commit_parent_seq", parents, Function.identity()),
+                Function.identity(),
+                null
+        );
+
+        return UpsertResult.of(upserted);
+    }
+
+    // ==================== File Changes ====================
+
+    /**
+     * File Change Upsert
+     * 경로는 경로 사전 ID로 변환해 저장하며,
+     * Commit의 File Change는 (repository_id, commit_sha, file_path_id), PR의 File Change는 (pull_request_id, file_path_id) 기준
+     */
+    public UpsertResult<Long> upsertFileChanges(List<GithubFileChange> fileChanges) {
+        if (fileChanges.isEmpty()) return UpsertResult.of(List.of());
+
+        List<String> paths = new ArrayList<>(fileChanges.size());
+        for (GithubFileChange file : fileChanges) {
+            paths.add(file.getPath());
+            if (file.getPreviousPath() != null) {
+                paths.add(file.getPreviousPath());
+            }
+        }
+        Map<String, Long> pathIds = filePathDictionary.resolve(paths);
+
+        List<GithubFileChange> commitFiles = distinctBy(
+                fileChanges.stream().filter(file -> file.getPullRequest() == null).toList(),
+                file -> file.getCommitSha() + ":" + file.getPath());
+        List<GithubFileChange> pullRequestFiles = distinctBy(
+                fileChanges.stream().filter(file -> file.getPullRequest() != null).toList(),
+                file -> file.getPullRequest().getPullRequestId() + ":" + file.getPath());
+
+        List<UpsertedRow<Long>> upserted = new ArrayList<>();
+        upserted.addAll(upsertFileChanges(commitFiles, pathIds, "repository_id, commit_sha, file_path_id"));
+        upserted.addAll(upsertFileChanges(pullRequestFiles, pathIds, "pull_request_id, file_path_id"));
+        return UpsertResult.of(upserted);
+    }
+
+    private List<UpsertedRow<Long>> upsertFileChanges(List<GithubFileChange> rows, Map<String, Long> pathIds,
+                                                      String conflictColumns) {
+        return executeChunked(
+                "INSERT INTO github_file_change (file_change_id, repository_id, commit_sha, pull_request_id, " +
+                        "file_path_id, previous_file_path_id, change_type, additions, deletions, changed_at)",
+                "ON CONFLICT (" + conflictColumns + ") DO UPDATE SET " +
+                        "previous_file_path_id = EXCLUDED.previous_file_path_id, change_type = EXCLUDED.change_type, " +
+                        "additions = EXCLUDED.additions, deletions = EXCLUDED.deletions, changed_at = EXCLUDED.changed_at " +
+                        "WHERE (github_file_change.previous_file_path_id, github_file_change.change_type, " +
+                        "github_file_change.additions, github_file_change.deletions, github_file_change.changed_at) " +
+                        "IS DISTINCT FROM (EXCLUDED.previous_file_path_id, EXCLUDED.change_type, " +
+                        "EXCLUDED.additions, EXCLUDED.deletions, EXCLUDED.changed_at) " +
+                        "RETURNING file_path_id, (xmax = 0) AS inserted",
+                10,
+                withIds("github_file_change_seq", rows, file -> new Object[]{
+                        file.getRepository().getRepositoryId(), file.getCommitSha(),
+                        file.getPullRequest() != null ? file.getPullRequest().getPullRequestId() : null,
+                        pathIds.get(file.getPath()),
+                        file.getPreviousPath() != null ? pathIds.get(file.getPreviousPath()) : null,
+                        file.getChangeType().name(), file.getAdditions(), file.getDeletions(),
+                        // 작성 시각을 알 수 없는 Commit(Webhook 타임스탬프 파싱 실패 등)은 수집 시각으로 대체
+                        file.getChangedAt() != null ? file.getChangedAt() : LocalDateTime.now()
+                }),
+                Function.identity(),
+                (rs, rowNum) -> new UpsertedRow<>(rs.getLong("file_path_id"), null, rs.getBoolean("inserted"))
+        );
+    }
+
+    // ==================== Pull Requests / Issues ====================
+
+    /**
+     * Pull Request Upsert (upstream updated_at이 더 최신인 경우에만 메타데이터 갱신)
+     */
+    public UpsertResult<Long> upsertPullRequests(List<GithubPullRequest> pullRequests) {
+        return UpsertResult.of(executeChunked(
+                "INSERT INTO github_pull_request (pull_request_id, repository_id, number, title, status, author_login, " +
+                        "base_branch, head_branch, merge_commit_sha, created_at, updated_at, closed_at, merged_at, html_url)",
+                "ON CONFLICT (pull_request_id) DO UPDATE SET " +
+                        "title = EXCLUDED.title, status = EXCLUDED.status, updated_at = EXCLUDED.updated_at, " +
+                        "closed_at = EXCLUDED.closed_at, merged_at = EXCLUDED.merged_at, " +
+                        "merge_commit_sha = EXCLUDED.merge_commit_sha " +
+                        "WHERE github_pull_request.updated_at IS NULL OR EXCLUDED.updated_at > github_pull_request.updated_at " +
+                        "RETURNING pull_request_id, (xmax = 0) AS inserted",
+                14,
+                distinctBy(pullRequests, GithubPullRequest::getPullRequestId),
+                pr -> new Object[]{
+                        pr.getPullRequestId(), pr.getRepository().getRepositoryId(), pr.getNumber(), pr.getTitle(),
+                        pr.getStatus().name(), pr.getAuthorLogin(), pr.getBaseBranch(), pr.getHeadBranch(),
+                        pr.getMergeCommitSha(), pr.getCreatedAt(), pr.getUpdatedAt(), pr.getClosedAt(),
+                        pr.getMergedAt(), pr.getHtmlUrl()
+                },
+                (rs, rowNum) -> new UpsertedRow<>(rs.getLong("pull_request_id"), null, rs.getBoolean("inserted"))
+        ));
+    }
+
+    /**
+     * Issue Upsert (upstream updated_at이 더 최신인 경우에만 메타데이터 갱신)
+     */
+    public UpsertResult<Long> upsertIssues(List<GithubIssue> issues) {
+        return UpsertResult.of(executeChunked(
+                "INSERT INTO github_issue (issue_id, repository_id, number, title, status, author_login, " +
+                        "created_at, updated_at, closed_at, html_url)",
+                "ON CONFLICT (issue_id) DO UPDATE SET " +
+                        "title = EXCLUDED.title, status = EXCLUDED.status, updated_at = EXCLUDED.updated_at, " +
+                        "closed_at = EXCLUDED.closed_at " +
+                        "WHERE github_issue.updated_at IS NULL OR EXCLUDED.updated_at > github_issue.updated_at " +
+                        "RETURNING issue_id, (xmax = 0) AS inserted",
+                10,
+                distinctBy(issues, GithubIssue::getIssueId),
+                issue -> new Object[]{
+                        issue.getIssueId(), issue.getRepository().getRepositoryId(), issue.getNumber(), issue.getTitle(),
+                        issue.getStatus().name(), issue.getAuthorLogin(), issue.getCreatedAt(), issue.getUpdatedAt(),
+                        issue.getClosedAt(), issue.getHtmlUrl()
+                },
+                (rs, rowNum) -> new UpsertedRow<>(rs.getLong("issue_id"), null, rs.getBoolean("inserted"))
+        ));
+    }
+
+    // ==================== Comments / Reviews ====================
+
+    /**
+     * Comment Upsert (upstream updated_at이 더 최신인 경우에만 갱신)
+     */
+    public UpsertResult<Long> upsertComments(List<GithubComment> comments) {
+        return UpsertResult.of(executeChunked(
+                "INSERT INTO github_comment (comment_id, repository_id, comment_type, pull_request_id, issue_id, " +
+                        "commit_sha, author_login, created_at, updated_at, html_url)",
+                "ON CONFLICT (comment_id) DO UPDATE SET " +
+                        "author_login = EXCLUDED.author_login, updated_at = EXCLUDED.updated_at, html_url = EXCLUDED.html_url " +
+                        "WHERE github_comment.updated_at IS NULL OR EXCLUDED.updated_at > github_comment.updated_at " +
+                        "RETURNING comment_id, (xmax = 0) AS inserted",
+                10,
+                distinctBy(comments, GithubComment::getCommentId),
+                comment -> new Object[]{
+                        comment.getCommentId(), comment.getRepository().getRepositoryId(), comment.getCommentType().name(),
+                        comment.getPullRequest() != null ? comment.getPullRequest().getPullRequestId() : null,
+                        comment.getIssue() != null ? comment.getIssue().getIssueId() : null,
+                        comment.getCommitSha(), comment.getAuthorLogin(), comment.getCreatedAt(),
+                        comment.getUpdatedAt(), comment.getHtmlUrl()
+                },
+                (rs, rowNum) -> new UpsertedRow<>(rs.getLong("comment_id"), null, rs.getBoolean("inserted"))
+        ));
+    }
+
+    /**
+     * Review Upsert (Dismiss 등으로 상태가 바뀐 경우 갱신)
+     */
+    public UpsertResult<Long> upsertReviews(List<GithubReview> reviews) {
+        return UpsertResult.of(executeChunked(
+                "INSERT INTO github_review (review_id, repository_id, pull_request_id, reviewer_login, review_state, " +
+                        "submitted_at, html_url)",
+                "ON CONFLICT (review_id) DO UPDATE SET " +
+                        "reviewer_login = EXCLUDED.reviewer_login, review_state = EXCLUDED.review_state, " +
+                        "submitted_at = EXCLUDED.submitted_at, html_url = EXCLUDED.html_url " +
+                        "WHERE (github_review.reviewer_login, github_review.review_state, github_review.submitted_at, " +
+                        "github_review.html_url) IS DISTINCT FROM (EXCLUDED.reviewer_login, EXCLUDED.review_state, " +
+                        "EXCLUDED.submitted_at, EXCLUDED.html_url) " +
+                        "RETURNING review_id, (xmax = 0) AS inserted",
+                7,
+                distinctBy(reviews, GithubReview::getReviewId),
+                review -> new Object[]{
+                        review.getReviewId(), review.getRepository().getRepositoryId(),
+                        review.getPullRequest().getPullRequestId(), review.getReviewerLogin(),
+                        review.getReviewState().name(), review.getSubmittedAt(), review.getHtmlUrl()
+                },
+                (rs, rowNum) -> new UpsertedRow<>(rs.getLong("review_id"), null, rs.getBoolean("inserted"))
+        ));
+    }
+
+    // ==================== Helpers ====================
+
+    /**
+     * CHUNK_SIZE 행씩 다중 VALUES 구문으로 실행
+     * @param rowMapper RETURNING 결과 매핑 (null이면 결과 없이 실행)
+     */
+    private <T, R> List<R> executeChunked(String insertClause, String conflictClause, int columnCount,
+                                          List<T> rows, Function<T, Object[]> values, RowMapper<R> rowMapper) {
+        List<R> results = new ArrayList<>();
+        for (int from = 0; from < rows.size(); from += CHUNK_SIZE) {
+            List<T> chunk = rows.subList(from, Math.min(from + CHUNK_SIZE, rows.size()));
+
+            Object[] args = new Object[chunk.size() * columnCount];
+            for (int i = 0; i < chunk.size(); i++) {
+                System.arraycopy(values.apply(chunk.get(i)), 0, args, i * columnCount, columnCount);
+            }
+
+            String sql = insertClause + " VALUES " + placeholders(chunk.size(), columnCount) + " " + conflictClause;
+            if (rowMapper != null) {
+                results.addAll(jdbcTemplate.query(sql, rowMapper, args));
+            } else {
+                jdbcTemplate.update(sql, args);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 행마다 Sequence ID를 앞에 붙인 값 배열 생성
+     * nextval 1회로 ID_ALLOCATION_SIZE개를 사용하므로 행 수 / 50번만 Sequence를 호출
+     * (갱신으로 끝난 행의 ID는 사용되지 않고 버려짐)
+     */
+    private <T> List<Object[]> withIds(String sequenceName, List<T> rows, Function<T, Object[]> values) {
+        if (rows.isEmpty()) return List.of();
+
+        int blocks = (rows.size() + ID_ALLOCATION_SIZE - 1) / ID_ALLOCATION_SIZE;
+        List<Long> blockStarts = jdbcTemplate.queryForList(
+                "SELECT nextval(?::regclass) FROM generate_series(1, ?)", Long.class, sequenceName, blocks);
+
+        List<Object[]> result = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            Object[] rowValues = values.apply(rows.get(i));
+            Object[] withId = new Object[rowValues.length + 1];
+            withId[0] = blockStarts.get(i / ID_ALLOCATION_SIZE) + i % ID_ALLOCATION_SIZE;
+            System.arraycopy(rowValues, 0, withId, 1, rowValues.length);
+            result.add(withId);
+        }
+        return result;
+    }
+
+    private String placeholders(int rowCount, int columnCount) {
+        String row = "(" + String.join(", ", Collections.nCopies(columnCount, "?")) + ")";
+        return String.join(", ", Collections.nCopies(rowCount, row));
+    }
+
+    /**
+     * 같은 구문에서 한 행을 두 번 갱신할 수 없으므로(ON CONFLICT 제약) 키 중복은 마지막 값만 유지
+     */
+    private <T, K> List<T> distinctBy(List<T> rows, Function<T, K> key) {
+        Map<K, T> distinct = new LinkedHashMap<>();
+        rows.forEach(row -> distinct.put(key.apply(row), row));
+        return new ArrayList<>(distinct.values());
+    }
+
+    private record UpsertedRow<K>(K key, Long id, boolean inserted) {
+    }
+
+    /**
+     * Upsert 결과
+     * @param insertedKeys 신규 삽입된 행의 키
+     * @param updated 값이 바뀌어 갱신된 기존 행 수
+     */
+    public record UpsertResult<K>(List<K> insertedKeys, int updated) {
+
+        private static <K> UpsertResult<K> of(List<UpsertedRow<K>> rows) {
+            List<K> insertedKeys = new ArrayList<>();
+            int updated = 0;
+            for (UpsertedRow<K> row : rows) {
+                if (row.inserted()) {
+                    insertedKeys.add(row.key());
+                } else {
+                    updated++;
+                }
+            }
+            return new UpsertResult<>(insertedKeys, updated);
+        }
+
+        public int inserted() {
+            return insertedKeys.size();
+        }
+    }
+}
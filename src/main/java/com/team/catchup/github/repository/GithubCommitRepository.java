@@ -2,14 +2,19 @@ package com.team.catchup.github.repository;
 
 import com.team.catchup.github.entity.GithubCommit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 @Repository
 public interface GithubCommitRepository extends JpaRepository<GithubCommit, Long> {
 
     List<GithubCommit> findAllByShaIn(List<String> shas);
 
-    List<GithubCommit> findByRepository_RepositoryIdAndShaIn(Long repositoryId, List<String> shas);
+    @Query("SELECT c.sha FROM GithubCommit c WHERE c.repository.repositoryId = :repositoryId AND c.sha IN :shas")
+    Set<String> findExistingShas(@Param("repositoryId") Long repositoryId, @Param("shas") Collection<String> shas);
 }
@@ -2,8 +2,11 @@ package com.team.catchup.github.repository;
 
 import com.team.catchup.github.entity.GithubFileChange;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -13,5 +16,10 @@ public interface GithubFileChangeRepository extends JpaRepository<GithubFileChan
 
     List<GithubFileChange> findByPullRequest_PullRequestId(Long pullRequestId);
 
-    List<GithubFileChange> findByFilePath(String filePath);
+    List<GithubFileChange> findByRepository_RepositoryIdAndFilePath_FilePathIdOrderByChangedAtDesc(Long repositoryId, Long filePathId);
+
+    @Query("SELECT fc FROM GithubFileChange fc JOIN FETCH fc.filePath " +
+            "WHERE fc.repository.repositoryId = :repositoryId AND fc.commitSha IN :shas")
+    List<GithubFileChange> findCommitChangesWithPath(@Param("repositoryId") Long repositoryId,
+                                                     @Param("shas") Collection<String> shas);
 }
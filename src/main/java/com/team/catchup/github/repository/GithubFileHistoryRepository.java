@@ -0,0 +1,201 @@
+package com.team.catchup.github.repository;
+
+import com.team.catchup.github.config.GithubProperties;
+import com.team.catchup.github.dto.GithubFileHistoryMode;
+import com.team.catchup.github.dto.response.GithubFileHistoryEntry;
+import com.team.catchup.github.entity.GithubFileChange;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 파일 이력 조회 (경로별 Commit / PR 변경 목록, 변경 시각 최신순)
+ * - EXACT: 경로 사전 ID로 변환 후 (repository_id, file_path_id, changed_at, file_change_id) 인덱스 범위 조회
+ * - PREFIX / GLOB: COLLATE "C" 경로 인덱스로 LIKE 접두사 범위를 좁힌 뒤(GLOB은 정규식으로 추가 필터) 변경 이력 조인
+ *   경로 사전은 모든 Repository가 공유하므로 이 Repository가 변경한 경로만 후보로 삼는다. (history 인덱스로 존재 확인)
+ *   -> 빈 접두사는 거부하고, 후보 경로를 prefix-max-paths개까지만 먼저 조회해 EXACT와 같은 인덱스로 조회
+ *   -> 그보다 많으면 (repository_id, changed_at, file_change_id) 인덱스를 최신순으로 훑으며 경로 조건으로 거름 (LIMIT에서 중단)
+ * - (changed_at, file_change_id) Keyset 조건으로 페이지네이션 (OFFSET 미사용)
+ */
+@Repository
+@RequiredArgsConstructor
+public class GithubFileHistoryRepository {
+
+    private static final String SELECT_HISTORY =
+            "SELECT fc.file_change_id, fc.commit_sha, pr.number AS pull_request_number, fp.path, " +
+                    "pfp.path AS previous_path, fc.change_type, fc.additions, fc.deletions, fc.changed_at " +
+                    "FROM github_file_change fc " +
+                    "JOIN github_file_path fp ON fp.file_path_id = fc.file_path_id " +
+                    "LEFT JOIN github_file_path pfp ON pfp.file_path_id = fc.previous_file_path_id " +
+                    "LEFT JOIN github_pull_request pr ON pr.pull_request_id = fc.pull_request_id " +
+                    "WHERE fc.repository_id = ? ";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final GithubFilePathDictionary filePathDictionary;
+    private final GithubProperties githubProperties;
+
+    /**
+     * @param beforeChangedAt Keyset Cursor (이전 페이지 마지막 항목의 변경 시각, 첫 페이지면 null)
+     * @param beforeId Keyset Cursor (이전 페이지 마지막 항목의 file_change_id)
+     */
+    public List<GithubFileHistoryEntry> findHistory(Long repositoryId, String path, GithubFileHistoryMode mode,
+                                                    LocalDateTime beforeChangedAt, Long beforeId, int limit) {
+        StringBuilder sql = new StringBuilder(SELECT_HISTORY);
+        List<Object> args = new ArrayList<>();
+        args.add(repositoryId);
+
+        switch (mode) {
+            case EXACT -> {
+                Long filePathId = filePathDictionary.find(path);
+                if (filePathId == null) {
+                    return List.of();
+                }
+                sql.append("AND fc.file_path_id = ? ");
+                args.add(filePathId);
+            }
+            case PREFIX, GLOB -> {
+                String likePattern = escapeLike(mode == GithubFileHistoryMode.PREFIX
+                        ? toDirectoryPrefix(path)
+                        : literalPrefix(path)) + "%";
+                String regex = mode == GithubFileHistoryMode.GLOB ? globToRegex(path) : null;
+
+                List<Long> filePathIds = findMatchingPathIds(repositoryId, likePattern, regex);
+                if (filePathIds.isEmpty()) {
+                    return List.of();
+                }
+                if (filePathIds.size() <= githubProperties.getFileHistory().getPrefixMaxPaths()) {
+                    sql.append("AND fc.file_path_id IN (")
+                            .append(String.join(", ", Collections.nCopies(filePathIds.size(), "?")))
+                            .append(") ");
+                    args.addAll(filePathIds);
+                } else {
+                    sql.append("AND fp.path LIKE ? ESCAPE '\\' ");
+                    args.add(likePattern);
+                    if (regex != null) {
+                        sql.append("AND fp.path ~ ? ");
+                        args.add(regex);
+                    }
+                }
+            }
+        }
+
+        if (beforeChangedAt != null && beforeId != null) {
+            sql.append("AND (fc.changed_at, fc.file_change_id) < (?, ?) ");
+            args.add(beforeChangedAt);
+            args.add(beforeId);
+        }
+
+        sql.append("ORDER BY fc.changed_at DESC, fc.file_change_id DESC LIMIT ?");
+        args.add(limit);
+
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> new GithubFileHistoryEntry(
+                rs.getLong("file_change_id"),
+                rs.getString("commit_sha"),
+                rs.getObject("pull_request_number", Integer.class),
+                rs.getString("path"),
+                rs.getString("previous_path"),
+                GithubFileChange.FileChangeType.valueOf(rs.getString("change_type")),
+                rs.getObject("additions", Integer.class),
+                rs.getObject("deletions", Integer.class),
+                rs.getObject("changed_at", LocalDateTime.class)
+        ), args.toArray());
+    }
+
+    /**
+     * 접두사(GLOB은 정규식 포함)에 일치하고 이 Repository가 변경한 적 있는 경로 사전 ID
+     * (prefix-max-paths + 1개까지만 조회, 다른 Repository의 경로는 상한에 포함되지 않음)
+     */
+    private List<Long> findMatchingPathIds(Long repositoryId, String likePattern, String regex) {
+        String sql = "SELECT fp.file_path_id FROM github_file_path fp WHERE fp.path LIKE ? ESCAPE '\\' "
+                + (regex != null ? "AND fp.path ~ ? " : "")
+                + "AND EXISTS (SELECT 1 FROM github_file_change fc "
+                + "WHERE fc.repository_id = ? AND fc.file_path_id = fp.file_path_id) "
+                + "LIMIT ?";
+
+        List<Object> args = new ArrayList<>();
+        args.add(likePattern);
+        if (regex != null) {
+            args.add(regex);
+        }
+        args.add(repositoryId);
+        args.add(githubProperties.getFileHistory().getPrefixMaxPaths() + 1);
+        return jdbcTemplate.queryForList(sql, Long.class, args.toArray());
+    }
+
+    // ==================== Path Patterns ====================
+
+    /**
+     * 디렉터리 접두사 정규화 ("src/main" -> "src/main/")
+     * 빈 값은 공유 경로 사전 전체를 훑게 되므로 거부
+     */
+    private String toDirectoryPrefix(String path) {
+        String prefix = path.startsWith("/") ? path.substring(1) : path;
+        if (prefix.isBlank()) {
+            throw new IllegalArgumentException("PREFIX mode requires a non-empty directory path");
+        }
+        if (prefix.endsWith("/")) {
+            return prefix;
+        }
+        return prefix + "/";
+    }
+
+    /**
+     * 첫 와일드카드 이전까지의 고정 접두사 (인덱스 범위 조회용)
+     * 와일드카드로 시작하는 패턴은 공유 경로 사전 전체를 훑게 되므로 거부
+     */
+    private String literalPrefix(String glob) {
+        int end = 0;
+        while (end < glob.length() && glob.charAt(end) != '*' && glob.charAt(end) != '?') {
+            end++;
+        }
+        if (end == 0) {
+            throw new IllegalArgumentException("GLOB mode requires a literal prefix before the first wildcard: " + glob);
+        }
+        return glob.substring(0, end);
+    }
+
+    /**
+     * Glob -> PostgreSQL 정규식
+     * ** / 는 0개 이상의 디렉터리, ** 는 임의 문자열, * 는 경로 구분자를 제외한 문자열, ? 는 경로 구분자를 제외한 한 글자
+     */
+    private String globToRegex(String glob) {
+        StringBuilder regex = new StringBuilder("^");
+        int i = 0;
+        while (i < glob.length()) {
+            char c = glob.charAt(i);
+            if (glob.startsWith("**/", i)) {
+                regex.append("(.*/)?");
+                i += 3;
+                continue;
+            }
+            if (glob.startsWith("**", i)) {
+                regex.append(".*");
+                i += 2;
+                continue;
+            }
+            switch (c) {
+                case '*' -> regex.append("[^/]*");
+                case '?' -> regex.append("[^/]");
+                default -> {
+                    if ("\\.[]{}()+-^$|".indexOf(c) >= 0) {
+                        regex.append('\\');
+                    }
+                    regex.append(c);
+                }
+            }
+            i++;
+        }
+        return regex.append("$").toString();
+    }
+
+    private String escapeLike(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
@@ -0,0 +1,140 @@
+package com.team.catchup.github.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.PreparedStatement;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 파일 경로 사전 (github_file_path) ID 조회/생성
+ * 경로 -> ID를 프로세스 내 LRU 캐시에 보관해 반복되는 경로는 DB 조회 없이 변환한다.
+ * 캐시는 트랜잭션 커밋 이후에만 채워 롤백된 경로 ID가 남지 않게 한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class GithubFilePathDictionary {
+
+    private static final int MAX_CACHED_PATHS = 100_000;
+    private static final int CHUNK_SIZE = 1000;
+
+    // 엔티티 @SequenceGenerator allocationSize와 동일해야 함
+    private static final int ID_ALLOCATION_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Map<String, Long> cache = Collections.synchronizedMap(
+            new LinkedHashMap<>(1024, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                    return size() > MAX_CACHED_PATHS;
+                }
+            });
+
+    /**
+     * 경로 목록의 ID 조회 (없는 경로는 생성)
+     * @return 경로 -> file_path_id
+     */
+    public Map<String, Long> resolve(Collection<String> paths) {
+        Map<String, Long> resolved = new HashMap<>();
+        Set<String> missing = new LinkedHashSet<>();
+        for (String path : paths) {
+            if (path == null || resolved.containsKey(path)) continue;
+            Long cached = cache.get(path);
+            if (cached != null) {
+                resolved.put(path, cached);
+            } else {
+                missing.add(path);
+            }
+        }
+        if (missing.isEmpty()) {
+            return resolved;
+        }
+
+        List<String> missingPaths = List.copyOf(missing);
+        for (int from = 0; from < missingPaths.size(); from += CHUNK_SIZE) {
+            List<String> chunk = missingPaths.subList(from, Math.min(from + CHUNK_SIZE, missingPaths.size()));
+            insertMissing(chunk);
+            resolved.putAll(select(chunk));
+        }
+
+        Map<String, Long> created = new HashMap<>(resolved);
+        created.keySet().retainAll(missing);
+        cacheAfterCommit(created);
+        return resolved;
+    }
+
+    /**
+     * 경로 하나의 ID 조회 (없으면 null, 생성하지 않음)
+     */
+    public Long find(String path) {
+        Long cached = cache.get(path);
+        if (cached != null) {
+            return cached;
+        }
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT file_path_id FROM github_file_path WHERE path = ?", Long.class, path);
+        return ids.isEmpty() ? null : ids.get(0);
+    }
+
+    // ==================== Helpers ====================
+
+    /**
+     * 동시에 같은 경로를 넣는 경우 ON CONFLICT DO NOTHING으로 먼저 들어간 행을 사용
+     */
+    private void insertMissing(List<String> paths) {
+        int blocks = (paths.size() + ID_ALLOCATION_SIZE - 1) / ID_ALLOCATION_SIZE;
+        List<Long> blockStarts = jdbcTemplate.queryForList(
+                "SELECT nextval('github_file_path_seq') FROM generate_series(1, ?)", Long.class, blocks);
+
+        Long[] ids = new Long[paths.size()];
+        for (int i = 0; i < paths.size(); i++) {
+            ids[i] = blockStarts.get(i / ID_ALLOCATION_SIZE) + i % ID_ALLOCATION_SIZE;
+        }
+
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "INSERT INTO github_file_path (file_path_id, path) " +
+                            "SELECT * FROM unnest(?::bigint[], ?::text[]) " +
+                            "ON CONFLICT (path) DO NOTHING");
+            statement.setArray(1, connection.createArrayOf("bigint", ids));
+            statement.setArray(2, connection.createArrayOf("text", paths.toArray()));
+            return statement;
+        });
+    }
+
+    private Map<String, Long> select(List<String> paths) {
+        Map<String, Long> ids = new HashMap<>();
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "SELECT path, file_path_id FROM github_file_path WHERE path = ANY(?)");
+            statement.setArray(1, connection.createArrayOf("text", paths.toArray()));
+            return statement;
+        }, (RowCallbackHandler) rs -> ids.put(rs.getString("path"), rs.getLong("file_path_id")));
+        return ids;
+    }
+
+    private void cacheAfterCommit(Map<String, Long> entries) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.putAll(entries);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.putAll(entries);
+            }
+        });
+    }
+}
@@ -4,6 +4,7 @@ import com.team.catchup.github.entity.GithubIssue;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,4 +16,6 @@ public interface GithubIssueRepository extends JpaRepository<GithubIssue, Long>
     List<GithubIssue> findByRepository_RepositoryId(Long repositoryId);
 
     List<GithubIssue> findAllByIssueIdIn(List<Long> issueIds);
+
+    List<GithubIssue> findByRepository_RepositoryIdAndUpdatedAtGreaterThanEqual(Long repositoryId, LocalDateTime updatedAt);
 }
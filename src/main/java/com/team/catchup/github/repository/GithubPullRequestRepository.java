@@ -4,6 +4,7 @@ import com.team.catchup.github.entity.GithubPullRequest;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,4 +16,6 @@ public interface GithubPullRequestRepository extends JpaRepository<GithubPullReq
     List<GithubPullRequest> findByRepository_RepositoryId(Long repositoryId);
 
     List<GithubPullRequest> findAllByPullRequestIdIn(List<Long> pullRequestIds);
+
+    List<GithubPullRequest> findByRepository_RepositoryIdAndUpdatedAtGreaterThanEqual(Long repositoryId, LocalDateTime updatedAt);
 }
@@ -0,0 +1,54 @@
+package com.team.catchup.github.repository;
+
+import com.team.catchup.github.dto.GithubSyncStep;
+import com.team.catchup.github.entity.GithubSyncCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface GithubSyncCheckpointRepository extends JpaRepository<GithubSyncCheckpoint, Long> {
+
+    List<GithubSyncCheckpoint> findByRepository_RepositoryIdAndBranch(Long repositoryId, String branch);
+
+    Optional<GithubSyncCheckpoint> findByRepository_RepositoryIdAndBranchAndStep(Long repositoryId, String branch,
+                                                                                   GithubSyncStep step);
+
+    @Modifying
+    @Query("DELETE FROM GithubSyncCheckpoint c WHERE c.repository.repositoryId = :repositoryId AND c.branch = :branch")
+    int deleteByRepositoryIdAndBranch(@Param("repositoryId") Long repositoryId, @Param("branch") String branch);
+
+    // 위치는 컬럼 단위로 갱신 (PR 상세 단계는 PR / Issue Comment 처리가 동시에 진행됨)
+    @Modifying
+    @Query("UPDATE GithubSyncCheckpoint c SET c.lastPage = :lastPage, c.updatedAt = :now " +
+            "WHERE c.repository.repositoryId = :repositoryId AND c.branch = :branch AND c.step = :step")
+    int updateLastPage(@Param("repositoryId") Long repositoryId, @Param("branch") String branch,
+                       @Param("step") GithubSyncStep step, @Param("lastPage") int lastPage,
+                       @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE GithubSyncCheckpoint c SET c.lastPullRequestNumber = :number, c.updatedAt = :now " +
+            "WHERE c.repository.repositoryId = :repositoryId AND c.branch = :branch AND c.step = :step")
+    int updateLastPullRequestNumber(@Param("repositoryId") Long repositoryId, @Param("branch") String branch,
+                                    @Param("step") GithubSyncStep step, @Param("number") int number,
+                                    @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE GithubSyncCheckpoint c SET c.lastIssueNumber = :number, c.updatedAt = :now " +
+            "WHERE c.repository.repositoryId = :repositoryId AND c.branch = :branch AND c.step = :step")
+    int updateLastIssueNumber(@Param("repositoryId") Long repositoryId, @Param("branch") String branch,
+                              @Param("step") GithubSyncStep step, @Param("number") int number,
+                              @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE GithubSyncCheckpoint c SET c.completed = true, c.updatedAt = :now " +
+            "WHERE c.repository.repositoryId = :repositoryId AND c.branch = :branch AND c.step = :step")
+    int markCompleted(@Param("repositoryId") Long repositoryId, @Param("branch") String branch,
+                      @Param("step") GithubSyncStep step, @Param("now") LocalDateTime now);
+}
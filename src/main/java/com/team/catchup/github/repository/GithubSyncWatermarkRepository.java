@@ -0,0 +1,13 @@
+package com.team.catchup.github.repository;
+
+import com.team.catchup.github.entity.GithubSyncWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface GithubSyncWatermarkRepository extends JpaRepository<GithubSyncWatermark, Long> {
+
+    List<GithubSyncWatermark> findByRepository_RepositoryIdAndBranch(Long repositoryId, String branch);
+}
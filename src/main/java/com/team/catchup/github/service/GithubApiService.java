@@ -1,26 +1,48 @@
 package com.team.catchup.github.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.team.catchup.github.client.GithubApiException;
+import com.team.catchup.github.config.GithubProperties;
+import com.team.catchup.github.dto.GithubPullRequestDetails;
+import com.team.catchup.github.dto.GithubPullRequestPart;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.time.Duration;
+import java.net.URI;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @Service
 @Slf4j
 public class GithubApiService {
 
     private final WebClient githubWebClient;
+    private final GithubProperties.SyncProperties syncProperties;
 
-    private static final int PER_PAGE = 100;
-    private static final Duration RATE_LIMIT_DELAY = Duration.ofMillis(1000); // GitHub API rate limit: 5000 requests/hour
+    // 요청 간격은 GithubRateLimitGovernor가 응답 헤더 기반으로 조절
+    static final int PER_PAGE = 100;
+    private static final IntConsumer NO_PAGE_LISTENER = count -> {
+    };
+    private static final Pattern LINK_PATTERN = Pattern.compile("<([^>]+)>;\\s*rel=\"([^\"]+)\"");
 
-    public GithubApiService(@Qualifier("githubWebClient") WebClient githubWebClient) {
+    public GithubApiService(@Qualifier("githubWebClient") WebClient githubWebClient,
+                            GithubProperties githubProperties) {
         this.githubWebClient = githubWebClient;
+        this.syncProperties = githubProperties.getSync();
     }
 
     /**
@@ -39,15 +61,33 @@ public class GithubApiService {
 
     /**
      * Commits 조회 (페이지네이션)
-     * since 파라미터는 이후 증분 동기화에 사용할 예정 -> 특정 시점 이후의 커밋만 가져오기
+     * since 파라미터: 증분 동기화 시 특정 시점 이후의 커밋만 가져오기
      */
     public Flux<JsonNode> getCommits(String owner, String repo, String branch, String since) {
-        log.info("[GITHUB][API] Fetching commits for {}/{} on branch: {}", owner, repo, branch);
+        return getCommits(owner, repo, branch, since, 1);
+    }
+
+    /**
+     * Commits 조회 (startPage부터 페이지네이션, Checkpoint 재시작용)
+     */
+    public Flux<JsonNode> getCommits(String owner, String repo, String branch, String since, int startPage) {
+        return getCommits(owner, repo, branch, since, startPage, NO_PAGE_LISTENER);
+    }
+
+    /**
+     * Commits 조회 (startPage부터 페이지네이션)
+     * @param onPageFetched 목록 페이지를 받을 때마다 해당 페이지의 Commit 수를 전달 (하위 요청 여부와 무관)
+     */
+    public Flux<JsonNode> getCommits(String owner, String repo, String branch, String since, int startPage,
+                                     IntConsumer onPageFetched) {
+        log.info("[GITHUB][API] Fetching commits for {}/{} on branch: {} from page {}", owner, repo, branch, startPage);
 
         return fetchPaginatedCommits(
                 "/repos/" + owner + "/" + repo + "/commits",
                 branch,
-                since
+                since,
+                startPage,
+                onPageFetched
         );
     }
 
@@ -61,8 +101,20 @@ public class GithubApiService {
         return githubWebClient.get()
                 .uri(url)
                 .retrieve()
-                .bodyToMono(JsonNode.class)
-                .delayElement(RATE_LIMIT_DELAY);
+                .bodyToMono(JsonNode.class);
+    }
+
+    /**
+     * 두 Commit 비교 (base...head 사이의 Commit / 파일 변경, 이름 변경 정보 포함)
+     */
+    public Mono<JsonNode> compareCommits(String owner, String repo, String base, String head) {
+        String url = String.format("/repos/%s/%s/compare/%s...%s", owner, repo, base, head);
+        log.info("[GITHUB][API] Comparing {}/{}: {}...{}", owner, repo, base, head);
+
+        return githubWebClient.get()
+                .uri(url)
+                .retrieve()
+                .bodyToMono(JsonNode.class);
     }
 
     /**
@@ -72,12 +124,16 @@ public class GithubApiService {
         log.info("[GITHUB][API] Fetching pull requests for {}/{} with base: {}, state: {}",
                 owner, repo, base, state);
 
-        return fetchPaginatedPullRequests(
-                "/repos/" + owner + "/" + repo + "/pulls",
-                base,
-                state,
-                since
-        );
+        String baseUri = "/repos/" + owner + "/" + repo + "/pulls";
+        if (since == null || since.isEmpty()) {
+            return fetchPaginatedPullRequests(baseUri, base, state, false);
+        }
+
+        // pulls API는 since 파라미터를 지원하지 않음
+        // -> updated 내림차순으로 조회하고 since 이전에 갱신된 PR이 나오면 페이지네이션 중단
+        Instant sinceInstant = Instant.parse(since);
+        return fetchPaginatedPullRequests(baseUri, base, state, true)
+                .takeWhile(prNode -> !Instant.parse(prNode.get("updated_at").asText()).isBefore(sinceInstant));
     }
 
     /**
@@ -133,12 +189,33 @@ public class GithubApiService {
         return fetchPaginatedData(url);
     }
 
+    /**
+     * PR 하나의 Review / Review Comment / File 목록을 동시에 조회
+     * @param parts 조회할 항목 (선택하지 않은 항목은 빈 목록)
+     */
+    public Mono<GithubPullRequestDetails> getPullRequestDetails(String owner, String repo, int number,
+                                                                Set<GithubPullRequestPart> parts) {
+        Mono<List<JsonNode>> reviews = parts.contains(GithubPullRequestPart.REVIEWS)
+                ? getPullRequestReviews(owner, repo, number).collectList()
+                : Mono.just(List.of());
+        Mono<List<JsonNode>> reviewComments = parts.contains(GithubPullRequestPart.REVIEW_COMMENTS)
+                ? getPullRequestReviewComments(owner, repo, number).collectList()
+                : Mono.just(List.of());
+        Mono<List<JsonNode>> files = parts.contains(GithubPullRequestPart.FILES)
+                ? getPullRequestFiles(owner, repo, number).collectList()
+                : Mono.just(List.of());
+
+        return Mono.zip(reviews, reviewComments, files)
+                .map(tuple -> new GithubPullRequestDetails(number, tuple.getT1(), tuple.getT2(), tuple.getT3()));
+    }
+
     // ==================== Private Pagination Methods ====================
 
     /**
      * Commits용 페이지네이션 (sha 파라미터)
      */
-    private Flux<JsonNode> fetchPaginatedCommits(String baseUri, String branch, String since) {
+    private Flux<JsonNode> fetchPaginatedCommits(String baseUri, String branch, String since, int startPage,
+                                                 IntConsumer onPageFetched) {
         return executePagination(uriBuilder -> {
             String uri = uriBuilder
                     .append(baseUri)
@@ -149,15 +226,18 @@ public class GithubApiService {
             if (since != null && !since.isEmpty()) {
                 uri += "&since=" + since;
             }
+            if (startPage > 1) {
+                uri += "&page=" + startPage;
+            }
 
             return uri;
-        });
+        }, true, onPageFetched);
     }
 
     /**
-     * Pull Requests용 페이지네이션 (base, state 파라미터)
+     * Pull Requests용 페이지네이션 (base, state, sort 파라미터)
      */
-    private Flux<JsonNode> fetchPaginatedPullRequests(String baseUri, String base, String state, String since) {
+    private Flux<JsonNode> fetchPaginatedPullRequests(String baseUri, String base, String state, boolean sortByUpdated) {
         return executePagination(uriBuilder -> {
             String uri = uriBuilder
                     .append(baseUri)
@@ -166,12 +246,12 @@ public class GithubApiService {
                     .append("&per_page=").append(PER_PAGE)
                     .toString();
 
-            if (since != null && !since.isEmpty()) {
-                uri += "&since=" + since;
+            if (sortByUpdated) {
+                uri += "&sort=updated&direction=desc";
             }
 
             return uri;
-        });
+        }, !sortByUpdated); // updated 내림차순 조회는 takeWhile로 중단되므로 순차 조회
     }
 
     /**
@@ -190,7 +270,7 @@ public class GithubApiService {
             }
 
             return uri;
-        });
+        }, true);
     }
 
     /**
@@ -201,56 +281,122 @@ public class GithubApiService {
                 uriBuilder
                         .append(baseUri)
                         .append("?per_page=").append(PER_PAGE)
-                        .toString()
+                        .toString(),
+                true
         );
     }
 
-    private Flux<JsonNode> executePagination(UriBuilderFunction uriBuilderFunction) {
-        return Flux.range(1, 1000)
-                .concatMap(page -> {
-                    StringBuilder uriBuilder = new StringBuilder();
-                    String baseUri = uriBuilderFunction.buildUri(uriBuilder);
-                    String uri = baseUri + "&page=" + page;
-
-                    return fetchPage(uri);
-                })
-                .onErrorResume(this::handlePaginationError);
+    /**
+     * Link 헤더 기반 페이지네이션
+     * 첫 페이지 응답의 rel="last"로 전체 페이지 수를 알 수 있으면 나머지 페이지를 병렬로 미리 조회하고
+     * (순서는 유지), 알 수 없거나 순차 조회가 필요한 경우 rel="next"를 따라간다.
+     */
+    private Flux<JsonNode> executePagination(UriBuilderFunction uriBuilderFunction, boolean prefetchPages) {
+        return executePagination(uriBuilderFunction, prefetchPages, NO_PAGE_LISTENER);
     }
 
-    private Flux<JsonNode> fetchPage(String uri) {
-        return githubWebClient.get()
-                .uri(uri)
-                .retrieve()
-                .bodyToFlux(JsonNode.class)
-                .collectList()
-                .flatMapMany(items -> {
-                    if (items.isEmpty()) {
-                        log.info("[GITHUB][API] No more items, stopping pagination");
-                        return Flux.error(new StopPaginationException());
+    /**
+     * @param onPageFetched 페이지 응답을 받은 시점에 항목 수를 전달 (하위 처리 대기 중인 항목 집계용)
+     */
+    private Flux<JsonNode> executePagination(UriBuilderFunction uriBuilderFunction, boolean prefetchPages,
+                                             IntConsumer onPageFetched) {
+        String firstUri = uriBuilderFunction.buildUri(new StringBuilder());
+        Function<URI, Mono<GithubPage>> fetchCountedPage = uri -> fetchPage(uri)
+                .doOnNext(page -> onPageFetched.accept(page.items().size()));
+
+        // 첫 페이지는 baseUrl 기준 상대 경로, 이후 페이지는 Link 헤더의 절대 URI 사용
+        return exchangePage(githubWebClient.get().uri(firstUri), firstUri)
+                .doOnNext(page -> onPageFetched.accept(page.items().size()))
+                .flatMapMany(first -> {
+                    Flux<JsonNode> firstItems = Flux.fromIterable(first.items());
+
+                    if (prefetchPages && first.lastUri() != null && first.nextUri() != null) {
+                        // 시작 페이지가 1이 아닐 수 있으므로 (Checkpoint 재시작) next 기준으로 다음 페이지 계산
+                        int nextPage = pageNumber(first.nextUri());
+                        int lastPage = pageNumber(first.lastUri());
+                        if (lastPage >= nextPage) {
+                            log.info("[GITHUB][API] Prefetching pages {}..{} for {}", nextPage, lastPage, firstUri);
+                            return firstItems.concatWith(Flux.range(nextPage, lastPage - nextPage + 1)
+                                    .flatMapSequential(
+                                            page -> fetchCountedPage.apply(withPage(first.lastUri(), page)),
+                                            syncProperties.getPageConcurrency())
+                                    .concatMapIterable(GithubPage::items));
+                        }
                     }
-                    log.info("[GITHUB][API] Fetched {} items", items.size());
-                    return Mono.delay(RATE_LIMIT_DELAY)
-                            .thenMany(Flux.fromIterable(items));
+
+                    return firstItems.concatWith(Mono.justOrEmpty(first.nextUri())
+                            .flatMap(fetchCountedPage)
+                            .expand(page -> Mono.justOrEmpty(page.nextUri()).flatMap(fetchCountedPage))
+                            .concatMapIterable(GithubPage::items));
                 });
     }
 
-    private Flux<JsonNode> handlePaginationError(Throwable e) {
-        if (e instanceof StopPaginationException) {
-            log.info("[GITHUB][API] Pagination completed");
-            return Flux.empty();
+    private Mono<GithubPage> fetchPage(URI uri) {
+        return exchangePage(githubWebClient.get().uri(uri), uri.toString());
+    }
+
+    private Mono<GithubPage> exchangePage(WebClient.RequestHeadersSpec<?> request, String uri) {
+        return request
+                .exchangeToMono(response -> {
+                    if (!response.statusCode().is2xxSuccessful()) {
+                        return response.bodyToMono(String.class)
+                                .defaultIfEmpty("")
+                                .flatMap(body -> Mono.<GithubPage>error(
+                                        new GithubApiException(response.statusCode().value(), uri, body)));
+                    }
+
+                    Map<String, URI> links = parseLinkHeader(response.headers().asHttpHeaders().getFirst(HttpHeaders.LINK));
+                    return response.bodyToMono(JsonNode.class)
+                            .map(body -> {
+                                List<JsonNode> items = new ArrayList<>();
+                                body.forEach(items::add);
+                                log.info("[GITHUB][API] Fetched {} items", items.size());
+                                return new GithubPage(items, links.get("next"), links.get("last"));
+                            })
+                            .defaultIfEmpty(new GithubPage(List.of(), null, null));
+                })
+                .doOnError(e -> log.error("[GITHUB][API] Error during pagination: {}", uri, e));
+    }
+
+    /**
+     * Link: <https://api.github.com/...&page=2>; rel="next", <...&page=5>; rel="last"
+     */
+    private Map<String, URI> parseLinkHeader(String linkHeader) {
+        Map<String, URI> links = new HashMap<>();
+        if (linkHeader == null || linkHeader.isBlank()) {
+            return links;
         }
-        log.error("[GITHUB][API] Error during pagination", e);
-        return Flux.empty();
+
+        Matcher matcher = LINK_PATTERN.matcher(linkHeader);
+        while (matcher.find()) {
+            links.put(matcher.group(2), URI.create(matcher.group(1)));
+        }
+        return links;
+    }
+
+    private int pageNumber(URI uri) {
+        String page = UriComponentsBuilder.fromUri(uri).build().getQueryParams().getFirst("page");
+        try {
+            return page != null ? Integer.parseInt(page) : 1;
+        } catch (NumberFormatException e) {
+            return 1;
+        }
+    }
+
+    private URI withPage(URI template, int page) {
+        return UriComponentsBuilder.fromUri(template)
+                .replaceQueryParam("page", page)
+                .build(true)
+                .toUri();
     }
 
-    // ==================== Functional Interface & Exception ====================
+    // ==================== Functional Interface & Page ====================
 
     @FunctionalInterface
     private interface UriBuilderFunction {
         String buildUri(StringBuilder builder);
     }
 
-    // 추후 ErrorCode으로 이동
-    private static class StopPaginationException extends RuntimeException {
+    private record GithubPage(List<JsonNode> items, URI nextUri, URI lastUri) {
     }
-}
\ No newline at end of file
+}
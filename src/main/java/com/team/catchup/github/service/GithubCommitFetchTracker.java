@@ -0,0 +1,85 @@
+package com.team.catchup.github.service;
+
+import com.team.catchup.github.dto.response.CommitFetchStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Repository별 Commit 상세 조회 진행 상황 집계
+ * waiting: 목록 페이지는 받았으나 상세 조회를 시작하지 않은 Commit (페이지 선조회 / 동시성 제한으로 쌓인 수)
+ * inFlight: 상세 조회 요청 진행 중
+ * completed / failed: 상세 조회 완료 / 실패
+ */
+@Component
+@Slf4j
+public class GithubCommitFetchTracker {
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public Counter start(String repositoryName) {
+        Counter counter = new Counter(repositoryName);
+        counters.put(repositoryName, counter);
+        return counter;
+    }
+
+    public CommitFetchStatus getStatus(String repositoryName) {
+        Counter counter = counters.get(repositoryName);
+        return counter != null ? counter.snapshot() : CommitFetchStatus.idle(repositoryName);
+    }
+
+    public static class Counter {
+
+        private final String repositoryName;
+        private final AtomicInteger listed = new AtomicInteger();
+        private final AtomicInteger started = new AtomicInteger();
+        private final AtomicInteger completed = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private volatile boolean active = true;
+
+        private Counter(String repositoryName) {
+            this.repositoryName = repositoryName;
+        }
+
+        /**
+         * 목록 페이지 수신 시 호출 (페이지의 Commit 수만큼 증가)
+         */
+        public void listed(int count) {
+            listed.addAndGet(count);
+        }
+
+        public void started() {
+            started.incrementAndGet();
+        }
+
+        public void completed() {
+            completed.incrementAndGet();
+        }
+
+        public void failed() {
+            failed.incrementAndGet();
+        }
+
+        public void finish() {
+            active = false;
+            log.info("[GITHUB][COMMIT FETCH] {} finished - listed: {}, completed: {}, failed: {}",
+                    repositoryName, listed.get(), completed.get(), failed.get());
+        }
+
+        public CommitFetchStatus snapshot() {
+            int startedCount = started.get();
+            int doneCount = completed.get() + failed.get();
+            return new CommitFetchStatus(
+                    repositoryName,
+                    Math.max(listed.get() - startedCount, 0),
+                    Math.max(startedCount - doneCount, 0),
+                    completed.get(),
+                    failed.get(),
+                    active
+            );
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.team.catchup.github.service;
+
+import com.team.catchup.github.config.GithubProperties;
+import com.team.catchup.github.dto.GithubFileHistoryMode;
+import com.team.catchup.github.dto.response.GithubFileHistoryEntry;
+import com.team.catchup.github.dto.response.GithubFileHistoryPage;
+import com.team.catchup.github.entity.GithubRepository;
+import com.team.catchup.github.repository.GithubFileHistoryRepository;
+import com.team.catchup.github.repository.GithubRepositoryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 파일 / 디렉터리 변경 이력 조회
+ * 경로를 변경한 Commit과 PR을 변경 시각 최신순으로 반환하며, 다음 페이지는 Keyset Cursor로 조회한다.
+ */
+@Service
+@Slf4j
+public class GithubFileHistoryService {
+
+    private static final String CURSOR_SEPARATOR = "|";
+
+    private final GithubRepositoryRepository repositoryRepository;
+    private final GithubFileHistoryRepository fileHistoryRepository;
+    private final GithubProperties.FileHistoryProperties properties;
+
+    public GithubFileHistoryService(GithubRepositoryRepository repositoryRepository,
+                                    GithubFileHistoryRepository fileHistoryRepository,
+                                    GithubProperties githubProperties) {
+        this.repositoryRepository = repositoryRepository;
+        this.fileHistoryRepository = fileHistoryRepository;
+        this.properties = githubProperties.getFileHistory();
+    }
+
+    /**
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지면 null)
+     * @param size 페이지 크기 (null이면 기본값, 최대 maxPageSize)
+     */
+    @Transactional(readOnly = true)
+    public GithubFileHistoryPage getHistory(String owner, String repo, String path, GithubFileHistoryMode mode,
+                                            String cursor, Integer size) {
+        GithubRepository repository = repositoryRepository.findByOwnerAndName(owner, repo)
+                .orElseThrow(() -> new IllegalArgumentException("Repository not synced: " + owner + "/" + repo));
+
+        int pageSize = size == null
+                ? properties.getDefaultPageSize()
+                : Math.min(Math.max(size, 1), properties.getMaxPageSize());
+
+        CursorPosition position = cursor != null && !cursor.isBlank()
+                ? decodeCursor(cursor)
+                : new CursorPosition(null, null);
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<GithubFileHistoryEntry> entries = fileHistoryRepository.findHistory(
+                repository.getRepositoryId(), path, mode, position.changedAt(), position.fileChangeId(), pageSize + 1);
+
+        String nextCursor = null;
+        if (entries.size() > pageSize) {
+            entries = entries.subList(0, pageSize);
+            GithubFileHistoryEntry last = entries.get(pageSize - 1);
+            nextCursor = encodeCursor(last.changedAt(), last.fileChangeId());
+        }
+
+        log.debug("[GITHUB][FILE HISTORY] {} {} in {}/{} -> {} entries", mode, path, owner, repo, entries.size());
+        return new GithubFileHistoryPage(List.copyOf(entries), nextCursor);
+    }
+
+    // ==================== Cursor ====================
+
+    private String encodeCursor(LocalDateTime changedAt, Long fileChangeId) {
+        String position = changedAt + CURSOR_SEPARATOR + fileChangeId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private CursorPosition decodeCursor(String cursor) {
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = position.lastIndexOf(CURSOR_SEPARATOR);
+            return new CursorPosition(
+                    LocalDateTime.parse(position.substring(0, separator)),
+                    Long.parseLong(position.substring(separator + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+
+    private record CursorPosition(LocalDateTime changedAt, Long fileChangeId) {
+    }
+}
@@ -0,0 +1,291 @@
+package com.team.catchup.github.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.team.catchup.github.client.GithubApiException;
+import com.team.catchup.github.config.GithubProperties;
+import com.team.catchup.github.dto.GithubPullRequestDetails;
+import com.team.catchup.github.dto.GithubPullRequestPart;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * GitHub GraphQL API 기반 PR 상세 조회
+ * 여러 PR을 alias(pr{number})로 묶어 쿼리 하나로 Review / Review Comment / File을 조회하고,
+ * 결과를 REST API 응답 형태로 변환해 기존 Mapper에서 그대로 사용할 수 있게 한다.
+ * 조회 개수 제한을 넘는 PR(hasNextPage)은 해당 항목만 REST API로 다시 조회한다.
+ */
+@Service
+@Slf4j
+public class GithubGraphQlService {
+
+    private static final JsonNodeFactory NODES = JsonNodeFactory.instance;
+
+    private final WebClient githubWebClient;
+    private final GithubApiService githubApiService;
+    private final GithubProperties.GraphQlProperties properties;
+
+    public GithubGraphQlService(@Qualifier("githubWebClient") WebClient githubWebClient,
+                                GithubApiService githubApiService,
+                                GithubProperties githubProperties) {
+        this.githubWebClient = githubWebClient;
+        this.githubApiService = githubApiService;
+        this.properties = githubProperties.getGraphql();
+    }
+
+    /**
+     * PR 목록의 상세 정보를 batchSize 단위 쿼리로 조회
+     * @param parts 조회할 항목 (선택하지 않은 항목은 빈 목록)
+     */
+    public Flux<GithubPullRequestDetails> getPullRequestDetails(String owner, String repo,
+                                                                Collection<Integer> prNumbers,
+                                                                Set<GithubPullRequestPart> parts) {
+        if (prNumbers.isEmpty() || parts.isEmpty()) {
+            return Flux.empty();
+        }
+
+        log.info("[GITHUB][GRAPHQL] Fetching {} for {} PRs of {}/{} (batch size: {})",
+                parts, prNumbers.size(), owner, repo, properties.getBatchSize());
+
+        return Flux.fromIterable(prNumbers)
+                .buffer(properties.getBatchSize())
+                .concatMap(batch -> fetchBatch(owner, repo, batch, parts));
+    }
+
+    private Flux<GithubPullRequestDetails> fetchBatch(String owner, String repo, List<Integer> prNumbers,
+                                                      Set<GithubPullRequestPart> parts) {
+        ObjectNode variables = NODES.objectNode()
+                .put("owner", owner)
+                .put("name", repo);
+        ObjectNode body = NODES.objectNode()
+                .put("query", buildQuery(prNumbers, parts));
+        body.set("variables", variables);
+
+        return githubWebClient.post()
+                .uri(properties.getPath())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .exchangeToMono(response -> {
+                    if (!response.statusCode().is2xxSuccessful()) {
+                        return response.bodyToMono(String.class)
+                                .defaultIfEmpty("")
+                                .flatMap(error -> Mono.<JsonNode>error(new GithubApiException(
+                                        response.statusCode().value(), properties.getPath(), error)));
+                    }
+                    return response.bodyToMono(JsonNode.class);
+                })
+                .flatMapMany(response -> {
+                    JsonNode errors = response.get("errors");
+                    if (errors != null && errors.isArray() && !errors.isEmpty()) {
+                        log.warn("[GITHUB][GRAPHQL] Query returned errors for {}/{}: {}", owner, repo, errors);
+                    }
+
+                    JsonNode repositoryNode = response.path("data").path("repository");
+                    if (repositoryNode.isMissingNode() || repositoryNode.isNull()) {
+                        return Flux.error(new GithubApiException(200, properties.getPath(),
+                                "No repository data in GraphQL response: " + errors));
+                    }
+
+                    return Flux.fromIterable(prNumbers)
+                            .map(number -> repositoryNode.path(alias(number)))
+                            .filter(prNode -> !prNode.isMissingNode() && !prNode.isNull())
+                            .concatMap(prNode -> toDetails(owner, repo, prNode, parts));
+                })
+                // Batch 단위로 모아서 내보냄 (실패 시 일부만 내보낸 뒤 REST로 다시 조회해 중복되지 않도록)
+                .collectList()
+                .doOnSuccess(details ->
+                        log.info("[GITHUB][GRAPHQL] Fetched batch of {} PRs for {}/{}", prNumbers.size(), owner, repo)
+                )
+                // 실패한 Batch는 건너뛰지 않고 PR별 REST 조회로 대체 (REST도 실패하면 오류 전파 -> Checkpoint가 넘어가지 않음)
+                .onErrorResume(e -> {
+                    log.warn("[GITHUB][GRAPHQL] Failed to fetch batch {} for {}/{}, falling back to REST",
+                            prNumbers, owner, repo, e);
+                    return Flux.fromIterable(prNumbers)
+                            .concatMap(number -> githubApiService.getPullRequestDetails(owner, repo, number, parts))
+                            .collectList();
+                })
+                .flatMapMany(Flux::fromIterable);
+    }
+
+    // ==================== Query ====================
+
+    private String buildQuery(List<Integer> prNumbers, Set<GithubPullRequestPart> parts) {
+        StringBuilder query = new StringBuilder("query($owner: String!, $name: String!) {\n")
+                .append("  repository(owner: $owner, name: $name) {\n");
+        for (Integer number : prNumbers) {
+            query.append("    ").append(alias(number))
+                    .append(": pullRequest(number: ").append(number).append(") { ...PullRequestParts }\n");
+        }
+        query.append("  }\n}\n");
+
+        query.append("fragment PullRequestParts on PullRequest {\n  number\n");
+        boolean reviews = parts.contains(GithubPullRequestPart.REVIEWS);
+        boolean reviewComments = parts.contains(GithubPullRequestPart.REVIEW_COMMENTS);
+
+        // Review Comment는 Review 하위에 속하므로 둘 중 하나라도 필요하면 reviews 조회
+        if (reviews || reviewComments) {
+            query.append("  reviews(first: ").append(properties.getReviewsPerPullRequest()).append(") {\n")
+                    .append("    pageInfo { hasNextPage }\n")
+                    .append("    nodes {\n");
+            if (reviews) {
+                query.append("      databaseId state submittedAt url author { login }\n");
+            }
+            if (reviewComments) {
+                query.append("      comments(first: ").append(properties.getCommentsPerReview()).append(") {\n")
+                        .append("        pageInfo { hasNextPage }\n")
+                        .append("        nodes { databaseId createdAt updatedAt url author { login } commit { oid } }\n")
+                        .append("      }\n");
+            }
+            query.append("    }\n  }\n");
+        }
+        if (parts.contains(GithubPullRequestPart.FILES)) {
+            query.append("  files(first: ").append(properties.getFilesPerPullRequest()).append(") {\n")
+                    .append("    pageInfo { hasNextPage }\n")
+                    .append("    nodes { path changeType additions deletions }\n")
+                    .append("  }\n");
+        }
+        return query.append("}\n").toString();
+    }
+
+    private String alias(int prNumber) {
+        return "pr" + prNumber;
+    }
+
+    // ==================== Response -> REST 형태 변환 ====================
+
+    private Mono<GithubPullRequestDetails> toDetails(String owner, String repo, JsonNode prNode,
+                                                     Set<GithubPullRequestPart> parts) {
+        int number = prNode.get("number").asInt();
+        JsonNode reviewsNode = prNode.path("reviews");
+        boolean reviewsTruncated = hasNextPage(reviewsNode);
+
+        Mono<List<JsonNode>> reviews = Mono.just(List.of());
+        if (parts.contains(GithubPullRequestPart.REVIEWS)) {
+            reviews = reviewsTruncated
+                    ? restFallback(githubApiService.getPullRequestReviews(owner, repo, number), "reviews", number)
+                    : Mono.just(convertReviews(reviewsNode));
+        }
+
+        Mono<List<JsonNode>> reviewComments = Mono.just(List.of());
+        if (parts.contains(GithubPullRequestPart.REVIEW_COMMENTS)) {
+            boolean commentsTruncated = reviewsTruncated;
+            for (JsonNode reviewNode : reviewsNode.path("nodes")) {
+                commentsTruncated |= hasNextPage(reviewNode.path("comments"));
+            }
+            reviewComments = commentsTruncated
+                    ? restFallback(githubApiService.getPullRequestReviewComments(owner, repo, number), "review comments", number)
+                    : Mono.just(convertReviewComments(reviewsNode));
+        }
+
+        Mono<List<JsonNode>> files = Mono.just(List.of());
+        if (parts.contains(GithubPullRequestPart.FILES)) {
+            JsonNode filesNode = prNode.path("files");
+            // GraphQL은 이전 경로를 제공하지 않으므로 이름이 바뀐 파일이 있으면 REST로 조회 (previous_filename 유지)
+            if (hasNextPage(filesNode)) {
+                files = restFallback(githubApiService.getPullRequestFiles(owner, repo, number), "files", number);
+            } else if (hasRenamedFile(filesNode)) {
+                log.info("[GITHUB][GRAPHQL] PR #{} has renamed files, fetching files over REST", number);
+                files = githubApiService.getPullRequestFiles(owner, repo, number).collectList();
+            } else {
+                files = Mono.just(convertFiles(filesNode));
+            }
+        }
+
+        return Mono.zip(reviews, reviewComments, files)
+                .map(tuple -> new GithubPullRequestDetails(number, tuple.getT1(), tuple.getT2(), tuple.getT3()));
+    }
+
+    private Mono<List<JsonNode>> restFallback(Flux<JsonNode> restCall, String part, int prNumber) {
+        log.info("[GITHUB][GRAPHQL] PR #{} has more {} than the query limit, falling back to REST", prNumber, part);
+        return restCall.collectList();
+    }
+
+    private List<JsonNode> convertReviews(JsonNode reviewsNode) {
+        List<JsonNode> reviews = new ArrayList<>();
+        for (JsonNode node : reviewsNode.path("nodes")) {
+            ObjectNode review = NODES.objectNode();
+            review.put("id", node.get("databaseId").asLong());
+            review.set("user", user(node));
+            review.put("state", node.get("state").asText());
+            review.set("submitted_at", node.path("submittedAt").isMissingNode() ? NODES.nullNode() : node.get("submittedAt"));
+            review.put("html_url", node.get("url").asText());
+            reviews.add(review);
+        }
+        return reviews;
+    }
+
+    private List<JsonNode> convertReviewComments(JsonNode reviewsNode) {
+        List<JsonNode> comments = new ArrayList<>();
+        for (JsonNode reviewNode : reviewsNode.path("nodes")) {
+            for (JsonNode node : reviewNode.path("comments").path("nodes")) {
+                ObjectNode comment = NODES.objectNode();
+                comment.put("id", node.get("databaseId").asLong());
+                comment.set("user", user(node));
+                JsonNode commit = node.path("commit");
+                comment.set("commit_id", commit.hasNonNull("oid") ? commit.get("oid") : NODES.nullNode());
+                comment.put("created_at", node.get("createdAt").asText());
+                comment.put("updated_at", node.get("updatedAt").asText());
+                comment.put("html_url", node.get("url").asText());
+                comments.add(comment);
+            }
+        }
+        return comments;
+    }
+
+    private List<JsonNode> convertFiles(JsonNode filesNode) {
+        List<JsonNode> files = new ArrayList<>();
+        for (JsonNode node : filesNode.path("nodes")) {
+            ObjectNode file = NODES.objectNode();
+            file.put("filename", node.get("path").asText());
+            // GraphQL은 이전 경로를 제공하지 않음 (RENAMED가 있는 PR은 REST로 조회하므로 여기서는 항상 null)
+            file.putNull("previous_filename");
+            file.put("status", toRestStatus(node.get("changeType").asText()));
+            file.put("additions", node.get("additions").asInt());
+            file.put("deletions", node.get("deletions").asInt());
+            files.add(file);
+        }
+        return files;
+    }
+
+    /**
+     * PatchStatus(ADDED, DELETED, RENAMED, COPIED, MODIFIED, CHANGED) -> REST status
+     */
+    private String toRestStatus(String changeType) {
+        return switch (changeType) {
+            case "DELETED" -> "removed";
+            case "CHANGED" -> "modified";
+            default -> changeType.toLowerCase();
+        };
+    }
+
+    private ObjectNode user(JsonNode node) {
+        // 탈퇴한 사용자는 author가 null -> REST API와 동일하게 ghost로 표시
+        JsonNode author = node.path("author");
+        String login = author.hasNonNull("login") ? author.get("login").asText() : "ghost";
+        return NODES.objectNode().put("login", login);
+    }
+
+    private boolean hasRenamedFile(JsonNode filesNode) {
+        for (JsonNode node : filesNode.path("nodes")) {
+            if ("RENAMED".equals(node.path("changeType").asText())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean hasNextPage(JsonNode connection) {
+        return connection.path("pageInfo").path("hasNextPage").asBoolean(false);
+    }
+}
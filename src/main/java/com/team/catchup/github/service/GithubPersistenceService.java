@@ -1,5 +1,11 @@
 package com.team.catchup.github.service;
 
+import com.team.catchup.github.dto.GithubSyncMode;
+import com.team.catchup.github.dto.GithubSyncResumePoint;
+import com.team.catchup.github.dto.GithubSyncStep;
+import com.team.catchup.github.dto.GithubSyncWatermarks;
+import com.team.catchup.github.dto.response.PullRequestEnrichmentCount;
+import com.team.catchup.github.dto.response.SyncCount;
 import com.team.catchup.github.entity.*;
 import com.team.catchup.github.repository.*;
 import lombok.RequiredArgsConstructor;
@@ -9,8 +15,11 @@ import org.springframework.transaction.support.TransactionTemplate;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
+import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -21,12 +30,11 @@ public class GithubPersistenceService {
     private final TransactionTemplate transactionTemplate;
 
     private final GithubRepositoryRepository repositoryRepository;
-    private final GithubCommitRepository commitRepository;
     private final GithubPullRequestRepository pullRequestRepository;
     private final GithubIssueRepository issueRepository;
-    private final GithubCommentRepository commentRepository;
-    private final GithubReviewRepository reviewRepository;
-    private final GithubFileChangeRepository fileChangeRepository;
+    private final GithubSyncWatermarkRepository watermarkRepository;
+    private final GithubSyncCheckpointRepository checkpointRepository;
+    private final GithubBulkUpsertRepository bulkUpsertRepository;
 
     // ==================== Repository ====================
 
@@ -53,66 +61,45 @@ public class GithubPersistenceService {
 
     // ==================== Commits ====================
 
-    public Mono<Integer> saveAllCommits(List<GithubCommit> commits) {
+    public Mono<SyncCount> saveAllCommits(List<GithubCommit> commits) {
         return Mono.fromCallable(() ->
                 transactionTemplate.execute(status -> {
-                    if (commits.isEmpty()) return 0;
-
-                    Long repositoryId = commits.get(0).getRepository().getRepositoryId();
-
-                    List<String> shas = commits.stream()
-                            .map(GithubCommit::getSha)
-                            .distinct()
-                            .toList();
-
-                    Set<String> existingShas = commitRepository
-                            .findByRepository_RepositoryIdAndShaIn(repositoryId, shas)
-                            .stream()
-                            .map(GithubCommit::getSha)
-                            .collect(Collectors.toSet());
-
-                    List<GithubCommit> newCommits = commits.stream()
-                            .filter(c -> !existingShas.contains(c.getSha()))
-                            .collect(Collectors.toMap(GithubCommit::getSha, c -> c, (p1, p2) -> p1))
-                            .values().stream().toList();
+                    GithubBulkUpsertRepository.UpsertResult<String> result = bulkUpsertRepository.upsertCommits(commits);
+                    log.info("[GITHUB][PERSISTENCE] Saved {}/{} commits (updated: {})",
+                            result.inserted(), commits.size(), result.updated());
+                    return SyncCount.of(commits.size(), result.inserted(), result.updated());
+                })
+        ).subscribeOn(Schedulers.boundedElastic());
+    }
 
-                    if(!newCommits.isEmpty()) {
-                        commitRepository.saveAll(newCommits);
-                    }
+    /**
+     * Commit Window 저장
+     * Commit과 해당 Commit의 File Change를 하나의 트랜잭션으로 Upsert
+     */
+    public Mono<SyncCount> saveCommitWindow(List<GithubCommit> commits, List<GithubFileChange> fileChanges) {
+        return Mono.fromCallable(() ->
+                transactionTemplate.execute(status -> {
+                    GithubBulkUpsertRepository.UpsertResult<String> commitResult = bulkUpsertRepository.upsertCommits(commits);
+                    GithubBulkUpsertRepository.UpsertResult<Long> fileResult = bulkUpsertRepository.upsertFileChanges(fileChanges);
 
-                    log.info("[GITHUB][PERSISTENCE] Saved {}/{} commits", newCommits.size(), commits.size());
-                    return newCommits.size();
+                    log.info("[GITHUB][PERSISTENCE] Saved commit window - Commits: {}/{} (updated: {}), FileChanges: {}/{} (updated: {})",
+                            commitResult.inserted(), commits.size(), commitResult.updated(),
+                            fileResult.inserted(), fileChanges.size(), fileResult.updated());
+                    return SyncCount.of(commits.size(), commitResult.inserted(), commitResult.updated());
                 })
         ).subscribeOn(Schedulers.boundedElastic());
     }
 
     // ==================== Pull Requests ====================
 
-    public Mono<Integer> saveAllPullRequests(List<GithubPullRequest> pullRequests) {
+    public Mono<SyncCount> saveAllPullRequests(List<GithubPullRequest> pullRequests) {
         return Mono.fromCallable(() ->
                 transactionTemplate.execute(status -> {
-                    if (pullRequests.isEmpty()) return 0;
-
-                    List<Long> prIds = pullRequests.stream()
-                            .map(GithubPullRequest::getPullRequestId)
-                            .distinct()
-                            .collect(Collectors.toList());
-
-                    Set<Long> existingIds = pullRequestRepository.findAllByPullRequestIdIn(prIds).stream()
-                            .map(GithubPullRequest::getPullRequestId)
-                            .collect(Collectors.toSet());
-
-                    List<GithubPullRequest> newPullRequests = pullRequests.stream()
-                            .filter(pr -> !existingIds.contains(pr.getPullRequestId()))
-                            .collect(Collectors.toMap(GithubPullRequest::getPullRequestId, pr -> pr, (p1, p2) -> p1))
-                            .values().stream().toList();
-
-                    if (!newPullRequests.isEmpty()) {
-                        pullRequestRepository.saveAll(newPullRequests);
-                    }
-
-                    log.info("[GITHUB][PERSISTENCE] Saved {}/{} pull requests", newPullRequests.size(), pullRequests.size());
-                    return newPullRequests.size();
+                    // 기존 PR은 upstream에서 변경된 경우 메타데이터 갱신 (증분 동기화 대상 선정에 updatedAt 사용)
+                    GithubBulkUpsertRepository.UpsertResult<Long> result = bulkUpsertRepository.upsertPullRequests(pullRequests);
+                    log.info("[GITHUB][PERSISTENCE] Saved {}/{} pull requests (refreshed: {})",
+                            result.inserted(), pullRequests.size(), result.updated());
+                    return SyncCount.of(pullRequests.size(), result.inserted(), result.updated());
                 })
         ).subscribeOn(Schedulers.boundedElastic());
     }
@@ -128,6 +115,20 @@ public class GithubPersistenceService {
         ).subscribeOn(Schedulers.boundedElastic());
     }
 
+    /**
+     * 특정 시각 이후 갱신된 Pull Request 조회 (증분 동기화용, since가 null이면 전체 조회)
+     */
+    public Mono<List<GithubPullRequest>> findPullRequestsUpdatedSince(Long repositoryId, LocalDateTime since) {
+        if (since == null) {
+            return findAllPullRequests(repositoryId);
+        }
+        return Mono.fromCallable(() ->
+                transactionTemplate.execute(status ->
+                        pullRequestRepository.findByRepository_RepositoryIdAndUpdatedAtGreaterThanEqual(repositoryId, since)
+                )
+        ).subscribeOn(Schedulers.boundedElastic());
+    }
+
     public Mono<GithubPullRequest> findPullRequestByNumber(Long repositoryId, Integer number) {
         return Mono.fromCallable(() ->
                 transactionTemplate.execute(status ->
@@ -138,31 +139,14 @@ public class GithubPersistenceService {
 
     // ==================== Issues ====================
 
-    public Mono<Integer> saveAllIssues(List<GithubIssue> issues) {
+    public Mono<SyncCount> saveAllIssues(List<GithubIssue> issues) {
         return Mono.fromCallable(() ->
                 transactionTemplate.execute(status -> {
-                    if (issues.isEmpty()) return 0;
-
-                    List<Long> issueIds = issues.stream()
-                            .map(GithubIssue::getIssueId)
-                            .distinct()
-                            .collect(Collectors.toList());
-
-                    Set<Long> existingIds = issueRepository.findAllByIssueIdIn(issueIds).stream()
-                            .map(GithubIssue::getIssueId)
-                            .collect(Collectors.toSet());
-
-                    List<GithubIssue> newIssues = issues.stream()
-                            .filter(issue -> !existingIds.contains(issue.getIssueId()))
-                            .collect(Collectors.toMap(GithubIssue::getIssueId, i -> i, (i1, i2) -> i1))
-                            .values().stream().toList();
-
-                    if (!newIssues.isEmpty()) {
-                        issueRepository.saveAll(newIssues);
-                    }
-
-                    log.info("[GITHUB][PERSISTENCE] Saved {}/{} issues", newIssues.size(), issues.size());
-                    return newIssues.size();
+                    // 기존 Issue는 upstream에서 변경된 경우 메타데이터 갱신
+                    GithubBulkUpsertRepository.UpsertResult<Long> result = bulkUpsertRepository.upsertIssues(issues);
+                    log.info("[GITHUB][PERSISTENCE] Saved {}/{} issues (refreshed: {})",
+                            result.inserted(), issues.size(), result.updated());
+                    return SyncCount.of(issues.size(), result.inserted(), result.updated());
                 })
         ).subscribeOn(Schedulers.boundedElastic());
     }
@@ -178,6 +162,20 @@ public class GithubPersistenceService {
         ).subscribeOn(Schedulers.boundedElastic());
     }
 
+    /**
+     * 특정 시각 이후 갱신된 Issue 조회 (증분 동기화용, since가 null이면 전체 조회)
+     */
+    public Mono<List<GithubIssue>> findIssuesUpdatedSince(Long repositoryId, LocalDateTime since) {
+        if (since == null) {
+            return findAllIssues(repositoryId);
+        }
+        return Mono.fromCallable(() ->
+                transactionTemplate.execute(status ->
+                        issueRepository.findByRepository_RepositoryIdAndUpdatedAtGreaterThanEqual(repositoryId, since)
+                )
+        ).subscribeOn(Schedulers.boundedElastic());
+    }
+
     public Mono<GithubIssue> findIssueByNumber(Long repositoryId, Integer number) {
         return Mono.fromCallable(() ->
                 transactionTemplate.execute(status ->
@@ -188,77 +186,203 @@ public class GithubPersistenceService {
 
     // ==================== Comments ====================
 
-    public Mono<Integer> saveAllComments(List<GithubComment> comments) {
+    public Mono<SyncCount> saveAllComments(List<GithubComment> comments) {
         return Mono.fromCallable(() ->
                 transactionTemplate.execute(status -> {
-                    if (comments.isEmpty()) return 0;
-
-                    List<Long> commentIds = comments.stream()
-                            .map(GithubComment::getCommentId)
-                            .distinct()
-                            .collect(Collectors.toList());
+                    GithubBulkUpsertRepository.UpsertResult<Long> result = bulkUpsertRepository.upsertComments(comments);
+                    log.info("[GITHUB][PERSISTENCE] Saved {}/{} comments (updated: {})",
+                            result.inserted(), comments.size(), result.updated());
+                    return SyncCount.of(comments.size(), result.inserted(), result.updated());
+                })
+        ).subscribeOn(Schedulers.boundedElastic());
+    }
 
-                    Set<Long> existingIds = commentRepository.findAllByCommentIdIn(commentIds).stream()
-                            .map(GithubComment::getCommentId)
-                            .collect(Collectors.toSet());
+    // ==================== Reviews ====================
 
-                    List<GithubComment> newComments = comments.stream()
-                            .filter(comment -> !existingIds.contains(comment.getCommentId()))
-                            .collect(Collectors.toMap(GithubComment::getCommentId, c -> c, (c1, c2) -> c1))
-                            .values().stream().toList();
+    public Mono<SyncCount> saveAllReviews(List<GithubReview> reviews) {
+        return Mono.fromCallable(() ->
+                transactionTemplate.execute(status -> {
+                    GithubBulkUpsertRepository.UpsertResult<Long> result = bulkUpsertRepository.upsertReviews(reviews);
+                    log.info("[GITHUB][PERSISTENCE] Saved {}/{} reviews (updated: {})",
+                            result.inserted(), reviews.size(), result.updated());
+                    return SyncCount.of(reviews.size(), result.inserted(), result.updated());
+                })
+        ).subscribeOn(Schedulers.boundedElastic());
+    }
 
-                    if (!newComments.isEmpty()) {
-                        commentRepository.saveAll(newComments);
-                    }
+    // ==================== File Changes ====================
 
-                    log.info("[GITHUB][PERSISTENCE] Saved {}/{} comments", newComments.size(), comments.size());
-                    return newComments.size();
+    public Mono<SyncCount> saveAllFileChanges(List<GithubFileChange> fileChanges) {
+        return Mono.fromCallable(() ->
+                transactionTemplate.execute(status -> {
+                    GithubBulkUpsertRepository.UpsertResult<Long> result = bulkUpsertRepository.upsertFileChanges(fileChanges);
+                    log.info("[GITHUB][PERSISTENCE] Saved {}/{} file changes (updated: {})",
+                            result.inserted(), fileChanges.size(), result.updated());
+                    return SyncCount.of(fileChanges.size(), result.inserted(), result.updated());
                 })
         ).subscribeOn(Schedulers.boundedElastic());
     }
 
-    // ==================== Reviews ====================
+    // ==================== Pull Request Enrichment ====================
 
-    public Mono<Integer> saveAllReviews(List<GithubReview> reviews) {
+    /**
+     * PR 묶음의 Review Comment / Review / File Change를 하나의 트랜잭션으로 Upsert
+     */
+    public Mono<PullRequestEnrichmentCount> savePullRequestEnrichment(List<GithubComment> reviewComments,
+                                                                      List<GithubReview> reviews,
+                                                                      List<GithubFileChange> fileChanges) {
         return Mono.fromCallable(() ->
                 transactionTemplate.execute(status -> {
-                    if (reviews.isEmpty()) return 0;
+                    GithubBulkUpsertRepository.UpsertResult<Long> commentResult = bulkUpsertRepository.upsertComments(reviewComments);
+                    GithubBulkUpsertRepository.UpsertResult<Long> reviewResult = bulkUpsertRepository.upsertReviews(reviews);
+                    GithubBulkUpsertRepository.UpsertResult<Long> fileResult = bulkUpsertRepository.upsertFileChanges(fileChanges);
+
+                    log.info("[GITHUB][PERSISTENCE] Saved PR enrichment - ReviewComments: {}/{}, Reviews: {}/{}, FileChanges: {}/{}",
+                            commentResult.inserted(), reviewComments.size(), reviewResult.inserted(), reviews.size(),
+                            fileResult.inserted(), fileChanges.size());
+                    return new PullRequestEnrichmentCount(
+                            SyncCount.of(reviewComments.size(), commentResult.inserted(), commentResult.updated()),
+                            SyncCount.of(reviews.size(), reviewResult.inserted(), reviewResult.updated()),
+                            SyncCount.of(fileChanges.size(), fileResult.inserted(), fileResult.updated())
+                    );
+                })
+        ).subscribeOn(Schedulers.boundedElastic());
+    }
 
-                    List<Long> reviewIds = reviews.stream()
-                            .map(GithubReview::getReviewId)
-                            .distinct()
-                            .collect(Collectors.toList());
+    // ==================== Sync Watermarks ====================
 
-                    Set<Long> existingIds = reviewRepository.findAllByReviewIdIn(reviewIds).stream()
-                            .map(GithubReview::getReviewId)
-                            .collect(Collectors.toSet());
+    public Mono<GithubSyncWatermarks> findWatermarks(Long repositoryId, String branch) {
+        return Mono.fromCallable(() ->
+                transactionTemplate.execute(status -> {
+                    Map<GithubSyncWatermark.EntityType, LocalDateTime> byType = watermarkRepository
+                            .findByRepository_RepositoryIdAndBranch(repositoryId, branch)
+                            .stream()
+                            .collect(Collectors.toMap(GithubSyncWatermark::getEntityType, GithubSyncWatermark::getSyncedUntil));
 
-                    List<GithubReview> newReviews = reviews.stream()
-                            .filter(review -> !existingIds.contains(review.getReviewId()))
-                            .collect(Collectors.toMap(GithubReview::getReviewId, r -> r, (r1, r2) -> r1))
-                            .values().stream().toList();
+                    return new GithubSyncWatermarks(
+                            byType.get(GithubSyncWatermark.EntityType.COMMIT),
+                            byType.get(GithubSyncWatermark.EntityType.PULL_REQUEST),
+                            byType.get(GithubSyncWatermark.EntityType.ISSUE)
+                    );
+                })
+        ).subscribeOn(Schedulers.boundedElastic());
+    }
 
-                    if (!newReviews.isEmpty()) {
-                        reviewRepository.saveAll(newReviews);
+    /**
+     * Repository/Branch의 모든 엔티티 유형 Watermark를 syncedUntil로 갱신
+     */
+    public Mono<Void> saveWatermarks(GithubRepository repository, String branch, LocalDateTime syncedUntil) {
+        return Mono.fromRunnable(() ->
+                transactionTemplate.executeWithoutResult(status -> {
+                    Map<GithubSyncWatermark.EntityType, GithubSyncWatermark> existing = watermarkRepository
+                            .findByRepository_RepositoryIdAndBranch(repository.getRepositoryId(), branch)
+                            .stream()
+                            .collect(Collectors.toMap(GithubSyncWatermark::getEntityType, Function.identity()));
+
+                    for (GithubSyncWatermark.EntityType type : GithubSyncWatermark.EntityType.values()) {
+                        GithubSyncWatermark watermark = existing.get(type);
+                        if (watermark != null) {
+                            watermark.updateSyncedUntil(syncedUntil);
+                        } else {
+                            watermarkRepository.save(GithubSyncWatermark.builder()
+                                    .repository(repository)
+                                    .branch(branch)
+                                    .entityType(type)
+                                    .syncedUntil(syncedUntil)
+                                    .build());
+                        }
                     }
 
-                    log.info("[GITHUB][PERSISTENCE] Saved {}/{} reviews", newReviews.size(), reviews.size());
-                    return newReviews.size();
+                    log.info("[GITHUB][PERSISTENCE] Watermarks updated for {}/{}@{} -> {}",
+                            repository.getOwner(), repository.getName(), branch, syncedUntil);
                 })
-        ).subscribeOn(Schedulers.boundedElastic());
+        ).subscribeOn(Schedulers.boundedElastic()).then();
     }
 
-    // ==================== File Changes ====================
+    // ==================== Sync Checkpoints ====================
 
-    public Mono<Integer> saveAllFileChanges(List<GithubFileChange> fileChanges) {
+    /**
+     * 재시작 위치 조회
+     * 완료되지 않은 가장 앞 단계의 Checkpoint, 없으면 처음(REPOSITORY_INFO)부터
+     */
+    public Mono<GithubSyncResumePoint> findResumePoint(Long repositoryId, String branch) {
         return Mono.fromCallable(() ->
-                transactionTemplate.execute(status -> {
-                    fileChangeRepository.saveAll(fileChanges);
-                    int savedCount = fileChanges.size();
-                    log.info("[GITHUB][PERSISTENCE] Saved {} file changes", savedCount);
-                    return savedCount;
-                })
+                transactionTemplate.execute(status ->
+                        checkpointRepository.findByRepository_RepositoryIdAndBranch(repositoryId, branch).stream()
+                                .filter(checkpoint -> !checkpoint.isCompleted())
+                                .min(Comparator.comparing(GithubSyncCheckpoint::getStep))
+                                .map(checkpoint -> new GithubSyncResumePoint(
+                                        checkpoint.getStep(),
+                                        valueOrZero(checkpoint.getLastPage()),
+                                        valueOrZero(checkpoint.getLastPullRequestNumber()),
+                                        valueOrZero(checkpoint.getLastIssueNumber()),
+                                        checkpoint.getMode() != null ? checkpoint.getMode() : GithubSyncMode.FULL
+                                ))
+                                .orElse(GithubSyncResumePoint.from(GithubSyncStep.REPOSITORY_INFO))
+                )
         ).subscribeOn(Schedulers.boundedElastic());
     }
 
+    /**
+     * 단계 시작 기록 (이미 있으면 기록된 위치를 유지한 채 미완료 상태로 전환)
+     * 재시도 시 같은 모드로 이어가도록 동기화 모드를 함께 기록
+     */
+    public Mono<Void> startCheckpoint(GithubRepository repository, String branch, GithubSyncStep step,
+                                      GithubSyncMode mode) {
+        return Mono.fromRunnable(() ->
+                transactionTemplate.executeWithoutResult(status ->
+                        checkpointRepository
+                                .findByRepository_RepositoryIdAndBranchAndStep(repository.getRepositoryId(), branch, step)
+                                .ifPresentOrElse(
+                                        checkpoint -> checkpoint.restart(mode),
+                                        () -> checkpointRepository.save(GithubSyncCheckpoint.builder()
+                                                .repository(repository)
+                                                .branch(branch)
+                                                .step(step)
+                                                .mode(mode)
+                                                .build())
+                                )
+                )
+        ).subscribeOn(Schedulers.boundedElastic()).then();
+    }
+
+    public Mono<Void> saveCommitCheckpoint(Long repositoryId, String branch, int lastPage) {
+        return executeCheckpointUpdate(() ->
+                checkpointRepository.updateLastPage(repositoryId, branch, GithubSyncStep.COMMITS,
+                        lastPage, LocalDateTime.now()));
+    }
+
+    public Mono<Void> savePullRequestCheckpoint(Long repositoryId, String branch, GithubSyncStep step, int lastNumber) {
+        return executeCheckpointUpdate(() ->
+                checkpointRepository.updateLastPullRequestNumber(repositoryId, branch, step,
+                        lastNumber, LocalDateTime.now()));
+    }
+
+    public Mono<Void> saveIssueCheckpoint(Long repositoryId, String branch, GithubSyncStep step, int lastNumber) {
+        return executeCheckpointUpdate(() ->
+                checkpointRepository.updateLastIssueNumber(repositoryId, branch, step,
+                        lastNumber, LocalDateTime.now()));
+    }
+
+    public Mono<Void> completeCheckpoint(Long repositoryId, String branch, GithubSyncStep step) {
+        return executeCheckpointUpdate(() ->
+                checkpointRepository.markCompleted(repositoryId, branch, step, LocalDateTime.now()));
+    }
+
+    public Mono<Void> clearCheckpoints(Long repositoryId, String branch) {
+        return executeCheckpointUpdate(() -> {
+            int deleted = checkpointRepository.deleteByRepositoryIdAndBranch(repositoryId, branch);
+            log.info("[GITHUB][PERSISTENCE] Cleared {} checkpoints for repository {}@{}", deleted, repositoryId, branch);
+        });
+    }
+
+    private Mono<Void> executeCheckpointUpdate(Runnable update) {
+        return Mono.fromRunnable(() ->
+                transactionTemplate.executeWithoutResult(status -> update.run())
+        ).subscribeOn(Schedulers.boundedElastic()).then();
+    }
+
+    private int valueOrZero(Integer value) {
+        return value != null ? value : 0;
+    }
 }
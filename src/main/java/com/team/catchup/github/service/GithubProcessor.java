@@ -1,7 +1,12 @@
 package com.team.catchup.github.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.team.catchup.github.config.GithubProperties;
+import com.team.catchup.github.dto.GithubPullRequestDetails;
+import com.team.catchup.github.dto.GithubPullRequestPart;
+import com.team.catchup.github.dto.GithubSyncStep;
 import com.team.catchup.github.dto.internal.*;
+import com.team.catchup.github.dto.response.PullRequestEnrichmentCount;
 import com.team.catchup.github.dto.response.SyncCount;
 import com.team.catchup.github.entity.*;
 import com.team.catchup.github.mapper.*;
@@ -15,7 +20,13 @@ import reactor.core.scheduler.Schedulers;
 import static com.team.catchup.common.config.RabbitConfig.*;
 
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
@@ -23,8 +34,11 @@ import java.util.List;
 public class GithubProcessor {
 
     private final GithubApiService githubApiService;
+    private final GithubGraphQlService graphQlService;
     private final GithubPersistenceService persistenceService;
     private final RabbitTemplate rabbitTemplate;
+    private final GithubProperties githubProperties;
+    private final GithubCommitFetchTracker commitFetchTracker;
 
     private final GithubRepositoryMapper repositoryMapper;
     private final GithubCommitMapper commitMapper;
@@ -61,52 +75,72 @@ public class GithubProcessor {
 
     /**
      * Commits 동기화
+     * Commit 상세 정보를 commitWindowSize 단위로 모아 Window마다 별도 트랜잭션으로 저장
+     * -> 메모리 사용량은 전체 히스토리가 아닌 Window 크기에 비례
+     * Window 저장 후 저장이 끝난 목록 페이지를 Checkpoint로 기록
+     * @param startPage 목록 조회 시작 페이지 (Checkpoint 재시작 시 마지막 저장 페이지 다음부터)
+     * @param onProgress Window 저장 시마다 누적 SyncCount를 전달받는 콜백
      */
-    public Mono<SyncCount> processCommits(GithubRepository repository, String owner, String repo, String branch, String since) {
+    public Mono<SyncCount> processCommits(GithubRepository repository, String owner, String repo, String branch,
+                                          String since, int startPage, Consumer<SyncCount> onProgress) {
         log.info("[GITHUB][PROCESSOR] Processing commits for {}/{} on branch: {}", owner, repo, branch);
 
-        return githubApiService.getCommits(owner, repo, branch, since)
-                .flatMap(commitNode ->
-                        githubApiService.getCommit(owner, repo, commitNode.get("sha").asText())
+        GithubProperties.SyncProperties syncProperties = githubProperties.getSync();
+        GithubCommitFetchTracker.Counter counter = commitFetchTracker.start(owner + "/" + repo);
+        AtomicInteger persisted = new AtomicInteger();
+
+        // 목록 페이지를 받은 시점에 집계해야 상세 조회 전에 쌓인 Commit(waiting)이 드러남
+        return githubApiService.getCommits(owner, repo, branch, since, startPage, counter::listed)
+                // Repository 단위 동시 요청 수 제한 (기본 flatMap 동시성 256 대신 설정값 사용)
+                // 목록 순서를 유지해야 저장된 Window가 완료된 페이지와 일치
+                .flatMapSequential(commitNode ->
+                                githubApiService.getCommit(owner, repo, commitNode.get("sha").asText())
+                                        .doOnSubscribe(subscription -> counter.started())
+                                        .doOnSuccess(detail -> counter.completed())
+                                        .doOnError(e -> counter.failed()),
+                        syncProperties.getCommitConcurrency(),
+                        syncProperties.getCommitPrefetch()
                 )
-                .collectList()
-                .flatMap(commitDetailNodes -> {
-                    List<GithubCommit> commits = new ArrayList<>();
-                    List<GithubFileChange> allFileChanges = new ArrayList<>();
+                .doFinally(signal -> counter.finish())
+                .buffer(syncProperties.getCommitWindowSize())
+                // 저장 대기 Window는 최대 1개만 유지
+                .concatMap(window -> saveCommitWindow(repository, window)
+                        .flatMap(count -> {
+                            int completedPages = startPage - 1
+                                    + persisted.addAndGet(window.size()) / GithubApiService.PER_PAGE;
+                            return persistenceService
+                                    .saveCommitCheckpoint(repository.getRepositoryId(), branch, completedPages)
+                                    .thenReturn(count);
+                        }), 1)
+                .scan(SyncCount::plus)
+                .doOnNext(onProgress)
+                .last(SyncCount.empty())
+                .doOnSuccess(count ->
+                        log.info("[GITHUB][PROCESSOR] Commits saved - Total: {}, Saved: {}, Updated: {}",
+                                count.totalFetched(), count.saved(), count.updated())
+                )
+                .doOnError(e ->
+                        log.error("[GITHUB][PROCESSOR] Failed to process commits for {}/{}", owner, repo, e)
+                );
+    }
 
-                    for (JsonNode detailNode : commitDetailNodes) {
-                        GithubCommit commit = commitMapper.toEntity(detailNode, repository);
-                        commits.add(commit);
+    private Mono<SyncCount> saveCommitWindow(GithubRepository repository, List<JsonNode> commitDetailNodes) {
+        List<GithubCommit> commits = new ArrayList<>(commitDetailNodes.size());
+        List<GithubFileChange> fileChanges = new ArrayList<>();
 
-                        JsonNode filesNode = detailNode.get("files");
-                        if (filesNode != null && filesNode.isArray()) {
-                            for (JsonNode fileNode : filesNode) {
-                                GithubFileChange fileChange = fileChangeMapper.toEntityFromCommit(
-                                        fileNode, repository, commit.getSha()
-                                );
-                                allFileChanges.add(fileChange);
-                            }
-                        }
-                    }
+        for (JsonNode detailNode : commitDetailNodes) {
+            GithubCommit commit = commitMapper.toEntity(detailNode, repository);
+            commits.add(commit);
 
-                    // 실행계획으로 준비함
-                    Mono<Integer> saveCommitsMono = persistenceService.saveAllCommits(commits);
-                    Mono<Integer> saveFilesMono = persistenceService.saveAllFileChanges(allFileChanges);
+            JsonNode filesNode = detailNode.get("files");
+            if (filesNode != null && filesNode.isArray()) {
+                for (JsonNode fileNode : filesNode) {
+                    fileChanges.add(fileChangeMapper.toEntityFromCommit(fileNode, repository, commit));
+                }
+            }
+        }
 
-                    // 위의 두 개의 Mono를 병렬로 실행한 뒤 결과를 튜플로 결합하는 방식
-                    return Mono.zip(saveCommitsMono, saveFilesMono)
-                            .map(tuple -> {
-                                int savedCommits = tuple.getT1();
-                                int savedFiles = tuple.getT2();
-                                log.info("[GITHUB][PROCESSOR] Commits saved - Commits: {}, FileChanges: {}",
-                                        savedCommits, savedFiles);
-                                return SyncCount.of(commits.size(), savedCommits);
-                            });
-                })
-                .doOnError(e ->
-                        log.error("[GITHUB][PROCESSOR] Failed to process commits for {}/{}", owner, repo, e)
-                )
-                .onErrorReturn(SyncCount.empty());
+        return persistenceService.saveCommitWindow(commits, fileChanges);
     }
 
     /**
@@ -120,15 +154,14 @@ public class GithubProcessor {
                 .collectList()
                 .flatMap(pullRequests ->
                         persistenceService.saveAllPullRequests(pullRequests)
-                                .flatMap(saved ->
+                                .flatMap(count ->
                                         publishPullRequestMessages(pullRequests)
-                                                .thenReturn(SyncCount.of(pullRequests.size(), saved))
+                                                .thenReturn(count)
                                 )
                 )
                 .doOnError(e ->
                         log.error("[GITHUB][PROCESSOR] Failed to process pull requests for {}/{}", owner, repo, e)
-                )
-                .onErrorReturn(SyncCount.empty());
+                );
     }
 
     /**
@@ -143,155 +176,101 @@ public class GithubProcessor {
                 .collectList()
                 .flatMap(issues ->
                         persistenceService.saveAllIssues(issues)
-                                .flatMap(saved ->
+                                .flatMap(count ->
                                         publishIssueMessages(issues)
-                                                .thenReturn(SyncCount.of(issues.size(), saved))
+                                                .thenReturn(count)
                                 )
                 )
                 .doOnError(e ->
                         log.error("[GITHUB][PROCESSOR] Failed to process issues for {}/{}", owner, repo, e)
-                )
-                .onErrorReturn(SyncCount.empty());
-    }
-
-    /**
-     * PR Reviews 동기화
-     */
-    public Mono<SyncCount> processPullRequestReviews(String owner, String repo, int prNumber) {
-        log.info("[GITHUB][PROCESSOR] Processing reviews for PR #{}", prNumber);
-
-        return persistenceService.findRepository(owner, repo)
-                .flatMap(repository -> {
-                    if (repository == null) {
-                        log.error("[GITHUB][PROCESSOR] Repository not found: {}/{}", owner, repo);
-                        return Mono.just(SyncCount.empty());
-                    }
-
-                    return persistenceService.findPullRequestByNumber(repository.getRepositoryId(), prNumber)
-                            .flatMap(pullRequest -> {
-                                if (pullRequest == null) {
-                                    log.error("[GITHUB][PROCESSOR] Pull request not found: #{}", prNumber);
-                                    return Mono.just(SyncCount.empty());
-                                }
-
-                                return githubApiService.getPullRequestReviews(owner, repo, prNumber)
-                                        .map(reviewNode -> reviewMapper.toEntity(reviewNode, repository, pullRequest))
-                                        .collectList()
-                                        .flatMap(reviews ->
-                                                persistenceService.saveAllReviews(reviews)
-                                                        .map(saved -> SyncCount.of(reviews.size(), saved))
-                                        );
-                            });
-                })
-                .doOnError(e ->
-                        log.error("[GITHUB][PROCESSOR] Failed to process reviews", e)
-                )
-                .onErrorReturn(SyncCount.empty());
+                );
     }
 
     /**
      * Issue Comments 동기화
+     * Repository와 Issue 엔티티는 호출자가 전달 (Issue마다 DB 재조회하지 않음)
+     * 실패는 전파해 Checkpoint / Watermark가 실패한 Issue를 넘어가지 않도록 함
      */
-    public Mono<SyncCount> processIssueComments(String owner, String repo, int issueNumber) {
-        log.info("[GITHUB][PROCESSOR] Processing issue comments for #{}", issueNumber);
+    public Mono<SyncCount> processIssueComments(GithubRepository repository, String owner, String repo, GithubIssue issue) {
+        log.info("[GITHUB][PROCESSOR] Processing issue comments for #{}", issue.getNumber());
 
-        return persistenceService.findRepository(owner, repo)
-                .flatMap(repository -> {
-                    if (repository == null) {
-                        log.error("[GITHUB][PROCESSOR] Repository not found: {}/{}", owner, repo);
-                        return Mono.just(SyncCount.empty());
-                    }
-
-                    return persistenceService.findIssueByNumber(repository.getRepositoryId(), issueNumber)
-                            .flatMap(issue -> {
-                                if (issue == null) {
-                                    log.error("[GITHUB][PROCESSOR] Issue not found: #{}", issueNumber);
-                                    return Mono.just(SyncCount.empty());
-                                }
-
-                                return githubApiService.getIssueComments(owner, repo, issueNumber)
-                                        .map(commentNode -> commentMapper.toIssueCommentEntity(commentNode, repository, issue))
-                                        .collectList()
-                                        .flatMap(comments ->
-                                                persistenceService.saveAllComments(comments)
-                                                        .map(saved -> SyncCount.of(comments.size(), saved))
-                                        );
-                            });
-                })
-                .doOnError(e ->
-                        log.error("[GITHUB][PROCESSOR] Failed to process issue comments", e)
+        return githubApiService.getIssueComments(owner, repo, issue.getNumber())
+                .map(commentNode -> commentMapper.toIssueCommentEntity(commentNode, repository, issue))
+                .collectList()
+                .flatMap(comments ->
+                        persistenceService.saveAllComments(comments)
                 )
-                .onErrorReturn(SyncCount.empty());
+                .doOnError(e ->
+                        log.error("[GITHUB][PROCESSOR] Failed to process issue comments for #{}", issue.getNumber(), e)
+                );
     }
 
     /**
-     * PR Review Comments 동기화
+     * PR 상세 동기화 (Review Comment / Review / File Change 통합 단계)
+     * Repository와 PR 엔티티는 호출자가 한 번만 조회해 전달하고,
+     * PR마다 선택된 항목을 동시에 조회한 뒤 pullRequestBatchSize 단위로 묶어 하나의 트랜잭션으로 저장
+     * PR 번호 오름차순으로 처리하고 Batch 저장 후 마지막 PR 번호를 checkpointStep의 Checkpoint로 기록
      */
-    public Mono<SyncCount> processPullRequestComments(String owner, String repo, int prNumber) {
-        log.info("[GITHUB][PROCESSOR] Processing PR review comments for #{}", prNumber);
-
-        return persistenceService.findRepository(owner, repo)
-                .flatMap(repository -> {
-                    if (repository == null) {
-                        log.error("[GITHUB][PROCESSOR] Repository not found: {}/{}", owner, repo);
-                        return Mono.just(SyncCount.empty());
-                    }
-
-                    return persistenceService.findPullRequestByNumber(repository.getRepositoryId(), prNumber)
-                            .flatMap(pullRequest -> {
-                                if (pullRequest == null) {
-                                    log.error("[GITHUB][PROCESSOR] Pull request not found: #{}", prNumber);
-                                    return Mono.just(SyncCount.empty());
-                                }
+    public Mono<PullRequestEnrichmentCount> processPullRequestEnrichment(GithubRepository repository, String owner,
+                                                                        String repo, String branch,
+                                                                        List<GithubPullRequest> pullRequests,
+                                                                        Set<GithubPullRequestPart> parts,
+                                                                        GithubSyncStep checkpointStep) {
+        log.info("[GITHUB][PROCESSOR] Processing {} for {} PRs of {}/{}", parts, pullRequests.size(), owner, repo);
+
+        GithubProperties.SyncProperties syncProperties = githubProperties.getSync();
+        Map<Integer, GithubPullRequest> pullRequestsByNumber = new LinkedHashMap<>();
+        pullRequests.stream()
+                .sorted(Comparator.comparing(GithubPullRequest::getNumber))
+                .forEach(pr -> pullRequestsByNumber.put(pr.getNumber(), pr));
+
+        Flux<GithubPullRequestDetails> details = syncProperties.getFanOutEngine() == GithubProperties.FanOutEngine.GRAPHQL
+                ? graphQlService.getPullRequestDetails(owner, repo, pullRequestsByNumber.keySet(), parts)
+                : Flux.fromIterable(pullRequestsByNumber.keySet())
+                // 실패한 PR은 건너뛰지 않고 오류 전파 (저장 전 Batch는 버려지고 Checkpoint는 마지막 저장 Batch에 머무름)
+                .flatMapSequential(number ->
+                                githubApiService.getPullRequestDetails(owner, repo, number, parts)
+                                        .doOnError(e ->
+                                                log.error("[GITHUB][PROCESSOR] Failed to fetch {} for PR #{}", parts, number, e)
+                                        ),
+                        syncProperties.getPullRequestConcurrency()
+                );
 
-                                return githubApiService.getPullRequestReviewComments(owner, repo, prNumber)
-                                        .map(commentNode -> commentMapper.toReviewCommentEntity(commentNode, repository, pullRequest))
-                                        .collectList()
-                                        .flatMap(comments ->
-                                                persistenceService.saveAllComments(comments)
-                                                        .map(saved -> SyncCount.of(comments.size(), saved))
-                                        );
-                            });
-                })
-                .doOnError(e ->
-                        log.error("[GITHUB][PROCESSOR] Failed to process PR comments", e)
+        return details
+                .buffer(syncProperties.getPullRequestBatchSize())
+                .concatMap(batch -> saveEnrichmentBatch(repository, pullRequestsByNumber, batch)
+                        .flatMap(count -> persistenceService
+                                .savePullRequestCheckpoint(repository.getRepositoryId(), branch, checkpointStep,
+                                        batch.get(batch.size() - 1).number())
+                                .thenReturn(count)), 1)
+                .reduce(PullRequestEnrichmentCount.empty(), PullRequestEnrichmentCount::plus)
+                .doOnSuccess(count ->
+                        log.info("[GITHUB][PROCESSOR] PR enrichment saved - ReviewComments: {}, Reviews: {}, FileChanges: {}",
+                                count.reviewComments().saved(), count.reviews().saved(), count.fileChanges().saved())
                 )
-                .onErrorReturn(SyncCount.empty());
+                .doOnError(e ->
+                        log.error("[GITHUB][PROCESSOR] Failed to process PR enrichment for {}/{}", owner, repo, e)
+                );
     }
 
-    /**
-     * PR File Changes 동기화
-     */
-    public Mono<SyncCount> processPullRequestFileChanges(String owner, String repo, int prNumber) {
-        log.info("[GITHUB][PROCESSOR] Processing file changes for PR #{}", prNumber);
-
-        return persistenceService.findRepository(owner, repo)
-                .flatMap(repository -> {
-                    if (repository == null) {
-                        log.error("[GITHUB][PROCESSOR] Repository not found: {}/{}", owner, repo);
-                        return Mono.just(SyncCount.empty());
-                    }
-
-                    return persistenceService.findPullRequestByNumber(repository.getRepositoryId(), prNumber)
-                            .flatMap(pullRequest -> {
-                                if (pullRequest == null) {
-                                    log.error("[GITHUB][PROCESSOR] Pull request not found: #{}", prNumber);
-                                    return Mono.just(SyncCount.empty());
-                                }
-
-                                return githubApiService.getPullRequestFiles(owner, repo, prNumber)
-                                        .map(fileNode -> fileChangeMapper.toEntityFromPullRequest(fileNode, repository, pullRequest))
-                                        .collectList()
-                                        .flatMap(fileChanges ->
-                                                persistenceService.saveAllFileChanges(fileChanges)
-                                                        .map(saved -> SyncCount.of(fileChanges.size(), saved))
-                                        );
-                            });
-                })
-                .doOnError(e ->
-                        log.error("[GITHUB][PROCESSOR] Failed to process file changes", e)
-                )
-                .onErrorReturn(SyncCount.empty());
+    private Mono<PullRequestEnrichmentCount> saveEnrichmentBatch(GithubRepository repository,
+                                                                 Map<Integer, GithubPullRequest> pullRequestsByNumber,
+                                                                 List<GithubPullRequestDetails> batch) {
+        List<GithubComment> reviewComments = new ArrayList<>();
+        List<GithubReview> reviews = new ArrayList<>();
+        List<GithubFileChange> fileChanges = new ArrayList<>();
+
+        for (GithubPullRequestDetails details : batch) {
+            GithubPullRequest pullRequest = pullRequestsByNumber.get(details.number());
+            details.reviewComments().forEach(node ->
+                    reviewComments.add(commentMapper.toReviewCommentEntity(node, repository, pullRequest)));
+            details.reviews().forEach(node ->
+                    reviews.add(reviewMapper.toEntity(node, repository, pullRequest)));
+            details.files().forEach(node ->
+                    fileChanges.add(fileChangeMapper.toEntityFromPullRequest(node, repository, pullRequest)));
+        }
+
+        return persistenceService.savePullRequestEnrichment(reviewComments, reviews, fileChanges);
     }
 
     // ==================== RabbitMQ Publishing ====================
@@ -0,0 +1,245 @@
+package com.team.catchup.github.service;
+
+import com.team.catchup.github.config.GithubProperties;
+import com.team.catchup.github.dto.GithubSyncMode;
+import com.team.catchup.github.dto.response.GithubSyncJobStatus;
+import com.team.catchup.github.dto.response.GithubSyncQueueStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Repository Sync 작업 스케줄러
+ * 모든 Sync 요청을 대기열에 넣고 최대 maxConcurrentJobs개만 동시에 실행한다.
+ * - 우선순위: Incremental Sync가 Full Sync보다 먼저, 같은 유형은 등록 순서대로
+ * - 같은 Repository/Branch 작업이 대기 중이거나 실행 중이면 새로 등록하지 않음
+ * - API 호출 예산은 GithubRateLimitGovernor가 전역으로 관리하며, 작업마다 동시 요청 수 상한이 같으므로
+ *   실행 중인 작업들이 Governor의 요청 슬롯을 고르게 나눠 쓴다.
+ */
+@Component
+@Slf4j
+public class GithubSyncScheduler {
+
+    // 최근 완료 작업 시간의 지수 이동 평균 가중치
+    private static final double DURATION_SMOOTHING = 0.3;
+
+    private final GithubProperties.SyncProperties properties;
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final PriorityQueue<SyncJob> queue = new PriorityQueue<>(
+            Comparator.comparing((SyncJob job) -> job.mode() == GithubSyncMode.INCREMENTAL ? 0 : 1)
+                    .thenComparingLong(SyncJob::sequence)
+    );
+    private final Map<String, SyncJob> running = new LinkedHashMap<>();
+    private final Map<GithubSyncMode, Double> averageSeconds = new EnumMap<>(GithubSyncMode.class);
+
+    public GithubSyncScheduler(GithubProperties githubProperties) {
+        this.properties = githubProperties.getSync();
+    }
+
+    /**
+     * Sync 작업 등록
+     * @param work 실행 시점에 구독할 Sync 파이프라인
+     * @return 등록된(또는 이미 등록되어 있던) 작업 상태
+     */
+    public synchronized GithubSyncJobStatus submit(Long userId, String owner, String repo, String branch,
+                                                   GithubSyncMode mode, Supplier<Mono<Void>> work) {
+        String key = jobKey(owner, repo, branch);
+
+        SyncJob duplicate = findJob(key);
+        if (duplicate != null) {
+            log.info("[GITHUB][SCHEDULER] Sync already scheduled for {} ({}), skipping new {} request",
+                    key, duplicate.mode(), mode);
+            return statusOf(duplicate);
+        }
+
+        SyncJob job = new SyncJob(UUID.randomUUID().toString(), key, owner + "/" + repo, branch, mode, userId,
+                sequence.incrementAndGet(), LocalDateTime.now(), work);
+        queue.add(job);
+        log.info("[GITHUB][SCHEDULER] Queued {} sync for {} | queue depth: {}, running: {}",
+                mode, key, queue.size(), running.size());
+
+        dispatch();
+        // 바로 실행된 경우 시작 시각이 기록된 작업으로 상태 반환
+        return statusOf(findJob(key));
+    }
+
+    /**
+     * 대기열 현황 (대기 순번, 실행 중 작업, 평균 작업 시간 기반 ETA)
+     */
+    public synchronized GithubSyncQueueStatus getQueueStatus() {
+        Map<String, Long> etaByJobId = estimateCompletion();
+
+        List<GithubSyncJobStatus> runningJobs = running.values().stream()
+                .map(job -> toStatus(job, 0, etaByJobId))
+                .toList();
+
+        List<SyncJob> ordered = orderedQueue();
+        List<GithubSyncJobStatus> queuedJobs = new ArrayList<>(ordered.size());
+        for (int i = 0; i < ordered.size(); i++) {
+            queuedJobs.add(toStatus(ordered.get(i), i + 1, etaByJobId));
+        }
+
+        long drainSeconds = etaByJobId.values().stream().mapToLong(Long::longValue).max().orElse(0L);
+
+        return new GithubSyncQueueStatus(
+                properties.getMaxConcurrentJobs(),
+                running.size(),
+                queue.size(),
+                Math.round(expectedSeconds(GithubSyncMode.FULL)),
+                Math.round(expectedSeconds(GithubSyncMode.INCREMENTAL)),
+                drainSeconds,
+                runningJobs,
+                queuedJobs
+        );
+    }
+
+    // ==================== Dispatch ====================
+
+    private synchronized void dispatch() {
+        while (running.size() < properties.getMaxConcurrentJobs() && !queue.isEmpty()) {
+            SyncJob job = queue.poll().start();
+            running.put(job.key(), job);
+
+            log.info("[GITHUB][SCHEDULER] Starting {} sync for {} | queue depth: {}, running: {}",
+                    job.mode(), job.key(), queue.size(), running.size());
+
+            Mono.defer(job.work())
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .doFinally(signal -> complete(job))
+                    .subscribe(
+                            result -> { },
+                            // 상세 오류는 Sync 파이프라인에서 기록
+                            error -> log.warn("[GITHUB][SCHEDULER] {} sync failed for {}: {}",
+                                    job.mode(), job.key(), error.getMessage())
+                    );
+        }
+    }
+
+    private synchronized void complete(SyncJob job) {
+        running.remove(job.key());
+
+        double seconds = Duration.between(job.startedAt(), LocalDateTime.now()).toMillis() / 1000.0;
+        averageSeconds.merge(job.mode(), seconds,
+                (previous, latest) -> previous * (1 - DURATION_SMOOTHING) + latest * DURATION_SMOOTHING);
+
+        log.info("[GITHUB][SCHEDULER] Finished {} sync for {} in {}s | queue depth: {}, running: {}",
+                job.mode(), job.key(), Math.round(seconds), queue.size(), running.size());
+
+        dispatch();
+    }
+
+    // ==================== ETA ====================
+
+    /**
+     * 작업별 예상 완료 시각(현재 기준 초)
+     * 실행 중 작업은 평균 시간에서 경과 시간을 뺀 만큼, 대기 작업은 가장 먼저 비는 실행 슬롯에 순서대로 배정
+     */
+    private Map<String, Long> estimateCompletion() {
+        Map<String, Long> eta = new LinkedHashMap<>();
+        PriorityQueue<Double> slots = new PriorityQueue<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        for (SyncJob job : running.values()) {
+            double elapsed = Duration.between(job.startedAt(), now).toMillis() / 1000.0;
+            double remaining = Math.max(expectedSeconds(job.mode()) - elapsed, 0);
+            slots.add(remaining);
+            eta.put(job.jobId(), Math.round(remaining));
+        }
+        while (slots.size() < properties.getMaxConcurrentJobs()) {
+            slots.add(0.0);
+        }
+
+        for (SyncJob job : orderedQueue()) {
+            double finish = slots.poll() + expectedSeconds(job.mode());
+            slots.add(finish);
+            eta.put(job.jobId(), Math.round(finish));
+        }
+        return eta;
+    }
+
+    private double expectedSeconds(GithubSyncMode mode) {
+        return averageSeconds.getOrDefault(mode, (double) properties.getDefaultJobDurationSeconds());
+    }
+
+    // ==================== Helpers ====================
+
+    private List<SyncJob> orderedQueue() {
+        List<SyncJob> ordered = new ArrayList<>(queue);
+        ordered.sort(queue.comparator());
+        return ordered;
+    }
+
+    private SyncJob findJob(String key) {
+        SyncJob runningJob = running.get(key);
+        if (runningJob != null) {
+            return runningJob;
+        }
+        return queue.stream()
+                .filter(job -> job.key().equals(key))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private GithubSyncJobStatus statusOf(SyncJob job) {
+        Map<String, Long> etaByJobId = estimateCompletion();
+        int position = running.containsKey(job.key()) ? 0 : orderedQueue().indexOf(job) + 1;
+        return toStatus(job, position, etaByJobId);
+    }
+
+    private GithubSyncJobStatus toStatus(SyncJob job, int position, Map<String, Long> etaByJobId) {
+        return new GithubSyncJobStatus(
+                job.jobId(),
+                job.repositoryName(),
+                job.branch(),
+                job.mode(),
+                job.userId(),
+                job.startedAt() != null,
+                position,
+                job.submittedAt(),
+                job.startedAt(),
+                etaByJobId.getOrDefault(job.jobId(), 0L)
+        );
+    }
+
+    private String jobKey(String owner, String repo, String branch) {
+        return owner + "/" + repo + "@" + branch;
+    }
+
+    private record SyncJob(
+            String jobId,
+            String key,
+            String repositoryName,
+            String branch,
+            GithubSyncMode mode,
+            Long userId,
+            long sequence,
+            LocalDateTime submittedAt,
+            LocalDateTime startedAt,
+            Supplier<Mono<Void>> work
+    ) {
+        SyncJob(String jobId, String key, String repositoryName, String branch, GithubSyncMode mode, Long userId,
+                long sequence, LocalDateTime submittedAt, Supplier<Mono<Void>> work) {
+            this(jobId, key, repositoryName, branch, mode, userId, sequence, submittedAt, null, work);
+        }
+
+        SyncJob start() {
+            return new SyncJob(jobId, key, repositoryName, branch, mode, userId, sequence, submittedAt,
+                    LocalDateTime.now(), work);
+        }
+    }
+}
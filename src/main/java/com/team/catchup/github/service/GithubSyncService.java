@@ -3,9 +3,17 @@ package com.team.catchup.github.service;
 import com.team.catchup.common.sse.dto.SseEventType;
 import com.team.catchup.common.sse.dto.SyncTarget;
 import com.team.catchup.common.sse.event.SyncEvent;
+import com.team.catchup.github.config.GithubProperties;
+import com.team.catchup.github.dto.GithubPullRequestPart;
+import com.team.catchup.github.dto.GithubSyncMode;
+import com.team.catchup.github.dto.GithubSyncResumePoint;
 import com.team.catchup.github.dto.GithubSyncStep;
+import com.team.catchup.github.dto.GithubSyncWatermarks;
+import com.team.catchup.github.dto.response.GithubSyncJobStatus;
 import com.team.catchup.github.dto.response.GithubSyncProgress;
+import com.team.catchup.github.dto.response.PullRequestEnrichmentCount;
 import com.team.catchup.github.dto.response.SyncCount;
+import com.team.catchup.github.entity.GithubIssue;
 import com.team.catchup.github.entity.GithubRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -13,7 +21,15 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -23,39 +39,104 @@ public class GithubSyncService {
     private final GithubProcessor githubProcessor;
     private final GithubPersistenceService persistenceService;
     private final ApplicationEventPublisher eventPublisher;
+    private final GithubProperties githubProperties;
+    private final GithubSyncScheduler syncScheduler;
+
+    // Watermark를 동기화 시작 시각보다 앞당겨 저장 (GitHub 서버와의 시계 오차 대비, 중복 조회는 저장 단계에서 걸러짐)
+    private static final Duration WATERMARK_OVERLAP = Duration.ofMinutes(5);
 
     /**
      * Full Repository Sync
+     * Sync Scheduler 대기열에 등록하고 실행 순서가 되면 백그라운드에서 실행
      */
-    public void fullSync(Long userId, String owner, String repo, String branch) {
-        fullSyncFrom(userId, owner, repo, branch, GithubSyncStep.REPOSITORY_INFO);
+    public GithubSyncJobStatus fullSync(Long userId, String owner, String repo, String branch) {
+        return fullSyncFrom(userId, owner, repo, branch, GithubSyncStep.REPOSITORY_INFO);
     }
 
     /**
      * 특정 단계부터 Full Sync 재시도
      */
-    public void fullSyncFrom(Long userId, String owner, String repo, String branch, GithubSyncStep startFrom) {
-        log.info("[GITHUB][FULL SYNC] Starting background sync | owner: {}, repo: {}, branch: {}, startFrom: {}",
+    public GithubSyncJobStatus fullSyncFrom(Long userId, String owner, String repo, String branch, GithubSyncStep startFrom) {
+        log.info("[GITHUB][FULL SYNC] Scheduling background sync | owner: {}, repo: {}, branch: {}, startFrom: {}",
                 owner, repo, branch, startFrom);
 
-        fullSyncInternal(userId, owner, repo, branch, startFrom)
-                .subscribeOn(Schedulers.boundedElastic())
-                .subscribe(
-                        result -> log.debug("[GITHUB][FULL SYNC] Completed successfully"),
-                        error -> log.error("[GITHUB][FULL SYNC] Failed with error", error)
-                );
+        return syncScheduler.submit(userId, owner, repo, branch, GithubSyncMode.FULL, () ->
+                fullSyncInternal(userId, owner, repo, branch, Mono.just(GithubSyncResumePoint.from(startFrom)),
+                        GithubSyncMode.FULL, false)
+                        .doOnSuccess(result -> log.debug("[GITHUB][FULL SYNC] Completed successfully"))
+                        .doOnError(error -> log.error("[GITHUB][FULL SYNC] Failed with error", error))
+        );
     }
 
     /**
-     * Full Sync 내부 구현
+     * Checkpoint 기준 재시도
+     * 실패한 단계의 마지막 저장 위치(Commit 페이지, PR / Issue 번호)부터 실패한 실행과 같은 모드로 이어서 진행
+     * (Incremental 실행이었다면 저장된 Watermark 이후 변경분만 조회)
+     * @param startFrom null이면 완료되지 않은 가장 앞 단계부터, 지정하면 해당 단계부터
+     *                  (해당 단계의 Checkpoint가 있을 때만 저장 위치 사용)
      */
-    private Mono<Void> fullSyncInternal(Long userId, String owner, String repo, String branch, GithubSyncStep startFrom) {
+    public GithubSyncJobStatus resumeFromCheckpoint(Long userId, String owner, String repo, String branch,
+                                                    GithubSyncStep startFrom) {
+        log.info("[GITHUB][FULL SYNC] Scheduling sync resume from checkpoint | owner: {}, repo: {}, branch: {}, startFrom: {}",
+                owner, repo, branch, startFrom);
+
+        // Scheduler 대기열이 모드별로 우선순위 / 예상 시간을 계산하므로 등록 전에 Checkpoint의 모드를 조회
+        GithubSyncResumePoint resumePoint = persistenceService.findRepository(owner, repo)
+                .flatMap(repository -> persistenceService.findResumePoint(repository.getRepositoryId(), branch))
+                .map(checkpoint -> startFrom != null ? checkpoint.forStep(startFrom) : checkpoint)
+                .defaultIfEmpty(GithubSyncResumePoint.from(startFrom != null ? startFrom : GithubSyncStep.REPOSITORY_INFO))
+                .block();
+        GithubSyncMode mode = resumePoint.mode();
+        log.info("[GITHUB][{}] Resume point: {}", mode, resumePoint);
+
+        return syncScheduler.submit(userId, owner, repo, branch, mode, () ->
+                fullSyncInternal(userId, owner, repo, branch, Mono.just(resumePoint), mode, true)
+                        .doOnSuccess(result -> log.debug("[GITHUB][{}] Resumed sync completed successfully", mode))
+                        .doOnError(error -> log.error("[GITHUB][{}] Resumed sync failed with error", mode, error))
+        );
+    }
+
+    /**
+     * Incremental Sync
+     * 저장된 Watermark 이후 변경분만 동기화 (Watermark가 없는 항목은 전체 동기화)
+     */
+    public GithubSyncJobStatus incrementalSync(Long userId, String owner, String repo, String branch) {
+        log.info("[GITHUB][INCREMENTAL SYNC] Scheduling background sync | owner: {}, repo: {}, branch: {}",
+                owner, repo, branch);
+
+        return syncScheduler.submit(userId, owner, repo, branch, GithubSyncMode.INCREMENTAL, () ->
+                fullSyncInternal(userId, owner, repo, branch,
+                        Mono.just(GithubSyncResumePoint.from(GithubSyncStep.REPOSITORY_INFO)),
+                        GithubSyncMode.INCREMENTAL, false)
+                        .doOnSuccess(result -> log.debug("[GITHUB][INCREMENTAL SYNC] Completed successfully"))
+                        .doOnError(error -> log.error("[GITHUB][INCREMENTAL SYNC] Failed with error", error))
+        );
+    }
+
+    /**
+     * Full / Incremental Sync 내부 구현
+     * @param resumeFromCheckpoint false면 이전 실행의 Checkpoint를 지우고 시작
+     */
+    private Mono<Void> fullSyncInternal(Long userId, String owner, String repo, String branch,
+                                        Mono<GithubSyncResumePoint> resumePointMono, GithubSyncMode mode,
+                                        boolean resumeFromCheckpoint) {
+        return resumePointMono.flatMap(resumePoint ->
+                fullSyncInternal(userId, owner, repo, branch, resumePoint, mode, resumeFromCheckpoint));
+    }
+
+    private Mono<Void> fullSyncInternal(Long userId, String owner, String repo, String branch,
+                                        GithubSyncResumePoint resumePoint, GithubSyncMode mode,
+                                        boolean resumeFromCheckpoint) {
         String repositoryName = owner + "/" + repo;
-        long startTime = System.currentTimeMillis();
+        String syncLabel = mode == GithubSyncMode.INCREMENTAL ? "Github Incremental Sync" : "Github Full Sync";
+        GithubSyncStep startFrom = resumePoint.step();
 
         return Mono.defer(() -> {
+            long startTime = System.currentTimeMillis();
+            LocalDateTime syncStartedAt = LocalDateTime.now(ZoneOffset.UTC);
+
             publishSimpleMessage(userId, SseEventType.IN_PROGRESS,
-                    "Starting Github Full Sync for " + repositoryName + " on branch: " + branch);
+                    "Starting " + syncLabel + " for " + repositoryName + " on branch: " + branch);
 
             // Step 1: Repository 메타데이터 동기화
             Mono<GithubRepository> repositoryMono = shouldExecute(startFrom, GithubSyncStep.REPOSITORY_INFO)
@@ -71,20 +152,43 @@ public class GithubSyncService {
                         repository.updateSyncInfo(branch, GithubRepository.SyncStatus.IN_PROGRESS);
                         return persistenceService.saveRepository(repository);
                     })
-                    .flatMap(repository ->
-                            // Step 2-7: 모든 동기화 단계 순차 실행
-                            syncAllSteps(userId, owner, repo, branch, repositoryName, repository, startFrom)
-                                    .thenReturn(repository)
-                    )
+                    .flatMap(repository -> resumeFromCheckpoint
+                            ? Mono.just(repository)
+                            : persistenceService.clearCheckpoints(repository.getRepositoryId(), branch).thenReturn(repository))
+                    .flatMap(repository -> {
+                        // Incremental 모드: 저장된 Watermark 이후 변경분만 조회
+                        Mono<GithubSyncWatermarks> watermarksMono = mode == GithubSyncMode.INCREMENTAL
+                                ? persistenceService.findWatermarks(repository.getRepositoryId(), branch)
+                                : Mono.just(GithubSyncWatermarks.none());
+
+                        // Step 2-7: 모든 동기화 단계 순차 실행
+                        return watermarksMono.flatMap(watermarks ->
+                                syncAllSteps(userId, owner, repo, branch, repositoryName, repository, resumePoint, mode,
+                                        watermarks)
+                                        .thenReturn(repository)
+                        );
+                    })
                     .flatMap(repository -> {
                         // 동기화 완료 처리
                         repository.updateSyncInfo(branch, GithubRepository.SyncStatus.COMPLETED);
                         return persistenceService.saveRepository(repository);
                     })
+                    // 모든 단계 완료 -> 재시작 위치 불필요
+                    .flatMap(repository -> persistenceService.clearCheckpoints(repository.getRepositoryId(), branch)
+                            .thenReturn(repository))
+                    .flatMap(repository -> {
+                        // 처음부터 모든 단계를 수행한 경우에만 Watermark 갱신 (재시도는 앞 단계가 이전 실행분이므로 제외)
+                        // PR / Issue 단위 실패는 삼키지 않고 전파되므로 여기까지 오면 실패한 항목이 없음
+                        if (startFrom != GithubSyncStep.REPOSITORY_INFO) {
+                            return Mono.just(repository);
+                        }
+                        return persistenceService.saveWatermarks(repository, branch, syncStartedAt.minus(WATERMARK_OVERLAP))
+                                .thenReturn(repository);
+                    })
                     .doOnSuccess(repository -> {
                         long duration = System.currentTimeMillis() - startTime;
-                        String completeMsg = String.format("Github Full Sync Completed for %s@%s | Time Used: %ds",
-                                repositoryName, branch, duration / 1000);
+                        String completeMsg = String.format("%s Completed for %s@%s | Time Used: %ds",
+                                syncLabel, repositoryName, branch, duration / 1000);
 
                         GithubSyncProgress progress = GithubSyncProgress.of(
                                 GithubSyncStep.COMPLETED,
@@ -93,12 +197,12 @@ public class GithubSyncService {
                                 completeMsg
                         );
                         publishProgressMessage(userId, SseEventType.COMPLETED, completeMsg, progress);
-                        log.info("[GITHUB][FULL SYNC] All Steps Completed - Time Used: {}ms", duration);
+                        log.info("[GITHUB][{}] All Steps Completed - Time Used: {}ms", mode, duration);
                     })
                     .doOnError(e -> {
-                        log.error("[GITHUB][FULL SYNC] FAILED for {}/{}@{}", owner, repo, branch, e);
+                        log.error("[GITHUB][{}] FAILED for {}/{}@{}", mode, owner, repo, branch, e);
                         publishSimpleMessage(userId, SseEventType.FAILED,
-                                "Github Full Sync Failed for " + repositoryName + "@" + branch + ": " + e.getMessage());
+                                syncLabel + " Failed for " + repositoryName + "@" + branch + ": " + e.getMessage());
                     })
                     .then();
         });
@@ -106,36 +210,52 @@ public class GithubSyncService {
 
     /**
      * 모든 동기화 단계 순차 실행
+     * 단계마다 시작 / 완료를 Checkpoint로 기록
      */
     private Mono<Void> syncAllSteps(Long userId, String owner, String repo, String branch,
-                                    String repositoryName, GithubRepository repository, GithubSyncStep startFrom) {
+                                    String repositoryName, GithubRepository repository, GithubSyncResumePoint resumePoint,
+                                    GithubSyncMode mode, GithubSyncWatermarks watermarks) {
+        GithubSyncStep startFrom = resumePoint.step();
+        // Step 5-7은 하나의 단계로 실행되므로 실제 시작 단계 기준으로 Checkpoint 기록
+        GithubSyncStep enrichmentStep = shouldExecute(startFrom, GithubSyncStep.COMMENTS)
+                ? GithubSyncStep.COMMENTS
+                : startFrom;
+
         return Mono.empty()
                 // Step 2: Commits
                 .then(shouldExecute(startFrom, GithubSyncStep.COMMITS)
-                        ? syncCommitsStep(userId, owner, repo, branch, repositoryName, repository)
+                        ? withCheckpoint(repository, branch, GithubSyncStep.COMMITS, mode,
+                        syncCommitsStep(userId, owner, repo, branch, repositoryName, repository, watermarks.commits(),
+                                resumePoint.forStep(GithubSyncStep.COMMITS)))
                         : Mono.empty())
                 // Step 3: Pull Requests
                 .then(shouldExecute(startFrom, GithubSyncStep.PULL_REQUESTS)
-                        ? syncPullRequestsStep(userId, owner, repo, branch, repositoryName, repository)
+                        ? withCheckpoint(repository, branch, GithubSyncStep.PULL_REQUESTS, mode,
+                        syncPullRequestsStep(userId, owner, repo, branch, repositoryName, repository, watermarks.pullRequests()))
                         : Mono.empty())
                 // Step 4: Issues
                 .then(shouldExecute(startFrom, GithubSyncStep.ISSUES)
-                        ? syncIssuesStep(userId, owner, repo, repositoryName, repository)
+                        ? withCheckpoint(repository, branch, GithubSyncStep.ISSUES, mode,
+                        syncIssuesStep(userId, owner, repo, repositoryName, repository, watermarks.issues()))
                         : Mono.empty())
-                // Step 5: Comments
-                .then(shouldExecute(startFrom, GithubSyncStep.COMMENTS)
-                        ? syncCommentsStep(userId, owner, repo, repositoryName, repository)
-                        : Mono.empty())
-                // Step 6: Reviews
-                .then(shouldExecute(startFrom, GithubSyncStep.REVIEWS)
-                        ? syncReviewsStep(userId, owner, repo, repositoryName, repository)
-                        : Mono.empty())
-                // Step 7: File Changes
+                // Step 5-7: Comments / Reviews / File Changes (PR 단위 통합 단계)
                 .then(shouldExecute(startFrom, GithubSyncStep.FILE_CHANGES)
-                        ? syncFileChangesStep(userId, owner, repo, repositoryName, repository)
+                        ? withCheckpoint(repository, branch, enrichmentStep, mode,
+                        syncPullRequestEnrichmentStep(userId, owner, repo, branch, repositoryName, repository,
+                                enrichmentStep, resumePoint.forStep(enrichmentStep), watermarks))
                         : Mono.empty());
     }
 
+    /**
+     * 단계 시작 시 Checkpoint 생성, 정상 종료 시 완료 처리 (실패 시 미완료로 남아 재시작 위치가 됨)
+     */
+    private Mono<Void> withCheckpoint(GithubRepository repository, String branch, GithubSyncStep step,
+                                      GithubSyncMode mode, Mono<Void> stepMono) {
+        return persistenceService.startCheckpoint(repository, branch, step, mode)
+                .then(stepMono)
+                .then(persistenceService.completeCheckpoint(repository.getRepositoryId(), branch, step));
+    }
+
     // ==================== Private Step Methods ====================
 
     private Mono<GithubRepository> syncRepositoryInfo(Long userId, String owner, String repo, String branch, String repositoryName) {
@@ -161,12 +281,25 @@ public class GithubSyncService {
     }
 
     private Mono<Void> syncCommitsStep(Long userId, String owner, String repo, String branch,
-                                       String repositoryName, GithubRepository repository) {
-        log.info("[GITHUB][SYNC] Step 2: Syncing commits for branch: {}", branch);
+                                       String repositoryName, GithubRepository repository, LocalDateTime since,
+                                       GithubSyncResumePoint resumePoint) {
+        log.info("[GITHUB][SYNC] Step 2: Syncing commits for branch: {} (resume after page: {})",
+                branch, resumePoint.lastPage());
         publishSimpleMessage(userId, SseEventType.IN_PROGRESS,
                 "Syncing commits for " + repositoryName + "@" + branch);
 
-        return githubProcessor.processCommits(repository, owner, repo, branch, null)
+        return githubProcessor.processCommits(repository, owner, repo, branch,
+                        GithubSyncWatermarks.toSinceParam(since), resumePoint.lastPage() + 1, windowCount -> {
+                    // Commit Window 저장 시마다 중간 진행 상황 전송
+                    GithubSyncProgress progress = GithubSyncProgress.of(
+                            GithubSyncStep.COMMITS,
+                            windowCount,
+                            repositoryName,
+                            "Commits in progress: " + windowCount.saved() + " saved (branch: " + branch + ")"
+                    );
+                    publishProgressMessage(userId, SseEventType.IN_PROGRESS,
+                            "Commits in progress: " + windowCount.saved(), progress);
+                })
                 .doOnSuccess(count -> {
                     GithubSyncProgress progress = GithubSyncProgress.of(
                             GithubSyncStep.COMMITS,
@@ -183,12 +316,13 @@ public class GithubSyncService {
     }
 
     private Mono<Void> syncPullRequestsStep(Long userId, String owner, String repo, String branch,
-                                            String repositoryName, GithubRepository repository) {
+                                            String repositoryName, GithubRepository repository, LocalDateTime since) {
         log.info("[GITHUB][SYNC] Step 3: Syncing pull requests with base: {}", branch);
         publishSimpleMessage(userId, SseEventType.IN_PROGRESS,
                 "Syncing pull requests for " + repositoryName + " (base: " + branch + ")");
 
-        return githubProcessor.processPullRequests(repository, owner, repo, branch, "all", null)
+        return githubProcessor.processPullRequests(repository, owner, repo, branch, "all",
+                        GithubSyncWatermarks.toSinceParam(since))
                 .doOnSuccess(count -> {
                     GithubSyncProgress progress = GithubSyncProgress.of(
                             GithubSyncStep.PULL_REQUESTS,
@@ -205,12 +339,13 @@ public class GithubSyncService {
     }
 
     private Mono<Void> syncIssuesStep(Long userId, String owner, String repo,
-                                      String repositoryName, GithubRepository repository) {
+                                      String repositoryName, GithubRepository repository, LocalDateTime since) {
         log.info("[GITHUB][SYNC] Step 4: Syncing issues");
         publishSimpleMessage(userId, SseEventType.IN_PROGRESS,
                 "Syncing issues for " + repositoryName);
 
-        return githubProcessor.processIssues(repository, owner, repo, "all", null)
+        return githubProcessor.processIssues(repository, owner, repo, "all",
+                        GithubSyncWatermarks.toSinceParam(since))
                 .doOnSuccess(count -> {
                     GithubSyncProgress progress = GithubSyncProgress.of(
                             GithubSyncStep.ISSUES,
@@ -226,140 +361,98 @@ public class GithubSyncService {
                 .then();
     }
 
-    private Mono<Void> syncCommentsStep(Long userId, String owner, String repo, String repositoryName,
-                                        GithubRepository repository) {
-        log.info("[GITHUB][SYNC] Step 5: Syncing comments");
-        publishSimpleMessage(userId, SseEventType.IN_PROGRESS,
-                "Syncing comments for " + repositoryName);
-
-        return syncAllComments(owner, repo, repository)
-                .doOnSuccess(count -> {
-                    GithubSyncProgress progress = GithubSyncProgress.of(
-                            GithubSyncStep.COMMENTS,
-                            count,
-                            repositoryName,
-                            "Comments synced: " + count.saved()
-                    );
-                    publishProgressMessage(userId, SseEventType.IN_PROGRESS,
-                            "Comments synced: " + count.saved(), progress);
-                    log.info("[GITHUB][SYNC] Comments completed - total: {}, saved: {}",
-                            count.totalFetched(), count.saved());
-                })
-                .then();
-    }
-
-    private Mono<Void> syncReviewsStep(Long userId, String owner, String repo, String repositoryName,
-                                       GithubRepository repository) {
-        log.info("[GITHUB][SYNC] Step 6: Syncing reviews");
+    /**
+     * Step 5-7 통합 단계
+     * Repository / PR 엔티티를 한 번만 조회하고, PR마다 Review Comment / Review / File을 동시에 조회해 함께 저장
+     * 진행 상황은 기존과 동일하게 COMMENTS / REVIEWS / FILE_CHANGES 단계별로 전송
+     */
+    private Mono<Void> syncPullRequestEnrichmentStep(Long userId, String owner, String repo, String branch,
+                                                     String repositoryName, GithubRepository repository,
+                                                     GithubSyncStep startFrom, GithubSyncResumePoint resumePoint,
+                                                     GithubSyncWatermarks watermarks) {
+        boolean syncComments = shouldExecute(startFrom, GithubSyncStep.COMMENTS);
+        boolean syncReviews = shouldExecute(startFrom, GithubSyncStep.REVIEWS);
+
+        Set<GithubPullRequestPart> parts = EnumSet.of(GithubPullRequestPart.FILES);
+        if (syncReviews) parts.add(GithubPullRequestPart.REVIEWS);
+        if (syncComments) parts.add(GithubPullRequestPart.REVIEW_COMMENTS);
+
+        log.info("[GITHUB][SYNC] Step 5-7: Syncing PR details {} (resume after PR #{}, issue #{})",
+                parts, resumePoint.lastPullRequestNumber(), resumePoint.lastIssueNumber());
         publishSimpleMessage(userId, SseEventType.IN_PROGRESS,
-                "Syncing reviews for " + repositoryName);
-
-        return syncAllReviews(owner, repo, repository)
-                .doOnSuccess(count -> {
-                    GithubSyncProgress progress = GithubSyncProgress.of(
-                            GithubSyncStep.REVIEWS,
-                            count,
-                            repositoryName,
-                            "Reviews synced: " + count.saved()
-                    );
-                    publishProgressMessage(userId, SseEventType.IN_PROGRESS,
-                            "Reviews synced: " + count.saved(), progress);
-                    log.info("[GITHUB][SYNC] Reviews completed - total: {}, saved: {}",
-                            count.totalFetched(), count.saved());
+                "Syncing comments, reviews and file changes for " + repositoryName);
+
+        Mono<PullRequestEnrichmentCount> pullRequestDetails = persistenceService
+                .findPullRequestsUpdatedSince(repository.getRepositoryId(), watermarks.pullRequests())
+                .map(pullRequests -> pullRequests.stream()
+                        .filter(pr -> pr.getNumber() > resumePoint.lastPullRequestNumber())
+                        .toList())
+                .flatMap(pullRequests -> githubProcessor.processPullRequestEnrichment(
+                        repository, owner, repo, branch, pullRequests, parts, startFrom));
+
+        Mono<SyncCount> issueComments = syncComments
+                ? syncIssueComments(owner, repo, branch, repository, watermarks.issues(), startFrom,
+                resumePoint.lastIssueNumber())
+                : Mono.just(SyncCount.empty());
+
+        return Mono.zip(pullRequestDetails, issueComments)
+                .doOnSuccess(tuple -> {
+                    PullRequestEnrichmentCount count = tuple.getT1();
+                    if (syncComments) {
+                        publishStepCompleted(userId, repositoryName, GithubSyncStep.COMMENTS,
+                                count.reviewComments().plus(tuple.getT2()), "Comments synced: ");
+                    }
+                    if (syncReviews) {
+                        publishStepCompleted(userId, repositoryName, GithubSyncStep.REVIEWS,
+                                count.reviews(), "Reviews synced: ");
+                    }
+                    publishStepCompleted(userId, repositoryName, GithubSyncStep.FILE_CHANGES,
+                            count.fileChanges(), "File changes synced: ");
                 })
                 .then();
     }
 
-    private Mono<Void> syncFileChangesStep(Long userId, String owner, String repo, String repositoryName,
-                                           GithubRepository repository) {
-        log.info("[GITHUB][SYNC] Step 7: Syncing PR file changes");
-        publishSimpleMessage(userId, SseEventType.IN_PROGRESS,
-                "Syncing file changes for " + repositoryName);
-
-        return syncAllFileChanges(owner, repo, repository)
-                .doOnSuccess(count -> {
-                    GithubSyncProgress progress = GithubSyncProgress.of(
-                            GithubSyncStep.FILE_CHANGES,
-                            count,
-                            repositoryName,
-                            "File changes synced: " + count.saved()
-                    );
-                    publishProgressMessage(userId, SseEventType.IN_PROGRESS,
-                            "File changes synced: " + count.saved(), progress);
-                    log.info("[GITHUB][SYNC] File changes completed - total: {}, saved: {}",
-                            count.totalFetched(), count.saved());
-                })
-                .then();
+    private void publishStepCompleted(Long userId, String repositoryName, GithubSyncStep step,
+                                      SyncCount count, String messagePrefix) {
+        GithubSyncProgress progress = GithubSyncProgress.of(
+                step,
+                count,
+                repositoryName,
+                messagePrefix + count.saved()
+        );
+        publishProgressMessage(userId, SseEventType.IN_PROGRESS, messagePrefix + count.saved(), progress);
+        log.info("[GITHUB][SYNC] {} completed - total: {}, saved: {}",
+                step, count.totalFetched(), count.saved());
     }
 
     // ==================== Private Helper Methods ====================
 
-    private Mono<SyncCount> syncAllComments(String owner, String repo, GithubRepository repository) {
-        Mono<SyncCount> prComments = persistenceService.findAllPullRequests(repository.getRepositoryId())
-                .flatMapMany(Flux::fromIterable)
-                .flatMap(pr ->
-                        githubProcessor.processPullRequestComments(owner, repo, pr.getNumber())
-                                .onErrorResume(e -> {
-                                    log.error("[GITHUB][SYNC] Failed to sync comments for PR #{}", pr.getNumber(), e);
-                                    return Mono.just(SyncCount.empty());
-                                })
-                )
-                .reduce(SyncCount.empty(), (acc, count) ->
-                        SyncCount.of(acc.totalFetched() + count.totalFetched(),
-                                acc.saved() + count.saved())
-                );
-
-        Mono<SyncCount> issueComments = persistenceService.findAllIssues(repository.getRepositoryId())
-                .flatMapMany(Flux::fromIterable)
-                .flatMap(issue ->
-                        githubProcessor.processIssueComments(owner, repo, issue.getNumber())
-                                .onErrorResume(e -> {
-                                    log.error("[GITHUB][SYNC] Failed to sync comments for issue #{}", issue.getNumber(), e);
-                                    return Mono.just(SyncCount.empty());
-                                })
-                )
-                .reduce(SyncCount.empty(), (acc, count) ->
-                        SyncCount.of(acc.totalFetched() + count.totalFetched(),
-                                acc.saved() + count.saved())
-                );
-
-        return Mono.zip(prComments, issueComments)
-                .map(tuple -> SyncCount.of(
-                        tuple.getT1().totalFetched() + tuple.getT2().totalFetched(),
-                        tuple.getT1().saved() + tuple.getT2().saved()
-                ));
-    }
-
-    private Mono<SyncCount> syncAllReviews(String owner, String repo, GithubRepository repository) {
-        return persistenceService.findAllPullRequests(repository.getRepositoryId())
-                .flatMapMany(Flux::fromIterable)
-                .flatMap(pr ->
-                        githubProcessor.processPullRequestReviews(owner, repo, pr.getNumber())
-                                .onErrorResume(e -> {
-                                    log.error("[GITHUB][SYNC] Failed to sync reviews for PR #{}", pr.getNumber(), e);
-                                    return Mono.just(SyncCount.empty());
-                                })
-                )
-                .reduce(SyncCount.empty(), (acc, count) ->
-                        SyncCount.of(acc.totalFetched() + count.totalFetched(),
-                                acc.saved() + count.saved())
-                );
-    }
+    /**
+     * Issue Comments 동기화
+     * Issue 번호 오름차순으로 처리하고 pullRequestBatchSize개마다 마지막 Issue 번호를 Checkpoint로 기록
+     */
+    private Mono<SyncCount> syncIssueComments(String owner, String repo, String branch, GithubRepository repository,
+                                              LocalDateTime issuesSince, GithubSyncStep checkpointStep,
+                                              int resumeAfterNumber) {
+        GithubProperties.SyncProperties syncProperties = githubProperties.getSync();
 
-    private Mono<SyncCount> syncAllFileChanges(String owner, String repo, GithubRepository repository) {
-        return persistenceService.findAllPullRequests(repository.getRepositoryId())
+        return persistenceService.findIssuesUpdatedSince(repository.getRepositoryId(), issuesSince)
                 .flatMapMany(Flux::fromIterable)
-                .flatMap(pr ->
-                        githubProcessor.processPullRequestFileChanges(owner, repo, pr.getNumber())
-                                .onErrorResume(e -> {
-                                    log.error("[GITHUB][SYNC] Failed to sync file changes for PR #{}", pr.getNumber(), e);
-                                    return Mono.just(SyncCount.empty());
-                                })
+                .filter(issue -> issue.getNumber() > resumeAfterNumber)
+                .sort(Comparator.comparing(GithubIssue::getNumber))
+                .flatMapSequential(issue ->
+                                githubProcessor.processIssueComments(repository, owner, repo, issue)
+                                        .map(count -> Tuples.of(issue.getNumber(), count)),
+                        syncProperties.getPullRequestConcurrency()
                 )
-                .reduce(SyncCount.empty(), (acc, count) ->
-                        SyncCount.of(acc.totalFetched() + count.totalFetched(),
-                                acc.saved() + count.saved())
-                );
+                .buffer(syncProperties.getPullRequestBatchSize())
+                .concatMap(batch -> persistenceService
+                        .saveIssueCheckpoint(repository.getRepositoryId(), branch, checkpointStep,
+                                batch.get(batch.size() - 1).getT1())
+                        .then(Mono.fromCallable(() -> batch.stream()
+                                .map(Tuple2::getT2)
+                                .reduce(SyncCount.empty(), SyncCount::plus))))
+                .reduce(SyncCount.empty(), SyncCount::plus);
     }
 
     private boolean shouldExecute(GithubSyncStep startFrom, GithubSyncStep target) {
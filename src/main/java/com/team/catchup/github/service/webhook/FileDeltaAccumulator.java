@@ -0,0 +1,130 @@
+package com.team.catchup.github.service.webhook;
+
+import com.team.catchup.github.entity.GithubFileChange.FileChangeType;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 파일 경로별 변경 누적 (순서대로 적용한 최종 변경만 유지)
+ * - ADDED -> MODIFIED = ADDED, ADDED -> DELETED = 변경 없음 (항목 제거)
+ * - DELETED -> ADDED / MODIFIED = MODIFIED, MODIFIED -> DELETED = DELETED
+ * 누적 결과끼리 merge해도 같은 규칙이 적용되므로 Push 단위 결과를 묶음 단위로 다시 합칠 수 있다.
+ * 이름 변경은 Push payload에 ADDED / DELETED 쌍으로만 나타나므로, 누적이 끝난 뒤 markRenamed로 합친다.
+ */
+public class FileDeltaAccumulator {
+
+    private final Map<String, FileDelta> deltas = new LinkedHashMap<>();
+
+    public void record(String path, FileChangeType changeType) {
+        FileChangeType next = normalize(changeType);
+        FileDelta previous = deltas.get(path);
+        if (previous == null) {
+            deltas.put(path, FileDelta.of(next));
+            return;
+        }
+
+        FileChangeType combined = combine(previous.changeType(), next);
+        if (combined == null) {
+            deltas.remove(path);
+        } else {
+            deltas.put(path, FileDelta.of(combined));
+        }
+    }
+
+    public void merge(FileDeltaAccumulator other) {
+        other.deltas.forEach((path, delta) -> record(path, delta.changeType()));
+    }
+
+    /**
+     * previousPath 삭제 + path 추가 쌍을 이름 변경 1건으로 합침
+     * @param contentChanged 이름 변경과 함께 내용도 바뀌었는지 여부
+     * @return 두 경로가 각각 DELETED / ADDED로 누적되어 있어 합쳤으면 true
+     */
+    public boolean markRenamed(String path, String previousPath, boolean contentChanged) {
+        FileDelta added = deltas.get(path);
+        FileDelta removed = deltas.get(previousPath);
+        if (added == null || added.changeType() != FileChangeType.ADDED
+                || removed == null || removed.changeType() != FileChangeType.DELETED) {
+            return false;
+        }
+
+        deltas.remove(previousPath);
+        deltas.put(path, new FileDelta(FileChangeType.RENAMED, previousPath, contentChanged));
+        return true;
+    }
+
+    /**
+     * 이름 변경 후보(추가와 삭제가 함께 있는 경우) 존재 여부
+     */
+    public boolean hasRenameCandidates() {
+        boolean added = false;
+        boolean deleted = false;
+        for (FileDelta delta : deltas.values()) {
+            added |= delta.changeType() == FileChangeType.ADDED;
+            deleted |= delta.changeType() == FileChangeType.DELETED;
+            if (added && deleted) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public Map<String, FileDelta> deltas() {
+        return Collections.unmodifiableMap(deltas);
+    }
+
+    /**
+     * 변경된 경로 목록 (이름 변경의 이전 경로 포함)
+     */
+    public List<String> changedPaths() {
+        Set<String> paths = new LinkedHashSet<>();
+        deltas.forEach((path, delta) -> {
+            paths.add(path);
+            if (delta.previousPath() != null) {
+                paths.add(delta.previousPath());
+            }
+        });
+        return List.copyOf(paths);
+    }
+
+    public boolean isEmpty() {
+        return deltas.isEmpty();
+    }
+
+    public int size() {
+        return deltas.size();
+    }
+
+    /**
+     * @return 합친 변경 (null이면 윈도우 이전에도 이후에도 없는 파일)
+     */
+    private FileChangeType combine(FileChangeType previous, FileChangeType next) {
+        return switch (previous) {
+            case ADDED -> next == FileChangeType.DELETED ? null : FileChangeType.ADDED;
+            case DELETED -> next == FileChangeType.DELETED ? FileChangeType.DELETED : FileChangeType.MODIFIED;
+            default -> next == FileChangeType.DELETED ? FileChangeType.DELETED : FileChangeType.MODIFIED;
+        };
+    }
+
+    // 이름 변경 / 복사는 새 경로 기준으로 추가와 동일하게 취급
+    private FileChangeType normalize(FileChangeType changeType) {
+        return changeType == FileChangeType.RENAMED || changeType == FileChangeType.COPIED
+                ? FileChangeType.ADDED
+                : changeType;
+    }
+
+    /**
+     * @param previousPath RENAMED인 경우 이전 경로
+     * @param contentChanged 파일 내용 변경 여부 (삭제, 내용 변경 없는 이름 변경이면 false)
+     */
+    public record FileDelta(FileChangeType changeType, String previousPath, boolean contentChanged) {
+        static FileDelta of(FileChangeType changeType) {
+            return new FileDelta(changeType, null, changeType != FileChangeType.DELETED);
+        }
+    }
+}
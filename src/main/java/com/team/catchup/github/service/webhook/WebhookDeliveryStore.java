@@ -0,0 +1,84 @@
+package com.team.catchup.github.service.webhook;
+
+import com.team.catchup.github.config.WebhookProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * X-GitHub-Delivery 기준 Webhook 중복 처리 방지 (Redis)
+ * 처리 시작 시 처리 중(in-flight)으로 선점하고, 성공하면 완료로 보관, 실패하면 선점을 해제해 재전송을 허용한다.
+ * Redis 장애 시에는 처리를 막지 않도록 중복 검사 없이 진행한다.
+ */
+@Slf4j
+@Component
+public class WebhookDeliveryStore {
+
+    private static final String KEY_PREFIX = "github:webhook:delivery:";
+    private static final String IN_FLIGHT = "in-flight";
+    private static final String COMPLETED = "completed";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final WebhookProperties.Delivery properties;
+
+    public WebhookDeliveryStore(RedisTemplate<String, String> redisTemplate, WebhookProperties webhookProperties) {
+        this.redisTemplate = redisTemplate;
+        this.properties = webhookProperties.getDelivery();
+    }
+
+    /**
+     * 처리 선점
+     * @return 처음 처리하는 Delivery면 true, 처리 중이거나 이미 처리된 Delivery면 false
+     */
+    public boolean tryAcquire(String deliveryId) {
+        if (deliveryId == null) {
+            return true;
+        }
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(
+                    KEY_PREFIX + deliveryId, IN_FLIGHT, Duration.ofSeconds(properties.getInFlightTtlSeconds()));
+            return !Boolean.FALSE.equals(acquired);
+        } catch (Exception e) {
+            log.warn("[Webhook][Delivery] Failed to acquire delivery {} - processing without deduplication",
+                    deliveryId, e);
+            return true;
+        }
+    }
+
+    public boolean isCompleted(String deliveryId) {
+        if (deliveryId == null) {
+            return false;
+        }
+        try {
+            return COMPLETED.equals(redisTemplate.opsForValue().get(KEY_PREFIX + deliveryId));
+        } catch (Exception e) {
+            log.warn("[Webhook][Delivery] Failed to read delivery {}", deliveryId, e);
+            return false;
+        }
+    }
+
+    public void complete(String deliveryId) {
+        if (deliveryId == null) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(
+                    KEY_PREFIX + deliveryId, COMPLETED, Duration.ofHours(properties.getTtlHours()));
+        } catch (Exception e) {
+            log.warn("[Webhook][Delivery] Failed to mark delivery {} as completed", deliveryId, e);
+        }
+    }
+
+    public void release(String deliveryId) {
+        if (deliveryId == null) {
+            return;
+        }
+        try {
+            redisTemplate.delete(KEY_PREFIX + deliveryId);
+        } catch (Exception e) {
+            log.warn("[Webhook][Delivery] Failed to release delivery {}", deliveryId, e);
+        }
+    }
+}
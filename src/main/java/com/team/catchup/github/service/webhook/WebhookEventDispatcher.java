@@ -0,0 +1,144 @@
+package com.team.catchup.github.service.webhook;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Webhook Event 유형별 처리 분기
+ * 동기 처리(Controller)와 Inbox Queue Consumer가 공통으로 사용
+ * - X-GitHub-Delivery 기준 중복 처리 방지
+ * - 같은 PR / Issue / Branch 이벤트는 같은 파티션에서 순차 처리
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class WebhookEventDispatcher {
+
+    public static final String PUSH_EVENT = "push";
+    public static final String PULL_REQUEST_EVENT = "pull_request";
+    public static final String ISSUES_EVENT = "issues";
+
+    private static final Set<String> SUPPORTED_EVENTS = Set.of(PUSH_EVENT, PULL_REQUEST_EVENT, ISSUES_EVENT);
+
+    private final WebhookEventService webhookEventService;
+    private final WebhookDeliveryStore deliveryStore;
+    private final WebhookPartitionedExecutor partitionedExecutor;
+    private final ObjectMapper objectMapper;
+
+    public boolean supports(String eventType) {
+        return SUPPORTED_EVENTS.contains(eventType);
+    }
+
+    public boolean isDuplicate(String deliveryId) {
+        return deliveryStore.isCompleted(deliveryId);
+    }
+
+    public void dispatch(String eventType, String deliveryId, byte[] payload) throws Exception {
+        if (!deliveryStore.tryAcquire(deliveryId)) {
+            log.info("[Webhook] Skipping duplicate {} event (delivery: {})", eventType, deliveryId);
+            return;
+        }
+
+        try {
+            partitionedExecutor.execute(partitionKey(eventType, payload), () -> {
+                handle(eventType, payload);
+                return null;
+            });
+        } catch (Exception e) {
+            // 선점 해제 -> 재시도 / GitHub 재전송 시 다시 처리
+            deliveryStore.release(deliveryId);
+            throw e;
+        }
+        deliveryStore.complete(deliveryId);
+    }
+
+    private void handle(String eventType, byte[] payload) throws IOException {
+        switch (eventType) {
+            case PUSH_EVENT -> {
+                webhookEventService.handlePushEvent(payload);
+                log.info("[Webhook] Successfully processed push event");
+            }
+            case PULL_REQUEST_EVENT -> {
+                webhookEventService.handlePrEvent(payload);
+                log.info("[Webhook] Successfully processed pull_request event");
+            }
+            case ISSUES_EVENT -> {
+                webhookEventService.handleIssueEvent(payload);
+                log.info("[Webhook] Successfully processed issues event");
+            }
+            default -> log.debug("[Webhook] Unsupported event type: {}", eventType);
+        }
+    }
+
+    /**
+     * 순차 처리 단위: push는 Repository + ref, PR / Issue는 Repository + 번호
+     * payload는 Handler가 다시 역직렬화하므로 트리를 만들지 않고 Streaming으로 필요한 키만 읽고,
+     * 키를 모두 찾으면 나머지는 읽지 않음
+     */
+    private String partitionKey(String eventType, byte[] payload) throws IOException {
+        String objectField = switch (eventType) {
+            case PULL_REQUEST_EVENT -> "pull_request";
+            case ISSUES_EVENT -> "issue";
+            default -> null;
+        };
+
+        String repositoryId = null;
+        String ref = null;
+        String number = null;
+        try (JsonParser parser = objectMapper.getFactory().createParser(payload)) {
+            if (parser.nextToken() == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    JsonToken value = parser.nextToken();
+                    if ("repository".equals(field) && value == JsonToken.START_OBJECT) {
+                        repositoryId = readScalarField(parser, "id");
+                    } else if (objectField == null && "ref".equals(field) && value.isScalarValue()) {
+                        ref = parser.getText();
+                    } else if (objectField != null && objectField.equals(field) && value == JsonToken.START_OBJECT) {
+                        number = readScalarField(parser, "number");
+                    } else {
+                        parser.skipChildren();
+                    }
+
+                    if (repositoryId != null && (objectField == null ? ref != null : number != null)) {
+                        break;
+                    }
+                }
+            }
+        }
+
+        return switch (eventType) {
+            case PULL_REQUEST_EVENT -> valueOrEmpty(repositoryId) + ":pr:" + valueOrEmpty(number);
+            case ISSUES_EVENT -> valueOrEmpty(repositoryId) + ":issue:" + valueOrEmpty(number);
+            default -> valueOrEmpty(repositoryId) + ":push:" + valueOrEmpty(ref);
+        };
+    }
+
+    /**
+     * 현재 객체의 직속 필드 값을 읽고 객체 끝까지 건너뜀 (하위 객체는 트리로 만들지 않음)
+     */
+    private String readScalarField(JsonParser parser, String name) throws IOException {
+        String result = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (result == null && name.equals(field) && value.isScalarValue()) {
+                result = parser.getText();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return result;
+    }
+
+    private String valueOrEmpty(String value) {
+        return value != null ? value : "";
+    }
+}
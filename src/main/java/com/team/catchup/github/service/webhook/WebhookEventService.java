@@ -1,6 +1,5 @@
 package com.team.catchup.github.service.webhook;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.team.catchup.common.config.RabbitConfig;
 import com.team.catchup.github.dto.webhook.WebhookPrIssuePayload;
@@ -11,7 +10,7 @@ import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.io.IOException;
 
 @Service
 @Slf4j
@@ -20,40 +19,40 @@ public class WebhookEventService {
 
     private final ObjectMapper objectMapper;
     private final WebhookPushHandler pushHandler;
+    private final WebhookPushCoalescer pushCoalescer;
     private final WebhookPrHandler prHandler;
     private final WebhookIssueHandler issueHandler;
     private final RabbitTemplate rabbitTemplate;
 
     @Transactional
-    public void handlePushEvent(String payload) throws JsonProcessingException {
+    public void handlePushEvent(byte[] payload) throws IOException {
         WebhookPushPayload pushPayload = objectMapper.readValue(payload, WebhookPushPayload.class);
 
         String owner = pushPayload.getRepository().getOwner().getLogin();
         String repo = pushPayload.getRepository().getName();
-        Long repositoryId = pushPayload.getRepository().getId();
         String branchName = pushPayload.getBranchName();
 
         log.info("[Webhook][Push] Processing push event for {}/{} (branch: {}) - {} commits",
                 owner, repo, branchName, pushPayload.getCommits().size());
 
-        // Commit 메타데이터 저장 및 변경된 파일 경로 수집
-        List<String> changedFilePaths = pushHandler.handlePushEvent(pushPayload);
+        // Commit 메타데이터 저장 및 파일별 변경 누적
+        WebhookPushHandler.PushChanges changes = pushHandler.handlePushEvent(pushPayload);
 
-        // targetBranch가 아니면 빈 리스트 반환되어 이벤트 발행하지 않음
-        if (changedFilePaths.isEmpty()) {
+        // targetBranch가 아니거나 새 Commit이 없으면 이벤트 발행하지 않음
+        if (changes.delta().isEmpty()) {
             log.info("[Webhook][Push] No changes to publish for {}/{}", owner, repo);
             return;
         }
 
-        // Worker에게 Event Publishing
-        publishPushWorkerEvent(repositoryId, owner, repo, pushPayload.getRef(), branchName, changedFilePaths);
+        // 같은 Repository / Branch Push와 묶어서 Worker에게 Event Publishing
+        pushCoalescer.submit(pushPayload, changes);
 
         log.info("[Webhook][Push] Completed push event processing for {}/{} (branch: {}) - {} files changed",
-                owner, repo, branchName, changedFilePaths.size());
+                owner, repo, branchName, changes.delta().size());
     }
 
     @Transactional
-    public void handlePrEvent(String payload) throws JsonProcessingException {
+    public void handlePrEvent(byte[] payload) throws IOException {
         WebhookPrIssuePayload prPayload = objectMapper.readValue(payload, WebhookPrIssuePayload.class);
 
         String owner = prPayload.getRepository().getOwner().getLogin();
@@ -64,8 +63,10 @@ public class WebhookEventService {
         log.info("[Webhook][PR] Processing PR event - action: {}, PR #{} in {}/{}",
                 action, prNumber, owner, repo);
 
-        // PR 메타데이터 저장/업데이트
-        prHandler.handlePrEvent(prPayload);
+        // PR 메타데이터 저장/업데이트 (이미 더 최신 상태면 Worker 재처리 생략)
+        if (!prHandler.handlePrEvent(prPayload)) {
+            return;
+        }
 
         // Worker에게 Event Publishing
         publishPrWorkerEvent(prPayload.getRepository().getId(), owner, repo, prNumber, action);
@@ -75,7 +76,7 @@ public class WebhookEventService {
     }
 
     @Transactional
-    public void handleIssueEvent(String payload) throws JsonProcessingException {
+    public void handleIssueEvent(byte[] payload) throws IOException {
         WebhookPrIssuePayload issuePayload = objectMapper.readValue(payload, WebhookPrIssuePayload.class);
 
         String owner = issuePayload.getRepository().getOwner().getLogin();
@@ -86,8 +87,10 @@ public class WebhookEventService {
         log.info("[Webhook][Issue] Processing issue event - action: {}, Issue #{} in {}/{}",
                 action, issueNumber, owner, repo);
 
-        // Issue 메타데이터 저장/업데이트
-        issueHandler.handleIssueEvent(issuePayload);
+        // Issue 메타데이터 저장/업데이트 (이미 더 최신 상태면 Worker 재처리 생략)
+        if (!issueHandler.handleIssueEvent(issuePayload)) {
+            return;
+        }
 
         // Worker에게 Event Publishing
         publishIssueWorkerEvent(issuePayload.getRepository().getId(), owner, repo, issueNumber, action);
@@ -96,26 +99,6 @@ public class WebhookEventService {
                 issueNumber, owner, repo);
     }
 
-    /**
-     * Push 이벤트를 Worker에게 전달
-     */
-    private void publishPushWorkerEvent(Long repositoryId, String owner, String repo,
-                                        String ref, String branch, List<String> changedFilePaths) {
-        WorkerEventMessage message = WorkerEventMessage.builder()
-                .eventType(WorkerEventMessage.EventType.PUSH)
-                .repositoryId(repositoryId)
-                .owner(owner)
-                .repo(repo)
-                .ref(ref)
-                .branch(branch)
-                .changedFilePaths(changedFilePaths)
-                .build();
-
-        rabbitTemplate.convertAndSend(RabbitConfig.GITHUB_REPOSITORY_QUEUE, message);
-        log.info("[Webhook] Published PUSH event to worker for {}/{} (branch: {}) - {} files changed",
-                owner, repo, branch, changedFilePaths.size());
-    }
-
     /**
      * Pull Request 이벤트를 Worker에게 전달
      */
@@ -0,0 +1,47 @@
+package com.team.catchup.github.service.webhook;
+
+import com.team.catchup.common.config.RabbitConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Webhook Inbox Consumer
+ * Inbox Queue의 원본 payload를 꺼내 기존 Webhook 처리 흐름(WebhookEventService)으로 전달한다.
+ * 동시 처리 수, 재시도, Dead Letter 처리는 RabbitConfig.webhookListenerContainerFactory 설정을 따른다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class WebhookInboxListener {
+
+    private final WebhookEventDispatcher eventDispatcher;
+
+    @RabbitListener(queues = RabbitConfig.GITHUB_PUSH_EVENT_QUEUE,
+            containerFactory = RabbitConfig.WEBHOOK_LISTENER_CONTAINER_FACTORY)
+    public void onPushEvent(Message message) throws Exception {
+        process(message);
+    }
+
+    @RabbitListener(queues = RabbitConfig.GITHUB_PR_ISSUE_EVENT_QUEUE,
+            containerFactory = RabbitConfig.WEBHOOK_LISTENER_CONTAINER_FACTORY)
+    public void onPrIssueEvent(Message message) throws Exception {
+        process(message);
+    }
+
+    private void process(Message message) throws Exception {
+        String eventType = message.getMessageProperties().getHeader(WebhookInboxPublisher.HEADER_EVENT);
+        String deliveryId = message.getMessageProperties().getHeader(WebhookInboxPublisher.HEADER_DELIVERY);
+
+        log.info("[Webhook][Inbox] Processing {} event (delivery: {})", eventType, deliveryId);
+        try {
+            eventDispatcher.dispatch(eventType, deliveryId, message.getBody());
+        } catch (Exception e) {
+            // 재시도 소진 시 DLQ로 이동하므로 payload는 Queue에 남음
+            log.error("[Webhook][Inbox] Failed to process {} event (delivery: {})", eventType, deliveryId, e);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.team.catchup.github.service.webhook;
+
+import com.team.catchup.common.config.RabbitConfig;
+import com.team.catchup.github.config.WebhookProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Webhook Inbox 적재
+ * 서명 검증을 통과한 원본 payload를 변환 없이 durable Queue에 저장하고,
+ * Broker의 저장 확인(Publisher Confirm)을 받은 뒤 반환한다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class WebhookInboxPublisher {
+
+    public static final String HEADER_EVENT = "X-GitHub-Event";
+    public static final String HEADER_DELIVERY = "X-GitHub-Delivery";
+
+    private final RabbitTemplate rabbitTemplate;
+    private final WebhookProperties webhookProperties;
+
+    public void enqueue(String eventType, String deliveryId, byte[] payload) {
+        String queue = WebhookEventDispatcher.PUSH_EVENT.equals(eventType)
+                ? RabbitConfig.GITHUB_PUSH_EVENT_QUEUE
+                : RabbitConfig.GITHUB_PR_ISSUE_EVENT_QUEUE;
+
+        Message message = MessageBuilder.withBody(payload)
+                .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                .setContentEncoding(StandardCharsets.UTF_8.name())
+                .setDeliveryMode(MessageDeliveryMode.PERSISTENT)
+                .setMessageId(deliveryId)
+                .setHeader(HEADER_EVENT, eventType)
+                .setHeader(HEADER_DELIVERY, deliveryId)
+                .build();
+
+        long confirmTimeoutMs = webhookProperties.getIngestion().getConfirmTimeoutMs();
+        rabbitTemplate.invoke(operations -> {
+            operations.send(queue, message);
+            operations.waitForConfirmsOrDie(confirmTimeoutMs);
+            return null;
+        });
+
+        log.info("[Webhook][Inbox] Queued {} event (delivery: {}, {} bytes) to {}",
+                eventType, deliveryId, message.getBody().length, queue);
+    }
+}
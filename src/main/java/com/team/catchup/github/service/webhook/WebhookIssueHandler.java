@@ -3,7 +3,8 @@ package com.team.catchup.github.service.webhook;
 import com.team.catchup.github.dto.webhook.WebhookPrIssuePayload;
 import com.team.catchup.github.entity.GithubIssue;
 import com.team.catchup.github.entity.GithubRepository;
-import com.team.catchup.github.repository.GithubIssueRepository;
+import com.team.catchup.github.repository.GithubBulkUpsertRepository;
+import com.team.catchup.github.repository.GithubBulkUpsertRepository.UpsertResult;
 import com.team.catchup.github.repository.GithubRepositoryRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,6 +12,7 @@ import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
+import java.util.List;
 
 @Component
 @Slf4j
@@ -18,9 +20,12 @@ import java.time.ZonedDateTime;
 public class WebhookIssueHandler {
 
     private final GithubRepositoryRepository repositoryRepository;
-    private final GithubIssueRepository issueRepository;
+    private final GithubBulkUpsertRepository bulkUpsertRepository;
 
-    public void handleIssueEvent(WebhookPrIssuePayload payload) {
+    /**
+     * @return 저장 또는 갱신되었으면 true, 이미 더 최신 상태가 저장되어 있으면 false
+     */
+    public boolean handleIssueEvent(WebhookPrIssuePayload payload) {
         String owner = payload.getRepository().getOwner().getLogin();
         String repo = payload.getRepository().getName();
 
@@ -37,37 +42,34 @@ public class WebhookIssueHandler {
         log.info("[Webhook][Issue] Processing Issue #{} for {}/{} - action: {}",
                 issueNumber, owner, repo, action);
 
-        // Issue 메타데이터 저장/업데이트
-        issueRepository.findById(issue.getId()).ifPresentOrElse(
-                existingIssue -> {
-                    GithubIssue.IssueStatus status = parseIssueStatus(issue.getState());
-                    LocalDateTime updatedAt = parseDateTime(issue.getUpdatedAt());
-                    LocalDateTime closedAt = parseDateTime(issue.getClosedAt());
+        GithubIssue incoming = GithubIssue.builder()
+                .issueId(issue.getId())
+                .repository(repository)
+                .number(issue.getNumber())
+                .title(issue.getTitle())
+                .status(parseIssueStatus(issue.getState()))
+                .authorLogin(issue.getUser() != null ? issue.getUser().getLogin() : null)
+                .createdAt(parseDateTime(issue.getCreatedAt()))
+                .updatedAt(parseDateTime(issue.getUpdatedAt()))
+                .closedAt(parseDateTime(issue.getClosedAt()))
+                .htmlUrl(issue.getHtmlUrl())
+                .build();
 
-                    existingIssue.updateFromWebhook(issue.getTitle(), status, updatedAt, closedAt);
-                    issueRepository.save(existingIssue);
+        // Issue 메타데이터 저장/업데이트 (저장된 updated_at보다 최신인 경우에만 갱신)
+        UpsertResult<Long> result = bulkUpsertRepository.upsertIssues(List.of(incoming));
 
-                    log.info("[Webhook][Issue] Updated Issue #{} for {}/{}", issueNumber, owner, repo);
-                },
-                () -> {
-                    GithubIssue newIssue = GithubIssue.builder()
-                            .issueId(issue.getId())
-                            .repository(repository)
-                            .number(issue.getNumber())
-                            .title(issue.getTitle())
-                            .status(parseIssueStatus(issue.getState()))
-                            .authorLogin(issue.getUser() != null ? issue.getUser().getLogin() : null)
-                            .createdAt(parseDateTime(issue.getCreatedAt()))
-                            .updatedAt(parseDateTime(issue.getUpdatedAt()))
-                            .closedAt(parseDateTime(issue.getClosedAt()))
-                            .htmlUrl(issue.getHtmlUrl())
-                            .build();
-
-                    issueRepository.save(newIssue);
+        if (result.inserted() > 0) {
+            log.info("[Webhook][Issue] Created new Issue #{} for {}/{}", issueNumber, owner, repo);
+            return true;
+        }
+        if (result.updated() > 0) {
+            log.info("[Webhook][Issue] Updated Issue #{} for {}/{}", issueNumber, owner, repo);
+            return true;
+        }
 
-                    log.info("[Webhook][Issue] Created new Issue #{} for {}/{}", issueNumber, owner, repo);
-                }
-        );
+        log.info("[Webhook][Issue] Skipped stale event for Issue #{} in {}/{} (updated_at: {})",
+                issueNumber, owner, repo, incoming.getUpdatedAt());
+        return false;
     }
 
     private GithubIssue.IssueStatus parseIssueStatus(String state) {
@@ -0,0 +1,58 @@
+package com.team.catchup.github.service.webhook;
+
+import com.team.catchup.github.config.WebhookProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 파티션 키(Repository + PR / Issue 번호, Branch) 단위 순차 실행
+ * 같은 키의 이벤트는 항상 같은 단일 스레드 파티션에서 처리되어 동시에 적용되지 않는다.
+ * 호출 스레드(Inbox Consumer / 요청 스레드)는 처리 완료까지 대기하므로 ack / 재시도 / 응답 흐름은 그대로 유지된다.
+ */
+@Slf4j
+@Component
+public class WebhookPartitionedExecutor {
+
+    private final ExecutorService[] partitions;
+
+    public WebhookPartitionedExecutor(WebhookProperties webhookProperties) {
+        int count = Math.max(1, webhookProperties.getIngestion().getPartitions());
+        this.partitions = new ExecutorService[count];
+        for (int i = 0; i < count; i++) {
+            String threadName = "webhook-partition-" + i;
+            partitions[i] = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, threadName);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    public <T> T execute(String partitionKey, Callable<T> task) throws Exception {
+        ExecutorService partition = partitions[Math.floorMod(partitionKey.hashCode(), partitions.length)];
+        try {
+            return partition.submit(task).get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception exception) {
+                throw exception;
+            }
+            throw (Error) cause;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (ExecutorService partition : partitions) {
+            partition.shutdown();
+        }
+        log.info("[Webhook] Partitioned executor shut down ({} partitions)", partitions.length);
+    }
+}
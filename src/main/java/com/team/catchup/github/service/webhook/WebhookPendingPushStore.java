@@ -0,0 +1,126 @@
+package com.team.catchup.github.service.webhook;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 발행 대기 중인 Push 묶음 기록 (Redis)
+ * Inbox 메시지 확인 전에 묶음의 Commit SHA와 발행 예정 시각을 남겨, 발행 전에 프로세스가 종료되어도
+ * 다른 인스턴스 / 재시작한 인스턴스가 저장된 Commit의 File Change로 묶음을 다시 만들어 발행할 수 있게 한다.
+ */
+@Slf4j
+@Component
+public class WebhookPendingPushStore {
+
+    private static final String KEY_PREFIX = "github:webhook:push:pending:";
+    private static final String SHA_SEPARATOR = ",";
+
+    private static final String FIELD_REPOSITORY_ID = "repositoryId";
+    private static final String FIELD_OWNER = "owner";
+    private static final String FIELD_REPO = "repo";
+    private static final String FIELD_REF = "ref";
+    private static final String FIELD_BRANCH = "branch";
+    private static final String FIELD_BEFORE_SHA = "beforeSha";
+    private static final String FIELD_HEAD_SHA = "headSha";
+    private static final String FIELD_COMMIT_SHAS = "commitShas";
+    private static final String FIELD_PUSH_COUNT = "pushCount";
+    private static final String FIELD_FLUSH_AT = "flushAt";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public WebhookPendingPushStore(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 묶음 기록 (Push가 추가될 때마다 전체를 덮어씀)
+     * @return 기록에 실패하면 false (호출자는 Inbox 확인 전에 바로 발행해야 함)
+     */
+    public boolean save(PendingPushRecord record) {
+        try {
+            Map<String, String> entry = new HashMap<>();
+            entry.put(FIELD_REPOSITORY_ID, String.valueOf(record.repositoryId()));
+            entry.put(FIELD_OWNER, record.owner());
+            entry.put(FIELD_REPO, record.repo());
+            entry.put(FIELD_REF, record.ref());
+            entry.put(FIELD_COMMIT_SHAS, String.join(SHA_SEPARATOR, record.commitShas()));
+            entry.put(FIELD_PUSH_COUNT, String.valueOf(record.pushCount()));
+            entry.put(FIELD_FLUSH_AT, String.valueOf(record.flushAtMillis()));
+            if (record.branch() != null) entry.put(FIELD_BRANCH, record.branch());
+            if (record.beforeSha() != null) entry.put(FIELD_BEFORE_SHA, record.beforeSha());
+            if (record.headSha() != null) entry.put(FIELD_HEAD_SHA, record.headSha());
+
+            redisTemplate.opsForHash().putAll(KEY_PREFIX + record.batchId(), entry);
+            return true;
+        } catch (Exception e) {
+            log.warn("[Webhook][Push] Failed to record pending push batch {}", record.batchId(), e);
+            return false;
+        }
+    }
+
+    public void remove(String batchId) {
+        try {
+            redisTemplate.delete(KEY_PREFIX + batchId);
+        } catch (Exception e) {
+            log.warn("[Webhook][Push] Failed to remove pending push batch {}", batchId, e);
+        }
+    }
+
+    /**
+     * 발행 예정 시각이 staleBeforeMillis 이전인 묶음을 가져가며 기록에서 제거
+     * 삭제에 성공한 인스턴스만 가져가므로 여러 인스턴스가 동시에 호출해도 한 번만 반환된다.
+     */
+    public List<PendingPushRecord> claimStale(long staleBeforeMillis) {
+        List<PendingPushRecord> claimed = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(100).build();
+
+        try (Cursor<String> keys = redisTemplate.scan(options)) {
+            while (keys.hasNext()) {
+                String key = keys.next();
+                Map<Object, Object> entry = redisTemplate.opsForHash().entries(key);
+                if (entry.isEmpty() || Long.parseLong((String) entry.get(FIELD_FLUSH_AT)) >= staleBeforeMillis) {
+                    continue;
+                }
+                if (Boolean.TRUE.equals(redisTemplate.delete(key))) {
+                    claimed.add(toRecord(key.substring(KEY_PREFIX.length()), entry));
+                }
+            }
+        } catch (Exception e) {
+            log.warn("[Webhook][Push] Failed to scan pending push batches", e);
+        }
+        return claimed;
+    }
+
+    private PendingPushRecord toRecord(String batchId, Map<Object, Object> entry) {
+        String commitShas = (String) entry.get(FIELD_COMMIT_SHAS);
+        return new PendingPushRecord(
+                batchId,
+                Long.valueOf((String) entry.get(FIELD_REPOSITORY_ID)),
+                (String) entry.get(FIELD_OWNER),
+                (String) entry.get(FIELD_REPO),
+                (String) entry.get(FIELD_REF),
+                (String) entry.get(FIELD_BRANCH),
+                (String) entry.get(FIELD_BEFORE_SHA),
+                (String) entry.get(FIELD_HEAD_SHA),
+                commitShas == null || commitShas.isEmpty() ? List.of() : List.of(commitShas.split(SHA_SEPARATOR)),
+                Integer.parseInt((String) entry.get(FIELD_PUSH_COUNT)),
+                Long.parseLong((String) entry.get(FIELD_FLUSH_AT))
+        );
+    }
+
+    /**
+     * @param flushAtMillis 시간 기준 발행 예정 시각 (첫 Push + interval-ms)
+     */
+    public record PendingPushRecord(String batchId, Long repositoryId, String owner, String repo, String ref,
+                                    String branch, String beforeSha, String headSha, List<String> commitShas,
+                                    int pushCount, long flushAtMillis) {
+    }
+}
@@ -3,7 +3,8 @@ package com.team.catchup.github.service.webhook;
 import com.team.catchup.github.dto.webhook.WebhookPrIssuePayload;
 import com.team.catchup.github.entity.GithubPullRequest;
 import com.team.catchup.github.entity.GithubRepository;
-import com.team.catchup.github.repository.GithubPullRequestRepository;
+import com.team.catchup.github.repository.GithubBulkUpsertRepository;
+import com.team.catchup.github.repository.GithubBulkUpsertRepository.UpsertResult;
 import com.team.catchup.github.repository.GithubRepositoryRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,10 +12,11 @@ import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
+import java.util.List;
 
 /**
  * Pull Request Webhook 이벤트 처리 핸들러
- * PR 메타데이터를 DB에 저장/업데이트
+ * PR 메타데이터를 DB에 저장/업데이트 (updated_at이 과거로 되돌아가지 않음)
  */
 @Component
 @Slf4j
@@ -22,9 +24,12 @@ import java.time.ZonedDateTime;
 public class WebhookPrHandler {
 
     private final GithubRepositoryRepository repositoryRepository;
-    private final GithubPullRequestRepository pullRequestRepository;
+    private final GithubBulkUpsertRepository bulkUpsertRepository;
 
-    public void handlePrEvent(WebhookPrIssuePayload payload) {
+    /**
+     * @return 저장 또는 갱신되었으면 true, 이미 더 최신 상태가 저장되어 있으면 false
+     */
+    public boolean handlePrEvent(WebhookPrIssuePayload payload) {
         String owner = payload.getRepository().getOwner().getLogin();
         String repo = payload.getRepository().getName();
 
@@ -41,42 +46,38 @@ public class WebhookPrHandler {
         log.info("[Webhook][PR] Processing PR #{} for {}/{} - action: {}",
                 prNumber, owner, repo, action);
 
-        // PR 메타데이터 저장/업데이트
-        pullRequestRepository.findById(pr.getId()).ifPresentOrElse(
-                existingPr -> {
-                    GithubPullRequest.PullRequestStatus status = parsePrStatus(pr.getState(), pr.getMerged());
-                    LocalDateTime updatedAt = parseDateTime(pr.getUpdatedAt());
-                    LocalDateTime closedAt = parseDateTime(pr.getClosedAt());
-                    LocalDateTime mergedAt = parseDateTime(pr.getMergedAt());
+        GithubPullRequest incoming = GithubPullRequest.builder()
+                .pullRequestId(pr.getId())
+                .repository(repository)
+                .number(pr.getNumber())
+                .title(pr.getTitle())
+                .status(parsePrStatus(pr.getState(), pr.getMerged()))
+                .authorLogin(pr.getUser() != null ? pr.getUser().getLogin() : null)
+                .baseBranch(pr.getBase() != null ? pr.getBase().getRef() : null)
+                .headBranch(pr.getHead() != null ? pr.getHead().getRef() : null)
+                .mergeCommitSha(pr.getMergeCommitSha())
+                .createdAt(parseDateTime(pr.getCreatedAt()))
+                .updatedAt(parseDateTime(pr.getUpdatedAt()))
+                .closedAt(parseDateTime(pr.getClosedAt()))
+                .mergedAt(parseDateTime(pr.getMergedAt()))
+                .htmlUrl(pr.getHtmlUrl())
+                .build();
 
-                    existingPr.updateFromWebhook(pr.getTitle(), status, updatedAt, closedAt, mergedAt, pr.getMergeCommitSha());
-                    pullRequestRepository.save(existingPr);
+        // PR 메타데이터 저장/업데이트 (저장된 updated_at보다 최신인 경우에만 갱신)
+        UpsertResult<Long> result = bulkUpsertRepository.upsertPullRequests(List.of(incoming));
 
-                    log.info("[Webhook][PR] Updated PR #{} for {}/{}", prNumber, owner, repo);
-                },
-                () -> {
-                    GithubPullRequest newPr = GithubPullRequest.builder()
-                            .pullRequestId(pr.getId())
-                            .repository(repository)
-                            .number(pr.getNumber())
-                            .title(pr.getTitle())
-                            .status(parsePrStatus(pr.getState(), pr.getMerged()))
-                            .authorLogin(pr.getUser() != null ? pr.getUser().getLogin() : null)
-                            .baseBranch(pr.getBase() != null ? pr.getBase().getRef() : null)
-                            .headBranch(pr.getHead() != null ? pr.getHead().getRef() : null)
-                            .mergeCommitSha(pr.getMergeCommitSha())
-                            .createdAt(parseDateTime(pr.getCreatedAt()))
-                            .updatedAt(parseDateTime(pr.getUpdatedAt()))
-                            .closedAt(parseDateTime(pr.getClosedAt()))
-                            .mergedAt(parseDateTime(pr.getMergedAt()))
-                            .htmlUrl(pr.getHtmlUrl())
-                            .build();
-
-                    pullRequestRepository.save(newPr);
+        if (result.inserted() > 0) {
+            log.info("[Webhook][PR] Created new PR #{} for {}/{}", prNumber, owner, repo);
+            return true;
+        }
+        if (result.updated() > 0) {
+            log.info("[Webhook][PR] Updated PR #{} for {}/{}", prNumber, owner, repo);
+            return true;
+        }
 
-                    log.info("[Webhook][PR] Created new PR #{} for {}/{}", prNumber, owner, repo);
-                }
-        );
+        log.info("[Webhook][PR] Skipped stale event for PR #{} in {}/{} (updated_at: {})",
+                prNumber, owner, repo, incoming.getUpdatedAt());
+        return false;
     }
 
     private GithubPullRequest.PullRequestStatus parsePrStatus(String state, Boolean merged) {
@@ -0,0 +1,362 @@
+package com.team.catchup.github.service.webhook;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.team.catchup.common.config.RabbitConfig;
+import com.team.catchup.github.config.WebhookProperties;
+import com.team.catchup.github.dto.webhook.WebhookPushPayload;
+import com.team.catchup.github.entity.GithubFileChange;
+import com.team.catchup.github.repository.GithubFileChangeRepository;
+import com.team.catchup.github.service.GithubApiService;
+import com.team.catchup.github.service.webhook.WebhookPendingPushStore.PendingPushRecord;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Push Worker 이벤트 Micro-batching (github.webhook.batch)
+ * Repository + ref 단위로 interval-ms 동안 Push를 모아 변경 파일을 합친 뒤 Worker 메시지 1건으로 발행한다.
+ * - 첫 Push 이후 interval-ms가 지나거나 Push가 size건 모이면 발행
+ * - 같은 파일의 연속 변경은 FileDeltaAccumulator 규칙으로 합치며, 추가 후 삭제된 파일은 제외
+ * - 트랜잭션 커밋 이후에만 버퍼에 추가해 롤백된 Push는 발행되지 않음
+ * - 추가 / 삭제가 함께 있으면 발행 전 Compare API(before...after)로 이름 변경을 확인해 RENAMED로 합침
+ * - Inbox 메시지는 버퍼에 넣은 뒤 확인되므로, 확인 전에 묶음의 Commit SHA를 WebhookPendingPushStore에 기록하고 발행 후 제거
+ *   발행 전에 프로세스가 종료되면 살아 있는 / 재시작한 인스턴스가 기록과 저장된 File Change로 묶음을 다시 만들어 발행
+ *   (기록에 실패한 묶음과 묶지 않는 설정(size 1 이하 / interval-ms 0 이하)은 Inbox 확인 전에 호출 스레드에서 발행)
+ */
+@Slf4j
+@Component
+public class WebhookPushCoalescer {
+
+    private static final String ZERO_SHA = "0000000000000000000000000000000000000000";
+
+    private final RabbitTemplate rabbitTemplate;
+    private final GithubApiService githubApiService;
+    private final WebhookPendingPushStore pendingPushStore;
+    private final GithubFileChangeRepository fileChangeRepository;
+    private final WebhookProperties.Batch properties;
+    private final WebhookProperties.RenameDetection renameDetection;
+    private final Map<String, PendingPush> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flushScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "webhook-push-coalescer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public WebhookPushCoalescer(RabbitTemplate rabbitTemplate, GithubApiService githubApiService,
+                                WebhookPendingPushStore pendingPushStore,
+                                GithubFileChangeRepository fileChangeRepository,
+                                WebhookProperties webhookProperties) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.githubApiService = githubApiService;
+        this.pendingPushStore = pendingPushStore;
+        this.fileChangeRepository = fileChangeRepository;
+        this.properties = webhookProperties.getBatch();
+        this.renameDetection = webhookProperties.getRenameDetection();
+
+        long recoveryIntervalMs = Math.max(properties.getIntervalMs(), 1000);
+        flushScheduler.scheduleWithFixedDelay(this::recoverStaleBatches,
+                recoveryIntervalMs, recoveryIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Push 1건 추가 (트랜잭션 진행 중이면 커밋 이후 추가)
+     */
+    public void submit(WebhookPushPayload payload, WebhookPushHandler.PushChanges changes) {
+        Runnable add = () -> add(payload, changes);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            add.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                add.run();
+            }
+        });
+    }
+
+    private void add(WebhookPushPayload payload, WebhookPushHandler.PushChanges changes) {
+        if (properties.getSize() <= 1 || properties.getIntervalMs() <= 0) {
+            PendingPush single = new PendingPush(payload, System.currentTimeMillis());
+            single.merge(payload, changes);
+            publishNow(single);
+            return;
+        }
+
+        String key = payload.getRepository().getId() + ":" + payload.getRef();
+        PendingPush merged = pending.compute(key, (k, existing) -> {
+            PendingPush target = existing != null
+                    ? existing
+                    : new PendingPush(payload, System.currentTimeMillis() + properties.getIntervalMs());
+            target.merge(payload, changes);
+            // flush의 remove와 같은 잠금 안에서 기록해 발행 / 제거 이후에 기록이 다시 남지 않도록 함
+            target.recorded = pendingPushStore.save(target.toRecord());
+            if (existing == null) {
+                flushScheduler.schedule(() -> flush(key, target), properties.getIntervalMs(), TimeUnit.MILLISECONDS);
+            }
+            return target;
+        });
+
+        log.debug("[Webhook][Push] Buffered push for {}/{} ({}) - {} pushes, {} files pending",
+                merged.owner, merged.repo, merged.branch, merged.pushCount, merged.delta.size());
+
+        if (!merged.recorded) {
+            if (pending.remove(key, merged)) {
+                publishNow(merged);
+            }
+            return;
+        }
+        if (merged.pushCount >= properties.getSize()) {
+            flush(key, merged);
+        }
+    }
+
+    /**
+     * 이미 다른 경로(크기 / 시간)로 발행된 묶음이면 remove가 실패하므로 한 번만 발행된다.
+     */
+    private void flush(String key, PendingPush batch) {
+        if (pending.remove(key, batch)) {
+            publish(batch);
+        }
+    }
+
+    private void publish(PendingPush batch) {
+        if (skipIfEmpty(batch)) {
+            return;
+        }
+
+        // Compare API 응답(Netty) / timeout(parallel) 스레드에서 RabbitTemplate이 블로킹하지 않도록 전환
+        detectRenames(batch)
+                .publishOn(Schedulers.boundedElastic())
+                .then(Mono.fromRunnable(() -> send(batch)))
+                .subscribe(null, e -> log.error("[Webhook][Push] Failed to publish coalesced push for {}/{} ({}) - {} pushes",
+                        batch.owner, batch.repo, batch.branch, batch.pushCount, e));
+    }
+
+    /**
+     * 호출 스레드에서 발행이 끝날 때까지 대기 (묶지 않는 설정 / 종료 시 Flush)
+     * 이름 변경 확인은 rename-detection.timeout-ms까지만 기다리고, 넘으면 추가 / 삭제 그대로 발행
+     */
+    private void publishNow(PendingPush batch) {
+        if (skipIfEmpty(batch)) {
+            return;
+        }
+
+        try {
+            detectRenames(batch).block(Duration.ofMillis(renameDetection.getTimeoutMs()));
+        } catch (RuntimeException e) {
+            log.warn("[Webhook][Push] Rename detection did not finish for {}/{} ({}) - publishing as add/delete",
+                    batch.owner, batch.repo, batch.branch, e);
+        }
+        send(batch);
+    }
+
+    private boolean skipIfEmpty(PendingPush batch) {
+        if (!batch.delta.isEmpty()) {
+            return false;
+        }
+        log.info("[Webhook][Push] No net file changes in {} pushes for {}/{} ({}) - skipping worker event",
+                batch.pushCount, batch.owner, batch.repo, batch.branch);
+        pendingPushStore.remove(batch.id);
+        return true;
+    }
+
+    /**
+     * Compare API의 renamed 파일로 DELETED / ADDED 쌍을 RENAMED로 합침
+     * 조회 실패 / 시간 초과 시 추가 / 삭제 그대로 발행
+     */
+    private Mono<Void> detectRenames(PendingPush batch) {
+        if (!renameDetection.isEnabled() || !batch.delta.hasRenameCandidates()
+                || batch.beforeSha == null || ZERO_SHA.equals(batch.beforeSha) || batch.headSha == null) {
+            return Mono.empty();
+        }
+
+        return githubApiService.compareCommits(batch.owner, batch.repo, batch.beforeSha, batch.headSha)
+                .timeout(Duration.ofMillis(renameDetection.getTimeoutMs()))
+                .doOnNext(compare -> {
+                    int renamed = 0;
+                    for (JsonNode file : compare.path("files")) {
+                        if ("renamed".equals(file.path("status").asText())
+                                && batch.delta.markRenamed(file.path("filename").asText(),
+                                        file.path("previous_filename").asText(), file.path("changes").asInt() > 0)) {
+                            renamed++;
+                        }
+                    }
+                    log.debug("[Webhook][Push] Detected {} renames for {}/{} ({}...{})",
+                            renamed, batch.owner, batch.repo, batch.beforeSha, batch.headSha);
+                })
+                .onErrorResume(e -> {
+                    log.warn("[Webhook][Push] Rename detection failed for {}/{} ({}...{}) - publishing as add/delete",
+                            batch.owner, batch.repo, batch.beforeSha, batch.headSha, e);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private void send(PendingPush batch) {
+        List<WorkerEventMessage.FileChange> fileChanges = new ArrayList<>();
+        batch.delta.deltas().forEach((path, delta) -> fileChanges.add(WorkerEventMessage.FileChange.builder()
+                .path(path)
+                .previousPath(delta.previousPath())
+                .status(delta.changeType())
+                .contentChanged(delta.contentChanged())
+                .build()));
+
+        WorkerEventMessage message = WorkerEventMessage.builder()
+                .eventType(WorkerEventMessage.EventType.PUSH)
+                .repositoryId(batch.repositoryId)
+                .owner(batch.owner)
+                .repo(batch.repo)
+                .ref(batch.ref)
+                .branch(batch.branch)
+                .commitShas(new ArrayList<>(batch.commitShas))
+                .changedFilePaths(batch.delta.changedPaths())
+                .beforeSha(batch.beforeSha)
+                .headSha(batch.headSha)
+                .fileChanges(fileChanges)
+                .build();
+
+        rabbitTemplate.convertAndSend(RabbitConfig.GITHUB_REPOSITORY_QUEUE, message);
+        pendingPushStore.remove(batch.id);
+        log.info("[Webhook] Published PUSH event to worker for {}/{} (branch: {}) - {} pushes, {} files changed",
+                batch.owner, batch.repo, batch.branch, batch.pushCount, batch.delta.size());
+    }
+
+    /**
+     * 대기 중인 묶음을 종료 전에 모두 발행
+     * 비동기 발행은 RabbitTemplate이 닫힌 뒤에 끝날 수 있으므로 호출 스레드에서 발행
+     */
+    @PreDestroy
+    public void shutdown() {
+        flushScheduler.shutdownNow();
+        pending.forEach((key, batch) -> {
+            if (pending.remove(key, batch)) {
+                try {
+                    publishNow(batch);
+                } catch (RuntimeException e) {
+                    log.error("[Webhook][Push] Failed to publish coalesced push on shutdown for {}/{} ({}) - {} pushes, "
+                            + "left for recovery", batch.owner, batch.repo, batch.branch, batch.pushCount, e);
+                }
+            }
+        });
+    }
+
+    // ==================== Recovery ====================
+
+    /**
+     * 발행 예정 시각이 지났는데 기록이 남아 있는 묶음(발행 전에 종료된 인스턴스의 묶음)을 다시 만들어 발행
+     * 살아 있는 인스턴스는 발행 예정 시각 + rename-detection.timeout-ms 안에 발행 후 기록을 제거하므로 그 이후만 가져감
+     */
+    private void recoverStaleBatches() {
+        long staleBefore = System.currentTimeMillis() - renameDetection.getTimeoutMs() - properties.getIntervalMs();
+        for (PendingPushRecord record : pendingPushStore.claimStale(staleBefore)) {
+            try {
+                PendingPush batch = rebuild(record);
+                log.info("[Webhook][Push] Recovering pending push batch for {}/{} ({}) - {} commits",
+                        batch.owner, batch.repo, batch.branch, batch.commitShas.size());
+                publishNow(batch);
+            } catch (RuntimeException e) {
+                log.error("[Webhook][Push] Failed to recover pending push batch {} for {}/{} - retrying later",
+                        record.batchId(), record.owner(), record.repo(), e);
+                pendingPushStore.save(record);
+            }
+        }
+    }
+
+    /**
+     * 기록된 Commit 순서대로 저장된 File Change를 다시 누적
+     */
+    private PendingPush rebuild(PendingPushRecord record) {
+        PendingPush batch = new PendingPush(record);
+        if (record.commitShas().isEmpty()) {
+            return batch;
+        }
+
+        Map<String, List<GithubFileChange>> changesByCommit = fileChangeRepository
+                .findCommitChangesWithPath(record.repositoryId(), record.commitShas()).stream()
+                .collect(Collectors.groupingBy(GithubFileChange::getCommitSha));
+        for (String sha : record.commitShas()) {
+            for (GithubFileChange change : changesByCommit.getOrDefault(sha, List.of())) {
+                batch.delta.record(change.getFilePath().getPath(), change.getChangeType());
+            }
+        }
+        return batch;
+    }
+
+    /**
+     * 발행 대기 중인 Push 묶음 (ConcurrentHashMap.compute 안에서만 변경)
+     */
+    private static class PendingPush {
+        private final String id;
+        private final long flushAtMillis;
+        private final Long repositoryId;
+        private final String owner;
+        private final String repo;
+        private final String ref;
+        private final String branch;
+        private final String beforeSha;
+        private String headSha;
+        private final Set<String> commitShas = new LinkedHashSet<>();
+        private final FileDeltaAccumulator delta = new FileDeltaAccumulator();
+        private int pushCount;
+        private boolean recorded;
+
+        // 묶음의 첫 Push 기준
+        private PendingPush(WebhookPushPayload payload, long flushAtMillis) {
+            this.id = UUID.randomUUID().toString();
+            this.flushAtMillis = flushAtMillis;
+            this.repositoryId = payload.getRepository().getId();
+            this.owner = payload.getRepository().getOwner().getLogin();
+            this.repo = payload.getRepository().getName();
+            this.ref = payload.getRef();
+            this.branch = payload.getBranchName();
+            this.beforeSha = payload.getBefore();
+        }
+
+        // 발행 전에 종료된 인스턴스의 기록 기준 (File Change는 호출자가 다시 누적)
+        private PendingPush(PendingPushRecord record) {
+            this.id = record.batchId();
+            this.flushAtMillis = record.flushAtMillis();
+            this.repositoryId = record.repositoryId();
+            this.owner = record.owner();
+            this.repo = record.repo();
+            this.ref = record.ref();
+            this.branch = record.branch();
+            this.beforeSha = record.beforeSha();
+            this.headSha = record.headSha();
+            this.commitShas.addAll(record.commitShas());
+            this.pushCount = record.pushCount();
+        }
+
+        private void merge(WebhookPushPayload payload, WebhookPushHandler.PushChanges changes) {
+            commitShas.addAll(changes.commitShas());
+            delta.merge(changes.delta());
+            headSha = payload.getAfter();
+            pushCount++;
+        }
+
+        private PendingPushRecord toRecord() {
+            return new PendingPushRecord(id, repositoryId, owner, repo, ref, branch, beforeSha, headSha,
+                    List.copyOf(commitShas), pushCount, flushAtMillis);
+        }
+    }
+}
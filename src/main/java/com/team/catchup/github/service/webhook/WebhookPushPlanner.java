@@ -0,0 +1,102 @@
+package com.team.catchup.github.service.webhook;
+
+import com.team.catchup.github.dto.webhook.WebhookPushPayload;
+import com.team.catchup.github.entity.GithubCommit;
+import com.team.catchup.github.entity.GithubFileChange;
+import com.team.catchup.github.entity.GithubFileChange.FileChangeType;
+import com.team.catchup.github.entity.GithubFilePath;
+import com.team.catchup.github.entity.GithubRepository;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Push payload -> 저장할 Commit / File Change 목록과 파일별 누적 변경 (DB 접근 없음)
+ * 이미 저장된 Commit과 payload 내 중복 Commit은 HashSet으로 한 번에 걸러낸다.
+ */
+@Slf4j
+final class WebhookPushPlanner {
+
+    private WebhookPushPlanner() {
+    }
+
+    /**
+     * @param commits payload의 Commit 목록 (오래된 순)
+     * @param existingShas 이미 저장된 Commit SHA
+     */
+    static PushPlan plan(GithubRepository repository, List<WebhookPushPayload.Commit> commits, Set<String> existingShas) {
+        Set<String> planned = new HashSet<>(existingShas);
+        List<String> commitShas = new ArrayList<>();
+        List<GithubCommit> newCommits = new ArrayList<>();
+        List<GithubFileChange> fileChanges = new ArrayList<>();
+        FileDeltaAccumulator delta = new FileDeltaAccumulator();
+
+        for (WebhookPushPayload.Commit commit : commits) {
+            if (!planned.add(commit.getId())) {
+                continue;  // 이미 존재하거나 payload에 중복된 커밋은 스킵
+            }
+
+            GithubCommit newCommit = toCommit(repository, commit);
+            commitShas.add(newCommit.getSha());
+            newCommits.add(newCommit);
+
+            addFileChanges(repository, newCommit, commit.getAdded(), FileChangeType.ADDED, fileChanges, delta);
+            addFileChanges(repository, newCommit, commit.getModified(), FileChangeType.MODIFIED, fileChanges, delta);
+            addFileChanges(repository, newCommit, commit.getRemoved(), FileChangeType.DELETED, fileChanges, delta);
+        }
+
+        return new PushPlan(commitShas, newCommits, fileChanges, delta);
+    }
+
+    private static GithubCommit toCommit(GithubRepository repository, WebhookPushPayload.Commit commit) {
+        GithubCommit.GithubCommitBuilder builder = GithubCommit.builder()
+                .repository(repository)
+                .sha(commit.getId())
+                .message(commit.getMessage())
+                .htmlUrl(commit.getUrl());
+
+        if (commit.getAuthor() != null) {
+            builder.authorName(commit.getAuthor().getName())
+                   .authorEmail(commit.getAuthor().getEmail());
+        }
+
+        if (commit.getTimestamp() != null) {
+            try {
+                builder.authorDate(ZonedDateTime.parse(commit.getTimestamp()).toLocalDateTime());
+            } catch (Exception e) {
+                log.warn("[Webhook][Push] Failed to parse timestamp for commit {}: {}",
+                        commit.getId(), commit.getTimestamp());
+            }
+        }
+
+        return builder.build();
+    }
+
+    private static void addFileChanges(GithubRepository repository, GithubCommit commit, List<String> paths,
+                                       FileChangeType changeType, List<GithubFileChange> fileChanges,
+                                       FileDeltaAccumulator delta) {
+        if (paths == null) {
+            return;
+        }
+        LocalDateTime changedAt = commit.getAuthorDate();
+        for (String path : paths) {
+            delta.record(path, changeType);
+            fileChanges.add(GithubFileChange.builder()
+                    .repository(repository)
+                    .commitSha(commit.getSha())
+                    .changedAt(changedAt)
+                    .filePath(GithubFilePath.of(path))
+                    .changeType(changeType)
+                    .build());
+        }
+    }
+
+    record PushPlan(List<String> commitShas, List<GithubCommit> commits,
+                    List<GithubFileChange> fileChanges, FileDeltaAccumulator delta) {
+    }
+}
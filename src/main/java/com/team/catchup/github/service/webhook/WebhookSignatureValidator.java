@@ -1,50 +1,61 @@
 package com.team.catchup.github.service.webhook;
 
 import com.team.catchup.github.config.WebhookProperties;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.MessageDigest;
+import java.util.HexFormat;
 
+/**
+ * X-Hub-Signature-256 검증
+ * 요청 본문 바이트에 대해 HMAC을 계산하고, 헤더의 hex 값을 바이트로 디코딩해 상수 시간 비교한다.
+ * Mac은 초기화 비용이 있으므로 스레드별로 재사용한다 (doFinal 호출 시 초기 상태로 reset).
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class WebhookSignatureValidator {
-    private final WebhookProperties webhookProperties;
 
-    public boolean validateSignature(String payload, String signature) {
-        if(signature == null || !signature.startsWith("sha256=")) {
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String SIGNATURE_PREFIX = "sha256=";
+    private static final int SIGNATURE_HEX_LENGTH = 64;
+
+    private final ThreadLocal<Mac> macs;
+
+    public WebhookSignatureValidator(WebhookProperties webhookProperties) {
+        SecretKeySpec secretKey = new SecretKeySpec(
+                webhookProperties.getSecret().getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        this.macs = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance(ALGORITHM);
+                mac.init(secretKey);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("Failed to initialize " + ALGORITHM, e);
+            }
+        });
+    }
+
+    public boolean validateSignature(byte[] payload, String signature) {
+        if (signature == null || !signature.startsWith(SIGNATURE_PREFIX)
+                || signature.length() != SIGNATURE_PREFIX.length() + SIGNATURE_HEX_LENGTH) {
             return false;
         }
 
         try {
-            String secret = webhookProperties.getSecret();
-            String expectedSignature = "sha256=" + hmacSha256(payload, secret);
-
-            return MessageDigest.isEqual(
-                    expectedSignature.getBytes(StandardCharsets.UTF_8),
-                    signature.getBytes(StandardCharsets.UTF_8)
-            );
+            byte[] provided = HexFormat.of().parseHex(signature, SIGNATURE_PREFIX.length(), signature.length());
+            byte[] expected = macs.get().doFinal(payload);
+            return MessageDigest.isEqual(expected, provided);
+        } catch (IllegalArgumentException e) {
+            log.warn("[Github][Webhook] Malformed signature header");
+            return false;
         } catch (Exception e) {
             log.error("[Github][Webhook] Signature Validation Error", e);
             return false;
         }
     }
-
-    private String hmacSha256(String data, String key) throws Exception {
-        Mac mac = Mac.getInstance("HmacSHA256");
-        SecretKeySpec secretKeySpec = new SecretKeySpec(key.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
-        mac.init(secretKeySpec);
-        byte[] hash = mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
-
-        StringBuilder result = new StringBuilder();
-        for(byte b : hash) {
-            result.append(String.format("%02x", b));
-        }
-        return result.toString();
-    }
 }
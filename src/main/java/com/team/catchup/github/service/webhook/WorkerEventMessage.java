@@ -1,5 +1,6 @@
 package com.team.catchup.github.service.webhook;
 
+import com.team.catchup.github.entity.GithubFileChange;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -33,6 +34,9 @@ public class WorkerEventMessage implements Serializable {
     private String branch;  // 브랜치 이름 (예: main, feature/test)
     private List<String> commitShas;  // 새로 추가된 커밋 SHA 목록
     private List<String> changedFilePaths;  // 변경된 파일 경로 목록 (Meilisearch 삭제/재인덱싱용)
+    private String beforeSha;  // Push 이전 HEAD SHA
+    private String headSha;  // Push 이후 HEAD SHA (파일 내용 조회 기준)
+    private List<FileChange> fileChanges;  // 파일별 최종 변경 (묶인 Push 전체 기준)
 
     /**
      * PR/Issue용 필드
@@ -40,6 +44,17 @@ public class WorkerEventMessage implements Serializable {
     private Integer number;
     private String action;  // opened, closed, edited, etc.
 
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FileChange implements Serializable {
+        private String path;
+        private String previousPath;  // RENAMED인 경우 이전 경로
+        private GithubFileChange.FileChangeType status;  // ADDED, MODIFIED, DELETED, RENAMED
+        private boolean contentChanged;  // false면 파일 내용 조회 / 재임베딩 불필요 (삭제, 내용 변경 없는 이름 변경)
+    }
+
     public enum EventType {
         PUSH,
         PULL_REQUEST,
@@ -0,0 +1,103 @@
+package com.team.catchup.jira.client;
+
+import com.team.catchup.jira.config.JiraProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * jiraWebClient 공용 Rate Limiter
+ * 여러 프로젝트를 동시에 동기화해도 전체 요청 수가 requests-per-second를 넘지 않도록 요청 슬롯을 순서대로 배분한다.
+ * 429 / 503 응답은 Retry-After(없으면 지수 백오프)만큼 전체 요청을 멈춘 뒤 재시도한다.
+ */
+@Slf4j
+@Component
+public class JiraRateLimiter {
+
+    private final JiraProperties.RateLimitConfig properties;
+    private final AtomicLong nextSlotMillis = new AtomicLong();
+    private volatile long pausedUntilMillis;
+
+    public JiraRateLimiter(JiraProperties jiraProperties) {
+        this.properties = jiraProperties.getRateLimit();
+    }
+
+    /**
+     * jiraWebClient에 등록할 ExchangeFilterFunction
+     */
+    public ExchangeFilterFunction filter() {
+        return (request, next) -> exchange(request, next, 0);
+    }
+
+    private Mono<ClientResponse> exchange(ClientRequest request, ExchangeFunction next, int attempt) {
+        return Mono.defer(() -> {
+                    Duration wait = reserveSlot();
+                    if (wait.isZero()) {
+                        return next.exchange(request);
+                    }
+                    log.debug("[JIRA][RATE LIMIT] Waiting {}ms before {} {}", wait.toMillis(),
+                            request.method(), request.url());
+                    return Mono.delay(wait).then(Mono.defer(() -> next.exchange(request)));
+                })
+                .flatMap(response -> {
+                    Duration backoff = resolveBackoff(response, attempt);
+                    if (backoff == null) {
+                        return Mono.just(response);
+                    }
+
+                    if (attempt >= properties.getMaxRetries()) {
+                        log.warn("[JIRA][RATE LIMIT] Giving up after {} retries: {} {}",
+                                attempt, request.method(), request.url());
+                        return Mono.just(response);
+                    }
+
+                    log.warn("[JIRA][RATE LIMIT] Rate limited ({}) - backing off {}ms before retry #{}: {}",
+                            response.statusCode().value(), backoff.toMillis(), attempt + 1, request.url());
+                    pausedUntilMillis = Math.max(pausedUntilMillis, System.currentTimeMillis() + backoff.toMillis());
+
+                    return response.releaseBody()
+                            .then(Mono.defer(() -> exchange(request, next, attempt + 1)));
+                });
+    }
+
+    /**
+     * 다음 요청 슬롯을 예약하고 그때까지의 대기 시간을 반환
+     */
+    private Duration reserveSlot() {
+        long now = System.currentTimeMillis();
+        long start = Math.max(now, pausedUntilMillis);
+        long interval = 1000L / Math.max(properties.getRequestsPerSecond(), 1);
+
+        long slot = nextSlotMillis.updateAndGet(prev -> Math.max(prev, start) + interval) - interval;
+        return Duration.ofMillis(Math.max(slot - now, 0));
+    }
+
+    /**
+     * Rate Limit 응답이면 대기 시간을, 아니면 null을 반환
+     */
+    private Duration resolveBackoff(ClientResponse response, int attempt) {
+        int status = response.statusCode().value();
+        if (status != HttpStatus.TOO_MANY_REQUESTS.value() && status != HttpStatus.SERVICE_UNAVAILABLE.value()) {
+            return null;
+        }
+
+        String retryAfter = response.headers().asHttpHeaders().getFirst(HttpHeaders.RETRY_AFTER);
+        if (retryAfter != null) {
+            try {
+                return Duration.ofSeconds(Long.parseLong(retryAfter.trim()));
+            } catch (NumberFormatException e) {
+                log.warn("[JIRA][RATE LIMIT] Unparseable Retry-After header: {}", retryAfter);
+            }
+        }
+        return Duration.ofMillis(properties.getBackoffMs() * (1L << attempt));
+    }
+}
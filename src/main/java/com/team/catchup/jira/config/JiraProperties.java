@@ -16,6 +16,8 @@ public class JiraProperties {
     private ConnectionConfig connection = new ConnectionConfig();
     private TimeoutConfig timeout = new TimeoutConfig();
     private MemoryConfig memory = new MemoryConfig();
+    private SyncConfig sync = new SyncConfig();
+    private RateLimitConfig rateLimit = new RateLimitConfig();
 
     @Getter
     @Setter
@@ -39,5 +41,28 @@ public class JiraProperties {
         private Integer maxInMemorySize;
     }
 
+    @Getter
+    @Setter
+    public static class SyncConfig {
+        // 동시에 Issue를 동기화할 프로젝트 수 (1이면 순차 처리)
+        private int projectConcurrency = 4;
+        // DB 저장 전용 Scheduler 스레드 수 / 대기 작업 수 상한
+        private int persistenceThreads = 4;
+        private int persistenceQueueSize = 1000;
+        // 증분 동기화 시 Watermark보다 앞당겨 다시 조회할 구간 (JQL 분 단위 절삭 / 동시 변경 대비)
+        private long incrementalOverlapMinutes = 1;
+    }
+
+    @Getter
+    @Setter
+    public static class RateLimitConfig {
+        // 전체 Jira API 요청 상한 (동시 동기화 중인 모든 프로젝트 합산)
+        private int requestsPerSecond = 10;
+        // 429 / 503 응답 재시도 횟수
+        private int maxRetries = 3;
+        // Retry-After 헤더가 없을 때 첫 재시도 대기 시간 (재시도마다 2배)
+        private long backoffMs = 2000;
+    }
+
 
 }
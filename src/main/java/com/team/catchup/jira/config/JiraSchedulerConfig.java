@@ -0,0 +1,24 @@
+package com.team.catchup.jira.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+@Configuration
+public class JiraSchedulerConfig {
+
+    /**
+     * Jira 동기화 DB 저장 전용 Scheduler
+     * 페이지 조회(Netty)와 저장(JPA, blocking)을 분리해 다음 페이지 조회와 현재 페이지 저장을 겹쳐서 실행
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler jiraPersistenceScheduler(JiraProperties jiraProperties) {
+        JiraProperties.SyncConfig sync = jiraProperties.getSync();
+        return Schedulers.newBoundedElastic(
+                sync.getPersistenceThreads(),
+                sync.getPersistenceQueueSize(),
+                "jira-persistence"
+        );
+    }
+}
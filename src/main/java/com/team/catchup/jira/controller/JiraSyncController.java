@@ -1,6 +1,7 @@
 package com.team.catchup.jira.controller;
 
 import com.team.catchup.auth.user.CustomUserDetails;
+import com.team.catchup.jira.dto.request.JiraIncrementalSyncRequest;
 import com.team.catchup.jira.dto.request.JiraSyncRequest;
 import com.team.catchup.jira.service.JiraSyncService;
 import jakarta.validation.Valid;
@@ -10,6 +11,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.Map;
 
 @Slf4j
@@ -37,6 +39,26 @@ public class JiraSyncController {
         ));
     }
 
+    /**
+     * 증분 동기화 (프로젝트별 마지막 동기화 이후 변경된 Issue만)
+     * POST /api/jira/sync/incremental
+     * Body(선택): {"projectKeys": ["PROJ-A"]}
+     */
+    @PostMapping("/incremental")
+    public ResponseEntity<Map<String, String>> incrementalSync(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestBody(required = false) JiraIncrementalSyncRequest request) {
+        List<String> projectKeys = request != null ? request.projectKeys() : null;
+        log.info("[API] Incremental Sync 요청 - ProjectKeys: {}", projectKeys);
+
+        jiraSyncService.incrementalSync(userDetails.getMemberId(), projectKeys);
+
+        return ResponseEntity.ok(Map.of(
+                "status", "started",
+                "message", "Jira Incremental Sync Started"
+        ));
+    }
+
     /**
      * 특정 단계부터 동기화 재시도
      * POST /api/jira/sync/retry
@@ -0,0 +1,6 @@
+package com.team.catchup.jira.dto;
+
+public enum JiraSyncMode {
+    FULL,
+    INCREMENTAL // 프로젝트별 Watermark 이후 변경된 Issue만 조회
+}
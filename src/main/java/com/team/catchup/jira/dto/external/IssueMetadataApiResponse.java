@@ -52,6 +52,9 @@ public record IssueMetadataApiResponse(
             @JsonProperty("created")
             String issueCreatedAt,
 
+            @JsonProperty("updated")
+            String issueUpdatedAt,
+
             @JsonProperty("reporter")
             UserID reporter,
 
@@ -0,0 +1,9 @@
+package com.team.catchup.jira.dto.request;
+
+import java.util.List;
+
+public record JiraIncrementalSyncRequest(
+        // 비어 있으면 저장된 전체 프로젝트
+        List<String> projectKeys
+) {
+}
@@ -15,4 +15,16 @@ public record IssueSyncResult(
     ) {
         return new IssueSyncResult(issues, issueLinks, attachments);
     }
-}
\ No newline at end of file
+
+    public static IssueSyncResult empty() {
+        return new IssueSyncResult(SyncCount.empty(), SyncCount.empty(), SyncCount.empty());
+    }
+
+    public IssueSyncResult plus(IssueSyncResult other) {
+        return new IssueSyncResult(
+                issues.plus(other.issues()),
+                issueLinks.plus(other.issueLinks()),
+                attachments.plus(other.attachments())
+        );
+    }
+}
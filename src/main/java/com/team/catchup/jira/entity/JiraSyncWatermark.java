@@ -0,0 +1,37 @@
+package com.team.catchup.jira.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "jira_sync_watermark")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class JiraSyncWatermark {
+
+    @Id
+    @Column(name = "project_key", length = 50)
+    private String projectKey;
+
+    // 동기화한 Issue 중 가장 최근 updated (Jira 계정 시간대 기준), 이 시각 이후 변경분만 증분 동기화 대상
+    @Column(name = "updated_until", nullable = false)
+    private LocalDateTime updatedUntil;
+
+    @Builder
+    public JiraSyncWatermark(String projectKey, LocalDateTime updatedUntil) {
+        this.projectKey = projectKey;
+        this.updatedUntil = updatedUntil;
+    }
+
+    // Watermark는 앞으로만 이동
+    public void advanceTo(LocalDateTime updatedUntil) {
+        if (updatedUntil != null && updatedUntil.isAfter(this.updatedUntil)) {
+            this.updatedUntil = updatedUntil;
+        }
+    }
+}
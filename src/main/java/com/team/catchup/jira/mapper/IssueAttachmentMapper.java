@@ -3,7 +3,6 @@ package com.team.catchup.jira.mapper;
 import com.team.catchup.jira.dto.external.IssueMetadataApiResponse;
 import com.team.catchup.jira.entity.IssueAttachment;
 import com.team.catchup.jira.entity.IssueMetadata;
-import com.team.catchup.jira.repository.IssueMetaDataRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -19,16 +18,12 @@ public class IssueAttachmentMapper {
     private static final DateTimeFormatter JIRA_DATE_FORMATTER =
             DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSZ");
 
-    private final IssueMetaDataRepository issueMetaDataRepository;
-
     /**
      * Issue Attachment DTO -> Entity
+     * @param issue 첨부파일이 속한 Issue (같은 페이지에서 함께 저장되는 Entity)
      */
-    public IssueAttachment toEntity(IssueMetadataApiResponse.IssueAttachment attachmentResponse, Integer issueId) {
+    public IssueAttachment toEntity(IssueMetadataApiResponse.IssueAttachment attachmentResponse, IssueMetadata issue) {
         try{
-            IssueMetadata issue = issueMetaDataRepository.findById(issueId)
-                    .orElseThrow(() -> new RuntimeException("Issue Not Found :" + issueId));
-
             return IssueAttachment.builder()
                     .id(parseInteger(attachmentResponse.id()))
                     .issueId(issue)
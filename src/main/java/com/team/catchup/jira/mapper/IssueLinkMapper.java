@@ -4,8 +4,6 @@ import com.team.catchup.jira.dto.external.IssueMetadataApiResponse;
 import com.team.catchup.jira.entity.IssueLink;
 import com.team.catchup.jira.entity.IssueLinkType;
 import com.team.catchup.jira.entity.IssueMetadata;
-import com.team.catchup.jira.repository.IssueLinkTypeRepository;
-import com.team.catchup.jira.repository.IssueMetaDataRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -15,9 +13,6 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class IssueLinkMapper {
 
-    private final IssueLinkTypeRepository issueLinkTypeRepository;
-    private final IssueMetaDataRepository issueMetaDataRepository;
-
     public IssueLinkType linkTypeToEntity(IssueMetadataApiResponse.LinkType linkType) {
         try {
             return IssueLinkType.builder()
@@ -33,21 +28,17 @@ public class IssueLinkMapper {
         }
     }
 
-
+    /**
+     * Issue Link DTO -> Entity
+     * 상대 Issue와 Link Type은 ID만 채운 참조로 생성 (DB 조회 없음, 존재 여부는 저장 시 페이지 단위로 확인)
+     */
     public IssueLink issueLinkToEntity(IssueMetadataApiResponse.IssueLink issueLink) {
         try {
-            IssueMetadata inwardIssue = findIssue(issueLink.inwardIssue());
-            IssueMetadata outwardIssue = findIssue(issueLink.outwardIssue());
-
-            Integer linkTypeId = Integer.parseInt(issueLink.type().id());
-            IssueLinkType linkType = issueLinkTypeRepository.findById(linkTypeId)
-                    .orElseThrow(() -> new RuntimeException("LinkType not found: " + linkTypeId));
-
             return IssueLink.builder()
                     .linkId(Integer.parseInt(issueLink.id()))
-                    .inwardIssue(inwardIssue)
-                    .outwardIssue(outwardIssue)
-                    .linkType(linkType)
+                    .inwardIssue(issueReference(issueLink.inwardIssue()))
+                    .outwardIssue(issueReference(issueLink.outwardIssue()))
+                    .linkType(linkTypeToEntity(issueLink.type()))
                     .build();
 
         } catch (Exception e) {
@@ -56,18 +47,14 @@ public class IssueLinkMapper {
         }
     }
 
-    private IssueMetadata findIssue(IssueMetadataApiResponse.LinkedIssue linkedIssue) {
+    private IssueMetadata issueReference(IssueMetadataApiResponse.LinkedIssue linkedIssue) {
         if(linkedIssue == null) {
             return null;
         }
 
-        Integer issueId = Integer.parseInt(linkedIssue.id());
-        IssueMetadata issue = issueMetaDataRepository.findById(issueId).orElse(null);
-
-        if(issue == null) {
-            log.warn("Issue not found: {}", issueId);
-        }
-
-        return issue;
+        return IssueMetadata.builder()
+                .issueId(Integer.parseInt(linkedIssue.id()))
+                .issueKey(linkedIssue.key())
+                .build();
     }
-}
\ No newline at end of file
+}
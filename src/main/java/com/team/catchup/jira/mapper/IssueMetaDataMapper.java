@@ -5,7 +5,9 @@ import com.team.catchup.jira.entity.IssueMetadata;
 import com.team.catchup.jira.entity.IssueType;
 import com.team.catchup.jira.entity.JiraProject;
 import com.team.catchup.jira.entity.JiraUser;
-import com.team.catchup.jira.repository.*;
+import com.team.catchup.jira.repository.IssueTypeRepository;
+import com.team.catchup.jira.repository.JiraProjectRepository;
+import com.team.catchup.jira.repository.JiraUserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -30,15 +32,25 @@ public class IssueMetaDataMapper {
     private final JiraProjectRepository jiraProjectRepository;
     private final JiraUserRepository jiraUserRepository;
 
-    public IssueMetadata toEntity(IssueMetadataApiResponse.JiraIssue jiraIssue) {
+    /**
+     * 동기화 1회 동안 사용할 참조 엔티티 캐시 생성
+     */
+    public JiraReferenceCache newReferenceCache() {
+        return new JiraReferenceCache(issueTypeRepository, jiraProjectRepository, jiraUserRepository);
+    }
+
+    /**
+     * 참조 엔티티는 references에서 조회 (페이지 단위로 references.prefetch 호출 후 사용)
+     */
+    public IssueMetadata toEntity(IssueMetadataApiResponse.JiraIssue jiraIssue, JiraReferenceCache references) {
         try {
             IssueMetadataApiResponse.Fields fields = jiraIssue.fields();
 
-            IssueType issueType = findIssueType(fields);
-            JiraProject jiraProject = findJiraProject(fields);
-            JiraUser creator = findUser(fields.creator());
-            JiraUser reporter = findUser(fields.reporter());
-            JiraUser assignee = findUser(fields.assignee());
+            IssueType issueType = findIssueType(fields, references);
+            JiraProject jiraProject = findJiraProject(fields, references);
+            JiraUser creator = findUser(fields.creator(), references);
+            JiraUser reporter = findUser(fields.reporter(), references);
+            JiraUser assignee = findUser(fields.assignee(), references);
 
             return IssueMetadata.builder()
                     .issueId(parseInteger(jiraIssue.id()))
@@ -68,6 +80,13 @@ public class IssueMetaDataMapper {
         }
     }
 
+    /**
+     * Issue의 마지막 변경 시각 (증분 동기화 Watermark용, Jira 계정 시간대 기준)
+     */
+    public LocalDateTime parseUpdatedAt(IssueMetadataApiResponse.JiraIssue jiraIssue) {
+        return jiraIssue.fields() != null ? parseDateTime(jiraIssue.fields().issueUpdatedAt()) : null;
+    }
+
     private Integer parseInteger(String value) {
         if (value == null || value.isBlank()) {
             return null;
@@ -99,10 +118,10 @@ public class IssueMetaDataMapper {
         }
     }
 
-    private JiraProject findJiraProject(IssueMetadataApiResponse.Fields fields) {
+    private JiraProject findJiraProject(IssueMetadataApiResponse.Fields fields, JiraReferenceCache references) {
         if (fields.project() != null && fields.project().projectId() != null) {
             Integer projectId = parseInteger(fields.project().projectId());
-            JiraProject jiraProject = jiraProjectRepository.findById(projectId).orElse(null);
+            JiraProject jiraProject = references.getProject(projectId);
             if (jiraProject == null) {
                 log.warn("Project not found: {}", projectId);
             }
@@ -111,17 +130,17 @@ public class IssueMetaDataMapper {
         return null;
     }
 
-    private JiraUser findUser(IssueMetadataApiResponse.UserID userID) {
+    private JiraUser findUser(IssueMetadataApiResponse.UserID userID, JiraReferenceCache references) {
         if (userID != null && userID.id() != null) {
-            return jiraUserRepository.findById(userID.id()).orElse(null);
+            return references.getUser(userID.id());
         }
         return null;
     }
 
-    private IssueType findIssueType(IssueMetadataApiResponse.Fields fields) {
+    private IssueType findIssueType(IssueMetadataApiResponse.Fields fields, JiraReferenceCache references) {
         if (fields.issueType() != null && fields.issueType().id() != null) {
             Integer issueTypeId = parseInteger(fields.issueType().id());
-            IssueType issueType = issueTypeRepository.findById(issueTypeId).orElse(null);
+            IssueType issueType = references.getIssueType(issueTypeId);
             if (issueType == null) {
                 log.warn("IssueType not found: {}", issueTypeId);
             }
@@ -0,0 +1,166 @@
+package com.team.catchup.jira.mapper;
+
+import com.team.catchup.jira.dto.external.IssueMetadataApiResponse;
+import com.team.catchup.jira.entity.IssueType;
+import com.team.catchup.jira.entity.JiraProject;
+import com.team.catchup.jira.entity.JiraUser;
+import com.team.catchup.jira.repository.IssueTypeRepository;
+import com.team.catchup.jira.repository.JiraProjectRepository;
+import com.team.catchup.jira.repository.JiraUserRepository;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Issue 매핑용 참조 엔티티(IssueType / JiraProject / JiraUser) 캐시
+ * 동기화 1회(프로젝트 단위) 동안 유지되며, 페이지마다 처음 보는 ID만 종류별로 findAllById 한 번에 조회한다.
+ * DB에 없는 ID도 기록해 같은 ID를 다시 조회하지 않는다.
+ */
+public class JiraReferenceCache {
+
+    private final Lookup<Integer, IssueType> issueTypes;
+    private final Lookup<Integer, JiraProject> projects;
+    private final Lookup<String, JiraUser> users;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder queries = new LongAdder();
+
+    JiraReferenceCache(IssueTypeRepository issueTypeRepository,
+                       JiraProjectRepository jiraProjectRepository,
+                       JiraUserRepository jiraUserRepository) {
+        this.issueTypes = new Lookup<>(issueTypeRepository::findAllById, IssueType::getId);
+        this.projects = new Lookup<>(jiraProjectRepository::findAllById, JiraProject::getProjectId);
+        this.users = new Lookup<>(jiraUserRepository::findAllById, JiraUser::getAccountId);
+    }
+
+    /**
+     * 페이지의 Issue들이 참조하는 ID 중 아직 조회하지 않은 것만 모아 종류별로 한 번씩 조회
+     */
+    public void prefetch(List<IssueMetadataApiResponse.JiraIssue> issues) {
+        Set<Integer> issueTypeIds = new HashSet<>();
+        Set<Integer> projectIds = new HashSet<>();
+        Set<String> accountIds = new HashSet<>();
+
+        for (IssueMetadataApiResponse.JiraIssue issue : issues) {
+            IssueMetadataApiResponse.Fields fields = issue.fields();
+            if (fields == null) continue;
+
+            if (fields.issueType() != null) {
+                issueTypes.collectUnknown(issueTypeIds, parseId(fields.issueType().id()));
+            }
+            if (fields.project() != null) {
+                projects.collectUnknown(projectIds, parseId(fields.project().projectId()));
+            }
+            collectUser(accountIds, fields.creator());
+            collectUser(accountIds, fields.reporter());
+            collectUser(accountIds, fields.assignee());
+        }
+
+        issueTypes.load(issueTypeIds);
+        projects.load(projectIds);
+        users.load(accountIds);
+    }
+
+    public IssueType getIssueType(Integer id) {
+        return issueTypes.get(id);
+    }
+
+    public JiraProject getProject(Integer id) {
+        return projects.get(id);
+    }
+
+    public JiraUser getUser(String accountId) {
+        return users.get(accountId);
+    }
+
+    /**
+     * 캐시에서 바로 해석된 참조 수
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * DB 조회가 필요했던 참조 수
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * 실행한 findAllById 쿼리 수
+     */
+    public long getQueries() {
+        return queries.sum();
+    }
+
+    // ==================== Helpers ====================
+
+    private void collectUser(Set<String> accountIds, IssueMetadataApiResponse.UserID userID) {
+        if (userID != null) {
+            users.collectUnknown(accountIds, userID.id());
+        }
+    }
+
+    private Integer parseId(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private class Lookup<K, V> {
+
+        private final Map<K, V> found = new ConcurrentHashMap<>();
+        private final Set<K> notFound = ConcurrentHashMap.newKeySet();
+        private final Function<Collection<K>, List<V>> finder;
+        private final Function<V, K> idOf;
+
+        Lookup(Function<Collection<K>, List<V>> finder, Function<V, K> idOf) {
+            this.finder = finder;
+            this.idOf = idOf;
+        }
+
+        void collectUnknown(Set<K> ids, K id) {
+            if (id == null) {
+                return;
+            }
+            if (found.containsKey(id) || notFound.contains(id) || ids.contains(id)) {
+                hits.increment();
+            } else {
+                misses.increment();
+                ids.add(id);
+            }
+        }
+
+        void load(Set<K> ids) {
+            if (ids.isEmpty()) {
+                return;
+            }
+            queries.increment();
+            for (V entity : finder.apply(ids)) {
+                found.put(idOf.apply(entity), entity);
+            }
+            for (K id : ids) {
+                if (!found.containsKey(id)) {
+                    notFound.add(id);
+                }
+            }
+        }
+
+        V get(K id) {
+            return id == null ? null : found.get(id);
+        }
+    }
+}
@@ -2,9 +2,13 @@ package com.team.catchup.jira.repository;
 
 import com.team.catchup.jira.entity.IssueMetadata;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface IssueMetaDataRepository extends JpaRepository<IssueMetadata, Integer> {
@@ -12,4 +16,7 @@ public interface IssueMetaDataRepository extends JpaRepository<IssueMetadata, In
     Optional<IssueMetadata> findByIssueKey(String issueKey);
 
     boolean existsByIssueKey(String issueKey);
+
+    @Query("SELECT i.issueId FROM IssueMetadata i WHERE i.issueId IN :issueIds")
+    Set<Integer> findExistingIssueIds(@Param("issueIds") Collection<Integer> issueIds);
 }
@@ -0,0 +1,296 @@
+package com.team.catchup.jira.repository;
+
+import com.team.catchup.jira.entity.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Jira 동기화 대량 저장용 PostgreSQL Upsert (INSERT ... ON CONFLICT DO UPDATE)
+ * 엔티티마다 existsById + save를 실행하지 않고, 페이지 단위 다중 VALUES 구문 하나로 삽입/갱신한다.
+ * - RETURNING (xmax = 0)으로 신규 삽입과 갱신을 구분
+ * - 값이 바뀌지 않은 기존 행은 갱신하지 않음 (inserted/updated 어디에도 포함되지 않음)
+ * - Jira 엔티티는 모두 Jira ID를 PK로 사용하므로 Sequence 할당 없음
+ * - 호출자의 트랜잭션(JiraPersistenceService)에 참여
+ */
+@Repository
+@RequiredArgsConstructor
+public class JiraBulkUpsertRepository {
+
+    // 구문당 바인드 파라미터 수를 PostgreSQL 상한(65535) 이내로 유지
+    private static final int CHUNK_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // ==================== Project / User / Issue Type ====================
+
+    public UpsertResult upsertProjects(List<JiraProject> projects) {
+        return executeChunked(
+                "INSERT INTO jira_project (project_id, project_key, name, description, project_type_key, style, " +
+                        "is_simplified, is_private, avatar_url, total_issue_count, last_update_time)",
+                "ON CONFLICT (project_id) DO UPDATE SET " +
+                        "project_key = EXCLUDED.project_key, name = EXCLUDED.name, description = EXCLUDED.description, " +
+                        "project_type_key = EXCLUDED.project_type_key, style = EXCLUDED.style, " +
+                        "is_simplified = EXCLUDED.is_simplified, is_private = EXCLUDED.is_private, " +
+                        "avatar_url = EXCLUDED.avatar_url, total_issue_count = EXCLUDED.total_issue_count, " +
+                        "last_update_time = EXCLUDED.last_update_time " +
+                        "WHERE (jira_project.project_key, jira_project.name, jira_project.description, " +
+                        "jira_project.project_type_key, jira_project.style, jira_project.is_simplified, " +
+                        "jira_project.is_private, jira_project.avatar_url, jira_project.total_issue_count, " +
+                        "jira_project.last_update_time) " +
+                        "IS DISTINCT FROM (EXCLUDED.project_key, EXCLUDED.name, EXCLUDED.description, " +
+                        "EXCLUDED.project_type_key, EXCLUDED.style, EXCLUDED.is_simplified, EXCLUDED.is_private, " +
+                        "EXCLUDED.avatar_url, EXCLUDED.total_issue_count, EXCLUDED.last_update_time)",
+                11,
+                distinctBy(projects, JiraProject::getProjectId),
+                project -> new Object[]{
+                        project.getProjectId(), project.getProjectKey(), project.getName(), project.getDescription(),
+                        project.getProjectTypeKey(), project.getStyle(), project.getSimplified(),
+                        project.getIsPrivate(), project.getAvatarUrl(), project.getTotalIssueCount(),
+                        project.getLastIssueUpdateTime()
+                }
+        );
+    }
+
+    public UpsertResult upsertUsers(List<JiraUser> users) {
+        return executeChunked(
+                "INSERT INTO jira_user (account_id, account_type, display_name, avatar_url, is_active, locale, self_url)",
+                "ON CONFLICT (account_id) DO UPDATE SET " +
+                        "account_type = EXCLUDED.account_type, display_name = EXCLUDED.display_name, " +
+                        "avatar_url = EXCLUDED.avatar_url, is_active = EXCLUDED.is_active, " +
+                        "locale = EXCLUDED.locale, self_url = EXCLUDED.self_url " +
+                        "WHERE (jira_user.account_type, jira_user.display_name, jira_user.avatar_url, " +
+                        "jira_user.is_active, jira_user.locale, jira_user.self_url) " +
+                        "IS DISTINCT FROM (EXCLUDED.account_type, EXCLUDED.display_name, EXCLUDED.avatar_url, " +
+                        "EXCLUDED.is_active, EXCLUDED.locale, EXCLUDED.self_url)",
+                7,
+                distinctBy(users, JiraUser::getAccountId),
+                user -> new Object[]{
+                        user.getAccountId(), user.getAccountType(), user.getDisplayName(), user.getAvatarUrl(),
+                        user.getActive(), user.getLocale(), user.getSelfUrl()
+                }
+        );
+    }
+
+    public UpsertResult upsertIssueTypes(List<IssueType> issueTypes) {
+        return executeChunked(
+                "INSERT INTO issue_type (issue_type_id, name, icon_url, is_subtask, hierarchy_level, scope_type, " +
+                        "scope_project_id)",
+                "ON CONFLICT (issue_type_id) DO UPDATE SET " +
+                        "name = EXCLUDED.name, icon_url = EXCLUDED.icon_url, is_subtask = EXCLUDED.is_subtask, " +
+                        "hierarchy_level = EXCLUDED.hierarchy_level, scope_type = EXCLUDED.scope_type, " +
+                        "scope_project_id = EXCLUDED.scope_project_id " +
+                        "WHERE (issue_type.name, issue_type.icon_url, issue_type.is_subtask, issue_type.hierarchy_level, " +
+                        "issue_type.scope_type, issue_type.scope_project_id) " +
+                        "IS DISTINCT FROM (EXCLUDED.name, EXCLUDED.icon_url, EXCLUDED.is_subtask, " +
+                        "EXCLUDED.hierarchy_level, EXCLUDED.scope_type, EXCLUDED.scope_project_id)",
+                7,
+                distinctBy(issueTypes, IssueType::getId),
+                issueType -> new Object[]{
+                        issueType.getId(), issueType.getName(), issueType.getIconUrl(), issueType.isSubtask(),
+                        issueType.getHierarchyLevel(), issueType.getScopeType(), issueType.getScopeProjectId()
+                }
+        );
+    }
+
+    // ==================== Issue Metadata ====================
+
+    /**
+     * Issue Upsert (description은 동기화 대상이 아니므로 건드리지 않음)
+     */
+    public UpsertResult upsertIssues(List<IssueMetadata> issues) {
+        return executeChunked(
+                "INSERT INTO issue_metadata (issue_id, issue_key, issue_url, issue_type_id, project_id, summary, " +
+                        "parent_issue_id, status_id, priority_id, duedate, created_at, resolution_id, resolution_date, " +
+                        "creator_id, reporter_id, assignee_id)",
+                "ON CONFLICT (issue_id) DO UPDATE SET " +
+                        "issue_key = EXCLUDED.issue_key, issue_url = EXCLUDED.issue_url, " +
+                        "issue_type_id = EXCLUDED.issue_type_id, project_id = EXCLUDED.project_id, " +
+                        "summary = EXCLUDED.summary, parent_issue_id = EXCLUDED.parent_issue_id, " +
+                        "status_id = EXCLUDED.status_id, priority_id = EXCLUDED.priority_id, " +
+                        "duedate = EXCLUDED.duedate, created_at = EXCLUDED.created_at, " +
+                        "resolution_id = EXCLUDED.resolution_id, resolution_date = EXCLUDED.resolution_date, " +
+                        "creator_id = EXCLUDED.creator_id, reporter_id = EXCLUDED.reporter_id, " +
+                        "assignee_id = EXCLUDED.assignee_id " +
+                        "WHERE (issue_metadata.issue_key, issue_metadata.issue_url, issue_metadata.issue_type_id, " +
+                        "issue_metadata.project_id, issue_metadata.summary, issue_metadata.parent_issue_id, " +
+                        "issue_metadata.status_id, issue_metadata.priority_id, issue_metadata.duedate, " +
+                        "issue_metadata.created_at, issue_metadata.resolution_id, issue_metadata.resolution_date, " +
+                        "issue_metadata.creator_id, issue_metadata.reporter_id, issue_metadata.assignee_id) " +
+                        "IS DISTINCT FROM (EXCLUDED.issue_key, EXCLUDED.issue_url, EXCLUDED.issue_type_id, " +
+                        "EXCLUDED.project_id, EXCLUDED.summary, EXCLUDED.parent_issue_id, EXCLUDED.status_id, " +
+                        "EXCLUDED.priority_id, EXCLUDED.duedate, EXCLUDED.created_at, EXCLUDED.resolution_id, " +
+                        "EXCLUDED.resolution_date, EXCLUDED.creator_id, EXCLUDED.reporter_id, EXCLUDED.assignee_id)",
+                16,
+                distinctBy(issues, IssueMetadata::getIssueId),
+                issue -> new Object[]{
+                        issue.getIssueId(), issue.getIssueKey(), issue.getSelf(),
+                        issue.getIssueType() != null ? issue.getIssueType().getId() : null,
+                        issue.getProject() != null ? issue.getProject().getProjectId() : null,
+                        issue.getSummary(), issue.getParentIssueId(), issue.getStatusId(), issue.getPriorityId(),
+                        issue.getDuedate(), issue.getIssueCreatedAt(), issue.getResolutionId(),
+                        issue.getResolutionDate(),
+                        issue.getCreator() != null ? issue.getCreator().getAccountId() : null,
+                        issue.getReporter() != null ? issue.getReporter().getAccountId() : null,
+                        issue.getAssignee() != null ? issue.getAssignee().getAccountId() : null
+                }
+        );
+    }
+
+    // ==================== Issue Link / Attachment ====================
+
+    public UpsertResult upsertLinkTypes(List<IssueLinkType> linkTypes) {
+        return executeChunked(
+                "INSERT INTO issue_link_type (link_type_id, name, inward, outward, self_url)",
+                "ON CONFLICT (link_type_id) DO UPDATE SET " +
+                        "name = EXCLUDED.name, inward = EXCLUDED.inward, outward = EXCLUDED.outward, " +
+                        "self_url = EXCLUDED.self_url " +
+                        "WHERE (issue_link_type.name, issue_link_type.inward, issue_link_type.outward, " +
+                        "issue_link_type.self_url) " +
+                        "IS DISTINCT FROM (EXCLUDED.name, EXCLUDED.inward, EXCLUDED.outward, EXCLUDED.self_url)",
+                5,
+                distinctBy(linkTypes, IssueLinkType::getLinkTypeId),
+                linkType -> new Object[]{
+                        linkType.getLinkTypeId(), linkType.getName(), linkType.getInward(), linkType.getOutward(),
+                        linkType.getSelfUrl()
+                }
+        );
+    }
+
+    /**
+     * Issue Link Upsert
+     * Link는 양쪽 Issue 중 한쪽에서만 상대 Issue를 알려주므로, 이미 채워진 inward/outward는 유지하고 비어 있는 쪽만 채운다.
+     * @param existingIssueIds DB에 존재하는 Issue ID (아직 동기화되지 않은 Issue는 FK 위반을 피하기 위해 null로 저장)
+     */
+    public UpsertResult upsertIssueLinks(List<IssueLink> links, Set<Integer> existingIssueIds) {
+        return executeChunked(
+                "INSERT INTO issue_link (link_id, outward_issue_id, inward_issue_id, link_type_id)",
+                "ON CONFLICT (link_id) DO UPDATE SET " +
+                        "outward_issue_id = COALESCE(issue_link.outward_issue_id, EXCLUDED.outward_issue_id), " +
+                        "inward_issue_id = COALESCE(issue_link.inward_issue_id, EXCLUDED.inward_issue_id), " +
+                        "link_type_id = EXCLUDED.link_type_id " +
+                        "WHERE (issue_link.outward_issue_id IS NULL AND EXCLUDED.outward_issue_id IS NOT NULL) " +
+                        "OR (issue_link.inward_issue_id IS NULL AND EXCLUDED.inward_issue_id IS NOT NULL) " +
+                        "OR issue_link.link_type_id IS DISTINCT FROM EXCLUDED.link_type_id",
+                4,
+                mergeLinks(links),
+                link -> new Object[]{
+                        link.getLinkId(),
+                        existingIssueId(link.getOutwardIssue(), existingIssueIds),
+                        existingIssueId(link.getInwardIssue(), existingIssueIds),
+                        link.getLinkType().getLinkTypeId()
+                }
+        );
+    }
+
+    public UpsertResult upsertAttachments(List<IssueAttachment> attachments) {
+        return executeChunked(
+                "INSERT INTO issue_attachment (attachment_id, issue_id, file_name, author_id, created_at, size, " +
+                        "mime_type, download_url, thumbnail_url)",
+                "ON CONFLICT (attachment_id) DO UPDATE SET " +
+                        "issue_id = EXCLUDED.issue_id, file_name = EXCLUDED.file_name, author_id = EXCLUDED.author_id, " +
+                        "created_at = EXCLUDED.created_at, size = EXCLUDED.size, mime_type = EXCLUDED.mime_type, " +
+                        "download_url = EXCLUDED.download_url, thumbnail_url = EXCLUDED.thumbnail_url " +
+                        "WHERE (issue_attachment.issue_id, issue_attachment.file_name, issue_attachment.author_id, " +
+                        "issue_attachment.created_at, issue_attachment.size, issue_attachment.mime_type, " +
+                        "issue_attachment.download_url, issue_attachment.thumbnail_url) " +
+                        "IS DISTINCT FROM (EXCLUDED.issue_id, EXCLUDED.file_name, EXCLUDED.author_id, " +
+                        "EXCLUDED.created_at, EXCLUDED.size, EXCLUDED.mime_type, EXCLUDED.download_url, " +
+                        "EXCLUDED.thumbnail_url)",
+                9,
+                distinctBy(attachments, IssueAttachment::getId),
+                attachment -> new Object[]{
+                        attachment.getId(), attachment.getIssueId().getIssueId(), attachment.getFileName(),
+                        attachment.getAuthorId(), attachment.getCreatedAt(), attachment.getSize(),
+                        attachment.getMimetype(), attachment.getDownloadUrl(), attachment.getThumbnailUrl()
+                }
+        );
+    }
+
+    // ==================== Helpers ====================
+
+    /**
+     * CHUNK_SIZE 행씩 다중 VALUES 구문으로 실행
+     */
+    private <T> UpsertResult executeChunked(String insertClause, String conflictClause, int columnCount,
+                                            List<T> rows, Function<T, Object[]> values) {
+        int inserted = 0;
+        int updated = 0;
+        for (int from = 0; from < rows.size(); from += CHUNK_SIZE) {
+            List<T> chunk = rows.subList(from, Math.min(from + CHUNK_SIZE, rows.size()));
+
+            Object[] args = new Object[chunk.size() * columnCount];
+            for (int i = 0; i < chunk.size(); i++) {
+                System.arraycopy(values.apply(chunk.get(i)), 0, args, i * columnCount, columnCount);
+            }
+
+            String sql = insertClause + " VALUES " + placeholders(chunk.size(), columnCount) + " " +
+                    conflictClause + " RETURNING (xmax = 0) AS inserted";
+            for (Boolean isInsert : jdbcTemplate.query(sql, (rs, rowNum) -> rs.getBoolean("inserted"), args)) {
+                if (isInsert) {
+                    inserted++;
+                } else {
+                    updated++;
+                }
+            }
+        }
+        return new UpsertResult(inserted, updated);
+    }
+
+    private String placeholders(int rowCount, int columnCount) {
+        String row = "(" + String.join(", ", Collections.nCopies(columnCount, "?")) + ")";
+        return String.join(", ", Collections.nCopies(rowCount, row));
+    }
+
+    /**
+     * 같은 구문에서 한 행을 두 번 갱신할 수 없으므로(ON CONFLICT 제약) 키 중복은 마지막 값만 유지
+     */
+    private <T, K> List<T> distinctBy(List<T> rows, Function<T, K> key) {
+        Map<K, T> distinct = new LinkedHashMap<>();
+        rows.forEach(row -> distinct.put(key.apply(row), row));
+        return new ArrayList<>(distinct.values());
+    }
+
+    /**
+     * 같은 Link가 양쪽 Issue에서 각각 내려오면 한 행으로 합침 (각 Issue가 알려준 상대 Issue를 모두 유지)
+     */
+    private List<IssueLink> mergeLinks(List<IssueLink> links) {
+        Map<Integer, IssueLink> merged = new LinkedHashMap<>();
+        for (IssueLink link : links) {
+            merged.merge(link.getLinkId(), link, (previous, current) -> IssueLink.builder()
+                    .linkId(current.getLinkId())
+                    .outwardIssue(current.getOutwardIssue() != null ? current.getOutwardIssue() : previous.getOutwardIssue())
+                    .inwardIssue(current.getInwardIssue() != null ? current.getInwardIssue() : previous.getInwardIssue())
+                    .linkType(current.getLinkType())
+                    .build());
+        }
+        return new ArrayList<>(merged.values());
+    }
+
+    private Integer existingIssueId(IssueMetadata issue, Set<Integer> existingIssueIds) {
+        if (issue == null || !existingIssueIds.contains(issue.getIssueId())) {
+            return null;
+        }
+        return issue.getIssueId();
+    }
+
+    /**
+     * Upsert 결과
+     * @param inserted 신규 삽입된 행 수
+     * @param updated 값이 바뀌어 갱신된 기존 행 수
+     */
+    public record UpsertResult(int inserted, int updated) {
+
+        public int written() {
+            return inserted + updated;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.team.catchup.jira.repository;
+
+import com.team.catchup.jira.entity.JiraSyncWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface JiraSyncWatermarkRepository extends JpaRepository<JiraSyncWatermark, String> {
+}
@@ -10,29 +10,40 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 
 @Service
 @Slf4j
 public class JiraApiService {
 
+    private static final DateTimeFormatter JQL_DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm");
+
     private final WebClient jiraWebClient;
 
     public JiraApiService(@Qualifier("jiraWebClient") WebClient jiraWebClient) {
         this.jiraWebClient = jiraWebClient;
     }
 
+    /**
+     * 프로젝트 Issue 조회 (updated 오름차순)
+     * @param updatedSince null이 아니면 이 시각 이후 변경된 Issue만 조회 (JQL은 분 단위, Jira 계정 시간대 기준)
+     */
     // TODO : Meilisearch Document 생성 시 필요한 요소들 확정되면 JQL 쿼리 수정
     public Mono<IssueMetadataApiResponse> fetchIssues(
             String projectKey,
+            LocalDateTime updatedSince,
             String nextPageToken,
             Integer maxResults,
             boolean fetchAllFields
     ) {
-        String jql = "project = " + projectKey;
+        String jql = "project = " + projectKey
+                + (updatedSince != null ? " AND updated >= \"" + JQL_DATE_FORMATTER.format(updatedSince) + "\"" : "")
+                + " ORDER BY updated ASC";
 
-        log.debug("[JIRA API] Fetching issues - projectKey: {}, nextPageToken: {}",
-                projectKey, nextPageToken != null ? "EXISTS" : "null");
+        log.debug("[JIRA API] Fetching issues - projectKey: {}, updatedSince: {}, nextPageToken: {}",
+                projectKey, updatedSince, nextPageToken != null ? "EXISTS" : "null");
 
         return jiraWebClient.get()
                 .uri(uriBuilder -> {
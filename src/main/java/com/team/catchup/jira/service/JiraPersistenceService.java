@@ -2,195 +2,137 @@ package com.team.catchup.jira.service;
 
 import com.team.catchup.jira.entity.*;
 import com.team.catchup.jira.repository.*;
+import com.team.catchup.jira.repository.JiraBulkUpsertRepository.UpsertResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
+/**
+ * Jira 동기화 결과 저장
+ * 페이지 단위로 JiraBulkUpsertRepository의 Upsert 구문을 실행해 신규 행은 삽입, 값이 바뀐 기존 행은 갱신한다.
+ * 반환값은 삽입 + 갱신된 행 수
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 @Transactional
 public class JiraPersistenceService {
 
+    private final JiraBulkUpsertRepository bulkUpsertRepository;
     private final IssueMetaDataRepository issueMetaDataRepository;
-    private final IssueLinkRepository issueLinkRepository;
-    private final IssueLinkTypeRepository issueLinkTypeRepository;
-    private final IssueAttachmentRepository issueAttachmentRepository;
-    private final IssueTypeRepository issueTypeRepository;
-    private final JiraUserRepository jiraUserRepository;
-    private final JiraProjectRepository jiraProjectRepository;
+    private final JiraSyncWatermarkRepository watermarkRepository;
 
     // ==================== Project ====================
 
-    // 배치 저장
     public int saveAllProjects(List<JiraProject> entities) {
-        int savedCount = 0;
-        for (JiraProject entity : entities) {
-            if (saveProjectIfNotExists(entity)) {
-                savedCount++;
-            }
-        }
-        log.info("[JIRA][PERSISTENCE] Projects saved - saved: {}, total: {}", savedCount, entities.size());
-        return savedCount;
-    }
-
-    // 단건 저장
-    private boolean saveProjectIfNotExists(JiraProject entity) {
-        if (jiraProjectRepository.existsById(entity.getProjectId())) {
-            log.debug("[JIRA][PERSISTENCE] Project already exists - id: {}", entity.getProjectId());
-            return false;
-        }
-        jiraProjectRepository.save(entity);
-        log.debug("[JIRA][PERSISTENCE] Project saved - key: {}", entity.getProjectKey());
-        return true;
+        UpsertResult result = bulkUpsertRepository.upsertProjects(entities);
+        log.info("[JIRA][PERSISTENCE] Projects saved - inserted: {}, updated: {}, total: {}",
+                result.inserted(), result.updated(), entities.size());
+        return result.written();
     }
 
     // ==================== User ====================
 
-    // 배치 저장
     public int saveAllUsers(List<JiraUser> entities) {
-        int savedCount = 0;
-        for (JiraUser entity : entities) {
-            if (saveUserIfNotExists(entity)) {
-                savedCount++;
-            }
-        }
-        log.info("[JIRA][PERSISTENCE] Users saved - saved: {}, total: {}", savedCount, entities.size());
-        return savedCount;
-    }
-
-    // 단건 저장
-    private boolean saveUserIfNotExists(JiraUser entity) {
-        if (jiraUserRepository.existsById(entity.getAccountId())) {
-            log.debug("[JIRA][PERSISTENCE] User already exists - accountId: {}", entity.getAccountId());
-            return false;
-        }
-        jiraUserRepository.save(entity);
-        log.debug("[JIRA][PERSISTENCE] User saved - accountId: {}", entity.getAccountId());
-        return true;
+        UpsertResult result = bulkUpsertRepository.upsertUsers(entities);
+        log.info("[JIRA][PERSISTENCE] Users saved - inserted: {}, updated: {}, total: {}",
+                result.inserted(), result.updated(), entities.size());
+        return result.written();
     }
 
     // ==================== Issue Type ====================
 
-    // 배치 저장
     public int saveAllIssueTypes(List<IssueType> entities) {
-        int savedCount = 0;
-        for (IssueType entity : entities) {
-            if (saveIssueTypeIfNotExists(entity)) {
-                savedCount++;
-            }
-        }
-        log.info("[JIRA][PERSISTENCE] IssueTypes saved - saved: {}, total: {}", savedCount, entities.size());
-        return savedCount;
-    }
-
-    // 단건 저장
-    private boolean saveIssueTypeIfNotExists(IssueType entity) {
-        if (issueTypeRepository.existsById(entity.getId())) {
-            log.debug("[JIRA][PERSISTENCE] IssueType already exists - id: {}", entity.getId());
-            return false;
-        }
-        issueTypeRepository.save(entity);
-        log.debug("[JIRA][PERSISTENCE] IssueType saved - id: {}", entity.getId());
-        return true;
+        UpsertResult result = bulkUpsertRepository.upsertIssueTypes(entities);
+        log.info("[JIRA][PERSISTENCE] IssueTypes saved - inserted: {}, updated: {}, total: {}",
+                result.inserted(), result.updated(), entities.size());
+        return result.written();
     }
 
     // ==================== Issue Metadata ====================
 
-    // 배치 저장
     public int saveAllIssues(List<IssueMetadata> entities) {
-        int savedCount = 0;
-        for (IssueMetadata entity : entities) {
-            if (saveIssueIfNotExists(entity)) {
-                savedCount++;
-            }
-        }
-        log.info("[JIRA][PERSISTENCE] Issues saved - saved: {}, total: {}", savedCount, entities.size());
-        return savedCount;
-    }
-
-    // 단건 저장
-    private boolean saveIssueIfNotExists(IssueMetadata entity) {
-        if (issueMetaDataRepository.existsByIssueKey(entity.getIssueKey())) {
-            log.debug("[JIRA][PERSISTENCE] Issue already exists - key: {}", entity.getIssueKey());
-            return false;
-        }
-        issueMetaDataRepository.save(entity);
-        log.debug("[JIRA][PERSISTENCE] Issue saved - key: {}", entity.getIssueKey());
-        return true;
-    }
-
-    // ==================== Issue Link Type ====================
-
-    // 단건 저장
-    public boolean saveLinkTypeIfNotExists(IssueLinkType entity) {
-        if (issueLinkTypeRepository.existsById(entity.getLinkTypeId())) {
-            log.debug("[JIRA][PERSISTENCE] LinkType already exists - id: {}", entity.getLinkTypeId());
-            return false;
-        }
-        issueLinkTypeRepository.save(entity);
-        log.debug("[JIRA][PERSISTENCE] LinkType saved - id: {}", entity.getLinkTypeId());
-        return true;
+        UpsertResult result = bulkUpsertRepository.upsertIssues(entities);
+        log.info("[JIRA][PERSISTENCE] Issues saved - inserted: {}, updated: {}, total: {}",
+                result.inserted(), result.updated(), entities.size());
+        return result.written();
     }
 
     // ==================== Issue Link ====================
 
-    // 단건 저장
-    public boolean saveIssueLinkIfNotExists(IssueLink entity) {
-        if (issueLinkRepository.existsById(entity.getLinkId())) {
-            log.debug("[JIRA][PERSISTENCE] IssueLink already exists - id: {}", entity.getLinkId());
-            return false;
-        }
-        issueLinkRepository.save(entity);
-        log.debug("[JIRA][PERSISTENCE] IssueLink saved - id: {}", entity.getLinkId());
-        return true;
-    }
-
-    // 업데이트
-    public boolean updateIssueLink(IssueLink entity) {
-        Optional<IssueLink> existingLink = issueLinkRepository.findById(entity.getLinkId());
-        if (existingLink.isEmpty()) {
-            log.debug("[JIRA][PERSISTENCE] IssueLink not found for update - id: {}", entity.getLinkId());
-            return false;
+    /**
+     * Link Type과 Issue Link 저장
+     * 상대 Issue 존재 여부는 페이지당 IN 쿼리 1회로 확인 (없는 Issue는 참조하지 않음)
+     */
+    public int saveAllIssueLinks(List<IssueLinkType> linkTypes, List<IssueLink> links) {
+        bulkUpsertRepository.upsertLinkTypes(linkTypes);
+
+        Set<Integer> linkedIssueIds = new HashSet<>();
+        for (IssueLink link : links) {
+            if (link.getInwardIssue() != null) linkedIssueIds.add(link.getInwardIssue().getIssueId());
+            if (link.getOutwardIssue() != null) linkedIssueIds.add(link.getOutwardIssue().getIssueId());
         }
-        issueLinkRepository.save(entity);
-        log.debug("[JIRA][PERSISTENCE] IssueLink updated - id: {}", entity.getLinkId());
-        return true;
-    }
+        Set<Integer> existingIssueIds = linkedIssueIds.isEmpty()
+                ? Set.of()
+                : issueMetaDataRepository.findExistingIssueIds(linkedIssueIds);
 
-    // 존재 확인
-    public boolean existsIssueLinkById(Integer linkId) {
-        return issueLinkRepository.existsById(linkId);
+        UpsertResult result = bulkUpsertRepository.upsertIssueLinks(links, existingIssueIds);
+        log.debug("[JIRA][PERSISTENCE] IssueLinks saved - inserted: {}, updated: {}, total: {}",
+                result.inserted(), result.updated(), links.size());
+        return result.written();
     }
 
     // ==================== Attachments ====================
 
-    // 단건 저장
-    public boolean saveAttachmentIfNotExists(IssueAttachment entity) {
-        if (issueAttachmentRepository.existsById(entity.getId())) {
-            log.debug("[JIRA][PERSISTENCE] Attachment already exists - id: {}", entity.getId());
-            return false;
+    /**
+     * 필수 값이 빠진 첨부파일은 NOT NULL 위반으로 페이지 전체가 실패하지 않도록 제외
+     */
+    public int saveAllAttachments(List<IssueAttachment> entities) {
+        List<IssueAttachment> valid = entities.stream()
+                .filter(this::hasRequiredFields)
+                .toList();
+        if (valid.size() < entities.size()) {
+            log.warn("[JIRA][PERSISTENCE] Attachments skipped (missing required fields): {}", entities.size() - valid.size());
         }
-        issueAttachmentRepository.save(entity);
-        log.debug("[JIRA][PERSISTENCE] Attachment saved - id: {}", entity.getId());
-        return true;
+
+        UpsertResult result = bulkUpsertRepository.upsertAttachments(valid);
+        log.debug("[JIRA][PERSISTENCE] Attachments saved - inserted: {}, updated: {}, total: {}",
+                result.inserted(), result.updated(), entities.size());
+        return result.written();
     }
 
-    // ==================== 조회 ====================
+    // ==================== Sync Watermark ====================
 
-    public Optional<IssueLink> findIssueLinkById(Integer linkId) {
-        return issueLinkRepository.findById(linkId);
+    @Transactional(readOnly = true)
+    public Optional<LocalDateTime> findWatermark(String projectKey) {
+        return watermarkRepository.findById(projectKey)
+                .map(JiraSyncWatermark::getUpdatedUntil);
     }
 
-    public Optional<IssueMetadata> findIssueById(Integer issueId) {
-        return issueMetaDataRepository.findById(issueId);
+    /**
+     * 프로젝트 Watermark를 updatedUntil로 갱신 (기존 값보다 이후인 경우에만)
+     */
+    public void saveWatermark(String projectKey, LocalDateTime updatedUntil) {
+        watermarkRepository.findById(projectKey).ifPresentOrElse(
+                watermark -> watermark.advanceTo(updatedUntil),
+                () -> watermarkRepository.save(JiraSyncWatermark.builder()
+                        .projectKey(projectKey)
+                        .updatedUntil(updatedUntil)
+                        .build())
+        );
+        log.debug("[JIRA][PERSISTENCE] Watermark updated - projectKey: {}, updatedUntil: {}", projectKey, updatedUntil);
     }
 
-    public Optional<IssueLinkType> findLinkTypeById(Integer linkTypeId) {
-        return issueLinkTypeRepository.findById(linkTypeId);
+    private boolean hasRequiredFields(IssueAttachment attachment) {
+        return attachment.getId() != null && attachment.getFileName() != null && attachment.getAuthorId() != null
+                && attachment.getCreatedAt() != null && attachment.getSize() != null
+                && attachment.getMimetype() != null && attachment.getDownloadUrl() != null;
     }
 }
@@ -1,6 +1,8 @@
 package com.team.catchup.jira.service;
 
 import com.team.catchup.common.sse.dto.SyncCount;
+import com.team.catchup.jira.config.JiraProperties;
+import com.team.catchup.jira.dto.JiraSyncMode;
 import com.team.catchup.jira.dto.external.IssueMetadataApiResponse;
 import com.team.catchup.jira.dto.external.IssueTypeApiResponse;
 import com.team.catchup.jira.dto.external.JiraProjectApiResponse;
@@ -13,14 +15,25 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Callable;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class JiraProcessor {
 
+    private static final int PAGE_SIZE = 100;
+    private static final int ISSUE_PAGE_SIZE = 1000;
+
     private final JiraApiService jiraApiService;
     private final JiraPersistenceService jiraPersistenceService;
 
@@ -31,251 +44,221 @@ public class JiraProcessor {
     private final IssueLinkMapper issueLinkMapper;
     private final IssueAttachmentMapper issueAttachmentMapper;
     private final ApplicationEventPublisher applicationEventPublisher;
+    private final Scheduler jiraPersistenceScheduler;
+    private final JiraProperties jiraProperties;
 
-    public SyncCount syncProjects() {
+    public Mono<SyncCount> syncProjects() {
         log.info("[JIRA PROCESSOR] Project Sync Started");
 
-        int startAt = 0;
-        int maxResults = 100;
-        int totalFetched = 0;
-        int totalSaved = 0;
-        boolean hasMore = true;
-
-        while (hasMore) {
-            JiraProjectApiResponse response = jiraApiService
-                    .fetchProjects(startAt, maxResults)
-                    .block();
-
-            if (response == null || response.values() == null || response.values().isEmpty()) {
-                log.warn("[JIRA PROCESSOR] Empty Response");
-                break;
-            }
-
-            List<JiraProject> entities = response.values().stream()
-                    .map(jiraProjectMapper::toEntity)
-                    .toList();
-
-            totalFetched += entities.size();
-            totalSaved += jiraPersistenceService.saveAllProjects(entities);
-
-            hasMore = !Boolean.TRUE.equals(response.isLast());
-            if (hasMore) {
-                startAt += maxResults;
-            }
-        }
-
-        log.info("[JIRA PROCESSOR] Project Sync Completed | Fetched: {}, Saved: {}", totalFetched, totalSaved);
-        return SyncCount.of(totalFetched, totalSaved);
+        return fetchProjectPage(0)
+                .expand(page -> page.hasMore() ? fetchProjectPage(page.startAt() + PAGE_SIZE) : Mono.empty())
+                // prefetch 1: 현재 페이지 저장 중 다음 페이지 조회
+                .concatMap(page -> persist(() -> {
+                    List<JiraProject> entities = page.response().values().stream()
+                            .map(jiraProjectMapper::toEntity)
+                            .toList();
+                    return SyncCount.of(entities.size(), jiraPersistenceService.saveAllProjects(entities));
+                }), 1)
+                .reduce(SyncCount.empty(), SyncCount::plus)
+                .doOnSuccess(count -> log.info("[JIRA PROCESSOR] Project Sync Completed | Fetched: {}, Saved: {}",
+                        count.getTotal(), count.getSaved()));
     }
     // =================================================================================================================
-    public SyncCount syncUsers() {
+    public Mono<SyncCount> syncUsers() {
         log.info("[JIRA PROCESSOR] User Sync Started");
 
-        int startAt = 0;
-        int maxResults = 100;
-        int totalFetched = 0;
-        int totalSaved = 0;
-        boolean hasMore = true;
-
-        while (hasMore) {
-            List<JiraUserApiResponse> responses = jiraApiService
-                    .fetchUsers(startAt, maxResults)
-                    .block();
-
-            if (responses == null || responses.isEmpty()) {
-                break;
-            }
-
-            List<JiraUser> entities = responses.stream()
-                    .map(jiraUserMapper::toEntity)
-                    .toList();
-
-            totalFetched += entities.size();
-            totalSaved += jiraPersistenceService.saveAllUsers(entities);
-
-            if (responses.size() < maxResults) {
-                hasMore = false;
-            } else {
-                startAt += maxResults;
-            }
-        }
-
-        log.info("[JIRA PROCESSOR] User Sync Completed | Fetched: {}, Saved: {}", totalFetched, totalSaved);
-        return SyncCount.of(totalFetched, totalSaved);
+        return fetchUserPage(0)
+                .expand(page -> page.hasMore() ? fetchUserPage(page.startAt() + PAGE_SIZE) : Mono.empty())
+                .concatMap(page -> persist(() -> {
+                    List<JiraUser> entities = page.users().stream()
+                            .map(jiraUserMapper::toEntity)
+                            .toList();
+                    return SyncCount.of(entities.size(), jiraPersistenceService.saveAllUsers(entities));
+                }), 1)
+                .reduce(SyncCount.empty(), SyncCount::plus)
+                .doOnSuccess(count -> log.info("[JIRA PROCESSOR] User Sync Completed | Fetched: {}, Saved: {}",
+                        count.getTotal(), count.getSaved()));
     }
 
-    public SyncCount syncIssueTypes() {
+    public Mono<SyncCount> syncIssueTypes() {
         log.info("[JIRA PROCESSOR] IssueType Sync Started");
 
-        List<IssueTypeApiResponse> responses = jiraApiService
-                .fetchIssueTypes()
-                .block();
-
-        if (responses == null || responses.isEmpty()) {
-            log.warn("[JIRA][ISSUE TYPE SYNC] Response is Empty");
-            return SyncCount.empty();
-        }
-
-        List<IssueType> entities = responses.stream()
-                .map(issueTypeMapper::toEntity)
-                .toList();
-
-        int totalSaved = jiraPersistenceService.saveAllIssueTypes(entities);
+        return jiraApiService.fetchIssueTypes()
+                .flatMap(responses -> {
+                    if (responses == null || responses.isEmpty()) {
+                        log.warn("[JIRA][ISSUE TYPE SYNC] Response is Empty");
+                        return Mono.just(SyncCount.empty());
+                    }
 
-        log.info("[JIRA PROCESSOR] IssueType Sync Completed | Fetched: {}, Saved: {}", entities.size(), totalSaved);
-        return SyncCount.of(entities.size(), totalSaved);
+                    List<IssueType> entities = responses.stream()
+                            .map(issueTypeMapper::toEntity)
+                            .toList();
+                    return persist(() -> SyncCount.of(entities.size(), jiraPersistenceService.saveAllIssueTypes(entities)));
+                })
+                .defaultIfEmpty(SyncCount.empty())
+                .doOnSuccess(count -> log.info("[JIRA PROCESSOR] IssueType Sync Completed | Fetched: {}, Saved: {}",
+                        count.getTotal(), count.getSaved()));
     }
 
-    public ProjectSyncResult syncSingleProjectIssue(String projectKey) {
-        log.info("[JIRA][PROJECT ISSUE SYNC] projectKey: {}", projectKey);
-
-        try {
-            IssueSyncResult issueResult = syncIssuesForProject(projectKey);
-
-            log.info("[JIRA PROCESSOR] Issue Sync Completed | Project Key: {}", projectKey);
-            return ProjectSyncResult.success(
-                    projectKey,
-                    issueResult.issues(),
-                    issueResult.issueLinks(),
-                    issueResult.attachments()
-            );
-        } catch (Exception e) {
-            log.error("[JIRA PROCESSOR] Project Issue Sync Failed - projectKey: {}", projectKey, e);
-            return ProjectSyncResult.failure(projectKey, e.getMessage());
-        }
+    public Mono<ProjectSyncResult> syncSingleProjectIssue(String projectKey, JiraSyncMode mode) {
+        log.info("[JIRA][PROJECT ISSUE SYNC] projectKey: {}, mode: {}", projectKey, mode);
+
+        return syncIssuesForProject(projectKey, mode)
+                .map(issueResult -> {
+                    log.info("[JIRA PROCESSOR] Issue Sync Completed | Project Key: {}", projectKey);
+                    return ProjectSyncResult.success(
+                            projectKey,
+                            issueResult.issues(),
+                            issueResult.issueLinks(),
+                            issueResult.attachments()
+                    );
+                })
+                .onErrorResume(e -> {
+                    log.error("[JIRA PROCESSOR] Project Issue Sync Failed - projectKey: {}", projectKey, e);
+                    return Mono.just(ProjectSyncResult.failure(projectKey, e.getMessage()));
+                });
     }
 
     //==================================================================================================================
 
-    private IssueSyncResult syncIssuesForProject(String projectKey) {
-        String nextPageToken = null;
-        boolean hasMore = true;
-
-        int totalIssuesFetched = 0;
-        int totalIssuesSaved = 0;
-        int totalLinksFetched = 0;
-        int totalLinksSaved = 0;
-        int totalAttachmentsFetched = 0;
-        int totalAttachmentsSaved = 0;
-
-        while (hasMore) {
-            IssueMetadataApiResponse response = jiraApiService
-                    .fetchIssues(projectKey, nextPageToken, 1000, true)
-                    .block();
-
-            if (response == null || response.issues() == null || response.issues().isEmpty()) {
-                log.warn("[JIRA PROCESSOR] Empty Response for Project Key: {}", projectKey);
-                break;
-            }
+    private Mono<IssueSyncResult> syncIssuesForProject(String projectKey, JiraSyncMode mode) {
+        // Incremental 모드: Watermark가 있으면 그 이후 변경된 Issue만 조회 (없으면 전체 조회)
+        Mono<Optional<LocalDateTime>> updatedSinceMono = mode == JiraSyncMode.INCREMENTAL
+                ? persist(() -> jiraPersistenceService.findWatermark(projectKey)
+                        .map(watermark -> watermark.minusMinutes(jiraProperties.getSync().getIncrementalOverlapMinutes())))
+                : Mono.just(Optional.empty());
+
+        return updatedSinceMono.flatMap(updatedSinceOpt -> {
+            LocalDateTime updatedSince = updatedSinceOpt.orElse(null);
+            log.info("[JIRA PROCESSOR] Issue Sync Started | Project Key: {}, updatedSince: {}", projectKey, updatedSince);
+
+            // 프로젝트 동기화 동안 IssueType / Project / User 참조를 재사용 (Issue마다 단건 조회하지 않음)
+            JiraReferenceCache references = issueMetaDataMapper.newReferenceCache();
+
+            return fetchIssuePage(projectKey, updatedSince, null)
+                    .expand(response -> !Boolean.TRUE.equals(response.isLast()) && response.nextPageToken() != null
+                            ? fetchIssuePage(projectKey, updatedSince, response.nextPageToken())
+                            : Mono.empty())
+                    // prefetch 1: 현재 페이지 저장 중 다음 페이지 조회
+                    .concatMap(response -> persist(() -> saveIssuePage(projectKey, response, references)), 1)
+                    .reduce(IssueSyncResult.empty(), IssueSyncResult::plus)
+                    .doOnSuccess(result -> log.info(
+                            "[JIRA PROCESSOR] Reference Cache | Project Key: {}, hits: {}, misses: {}, queries: {}",
+                            projectKey, references.getHits(), references.getMisses(), references.getQueries()));
+        });
+    }
 
-            // Issue Metadata
-            List<IssueMetadata> issueEntities = response.issues().stream()
-                    .map(issueMetaDataMapper::toEntity)
-                    .toList();
-            totalIssuesFetched += issueEntities.size();
-            totalIssuesSaved += jiraPersistenceService.saveAllIssues(issueEntities);
-
-            // MeiliSearch Document 변환 및 생성 이벤트 발행
-            // applicationEventPublisher.publishEvent(new SyncedIssueMetaDataEvent(response)); (Deprecated. Entity->Document로 변경)
-
-            // IssueLinks & Attachments
-            for (IssueMetadataApiResponse.JiraIssue jiraIssue : response.issues()) {
-                // Issue Links
-                if (jiraIssue.fields().issueLinks() != null) {
-                    for (IssueMetadataApiResponse.IssueLink linkDto : jiraIssue.fields().issueLinks()) {
-                        totalLinksFetched++;
-                        if (processIssueLink(linkDto)) {
-                            totalLinksSaved++;
-                        }
+    private IssueSyncResult saveIssuePage(String projectKey, IssueMetadataApiResponse response,
+                                          JiraReferenceCache references) {
+        // Issue Metadata (참조 엔티티는 페이지 단위로 한 번에 조회)
+        references.prefetch(response.issues());
+        List<IssueMetadata> issueEntities = response.issues().stream()
+                .map(issue -> issueMetaDataMapper.toEntity(issue, references))
+                .toList();
+        int issuesSaved = jiraPersistenceService.saveAllIssues(issueEntities);
+
+        // MeiliSearch Document 변환 및 생성 이벤트 발행
+        // applicationEventPublisher.publishEvent(new SyncedIssueMetaDataEvent(response)); (Deprecated. Entity->Document로 변경)
+
+        List<IssueLinkType> linkTypes = new ArrayList<>();
+        List<IssueLink> links = new ArrayList<>();
+        List<IssueAttachment> attachments = new ArrayList<>();
+        int linksFetched = 0;
+        int attachmentsFetched = 0;
+
+        // IssueLinks & Attachments (페이지 단위로 모아 한 번에 저장)
+        for (int i = 0; i < issueEntities.size(); i++) {
+            IssueMetadataApiResponse.Fields fields = response.issues().get(i).fields();
+
+            // Issue Links
+            if (fields.issueLinks() != null) {
+                for (IssueMetadataApiResponse.IssueLink linkDto : fields.issueLinks()) {
+                    linksFetched++;
+                    try {
+                        IssueLink link = issueLinkMapper.issueLinkToEntity(linkDto);
+                        linkTypes.add(link.getLinkType());
+                        links.add(link);
+                    } catch (Exception e) {
+                        log.error("[JIRA][ISSUE LINK] Failed Mapping - linkId: {}, error: {}", linkDto.id(), e.getMessage());
                     }
                 }
+            }
 
-                // Attachments
-                if (jiraIssue.fields().attachments() != null) {
-                    Integer issueId = Integer.parseInt(jiraIssue.id());
-                    for (IssueMetadataApiResponse.IssueAttachment attachmentDto : jiraIssue.fields().attachments()) {
-                        totalAttachmentsFetched++;
-                        if (processAttachment(attachmentDto, issueId)) {
-                            totalAttachmentsSaved++;
-                        }
+            // Attachments
+            if (fields.attachments() != null) {
+                for (IssueMetadataApiResponse.IssueAttachment attachmentDto : fields.attachments()) {
+                    attachmentsFetched++;
+                    try {
+                        attachments.add(issueAttachmentMapper.toEntity(attachmentDto, issueEntities.get(i)));
+                    } catch (Exception e) {
+                        log.error("[JIRA][ATTACHMENT] Failed Mapping - attachmentId: {}, error: {}", attachmentDto.id(), e.getMessage());
                     }
                 }
             }
-
-            hasMore = !Boolean.TRUE.equals(response.isLast());
-            nextPageToken = response.nextPageToken();
         }
 
+        int linksSaved = jiraPersistenceService.saveAllIssueLinks(linkTypes, links);
+        int attachmentsSaved = jiraPersistenceService.saveAllAttachments(attachments);
+
+        // updated 오름차순 조회이므로 페이지 저장이 끝나면 Watermark를 페이지 최신 updated로 이동 (중간 실패 시 이어서 조회)
+        response.issues().stream()
+                .map(issueMetaDataMapper::parseUpdatedAt)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .ifPresent(updatedAt -> jiraPersistenceService.saveWatermark(projectKey, updatedAt));
+
         return IssueSyncResult.of(
-                SyncCount.of(totalIssuesFetched, totalIssuesSaved),
-                SyncCount.of(totalLinksFetched, totalLinksSaved),
-                SyncCount.of(totalAttachmentsFetched, totalAttachmentsSaved)
+                SyncCount.of(issueEntities.size(), issuesSaved),
+                SyncCount.of(linksFetched, linksSaved),
+                SyncCount.of(attachmentsFetched, attachmentsSaved)
         );
     }
 
-    private boolean processIssueLink(IssueMetadataApiResponse.IssueLink linkDto) {
-        try {
-            Integer linkTypeId = Integer.parseInt(linkDto.type().id());
-
-            // Link Type 저장
-            IssueLinkType linkType = issueLinkMapper.linkTypeToEntity(linkDto.type());
-            jiraPersistenceService.saveLinkTypeIfNotExists(linkType);
+    // ==================== Page Fetch ====================
 
-            Integer linkId = Integer.parseInt(linkDto.id());
-            if (jiraPersistenceService.existsIssueLinkById(linkId)) {
-                return updateExistingIssueLink(linkDto, linkId, linkTypeId);
-            } else {
-                IssueLink issueLink = issueLinkMapper.issueLinkToEntity(linkDto);
-                return jiraPersistenceService.saveIssueLinkIfNotExists(issueLink);
-            }
-        } catch (Exception e) {
-            log.error("[JIRA][ISSUE LINK] Failed Saving - linkId: {}, error: {}", linkDto.id(), e.getMessage());
-            return false;
-        }
+    private Mono<ProjectPage> fetchProjectPage(int startAt) {
+        return jiraApiService.fetchProjects(startAt, PAGE_SIZE)
+                .filter(response -> response.values() != null && !response.values().isEmpty())
+                .map(response -> new ProjectPage(startAt, response))
+                .switchIfEmpty(Mono.fromRunnable(() -> log.warn("[JIRA PROCESSOR] Empty Response")));
     }
 
-    private boolean updateExistingIssueLink(IssueMetadataApiResponse.IssueLink linkDto,
-                                            Integer linkId, Integer linkTypeId) {
-        IssueLink existingLink = jiraPersistenceService.findIssueLinkById(linkId).orElse(null);
-        if (existingLink == null) {
-            return false;
-        }
-
-        IssueMetadata finalInward = existingLink.getInwardIssue();
-        IssueMetadata finalOutward = existingLink.getOutwardIssue();
+    private Mono<UserPage> fetchUserPage(int startAt) {
+        return jiraApiService.fetchUsers(startAt, PAGE_SIZE)
+                .filter(users -> !users.isEmpty())
+                .map(users -> new UserPage(startAt, users));
+    }
 
-        if (linkDto.inwardIssue() != null && finalInward == null) {
-            Integer inwardId = Integer.parseInt(linkDto.inwardIssue().id());
-            finalInward = jiraPersistenceService.findIssueById(inwardId).orElse(null);
-        }
+    private Mono<IssueMetadataApiResponse> fetchIssuePage(String projectKey, LocalDateTime updatedSince,
+                                                          String nextPageToken) {
+        return jiraApiService.fetchIssues(projectKey, updatedSince, nextPageToken, ISSUE_PAGE_SIZE, true)
+                .filter(response -> response.issues() != null && !response.issues().isEmpty())
+                .switchIfEmpty(Mono.fromRunnable(() -> {
+                    // 증분 조회에서 변경분이 없는 것은 정상
+                    if (updatedSince == null) {
+                        log.warn("[JIRA PROCESSOR] Empty Response for Project Key: {}", projectKey);
+                    } else {
+                        log.info("[JIRA PROCESSOR] No Updated Issues | Project Key: {}, updatedSince: {}", projectKey, updatedSince);
+                    }
+                }));
+    }
 
-        if (linkDto.outwardIssue() != null && finalOutward == null) {
-            Integer outwardId = Integer.parseInt(linkDto.outwardIssue().id());
-            finalOutward = jiraPersistenceService.findIssueById(outwardId).orElse(null);
-        }
+    /**
+     * blocking JPA 저장을 Jira 저장 전용 Scheduler에서 실행
+     */
+    private <T> Mono<T> persist(Callable<T> task) {
+        return Mono.fromCallable(task).subscribeOn(jiraPersistenceScheduler);
+    }
 
-        IssueLinkType linkType = jiraPersistenceService.findLinkTypeById(linkTypeId).orElse(null);
-        if (linkType == null) {
-            return false;
+    private record ProjectPage(int startAt, JiraProjectApiResponse response) {
+        boolean hasMore() {
+            return !Boolean.TRUE.equals(response.isLast());
         }
-
-        IssueLink updatedLink = IssueLink.builder()
-                .linkId(linkId)
-                .inwardIssue(finalInward)
-                .outwardIssue(finalOutward)
-                .linkType(linkType)
-                .build();
-
-        return jiraPersistenceService.updateIssueLink(updatedLink);
     }
 
-    private boolean processAttachment(IssueMetadataApiResponse.IssueAttachment attachmentDto, Integer issueId) {
-        try {
-            IssueAttachment attachment = issueAttachmentMapper.toEntity(attachmentDto, issueId);
-            return jiraPersistenceService.saveAttachmentIfNotExists(attachment);
-        } catch (Exception e) {
-            log.error("[JIRA][ATTACHMENT] Failed Saving - attachmentId: {}, error: {}", attachmentDto.id(), e.getMessage());
-            return false;
+    private record UserPage(int startAt, List<JiraUserApiResponse> users) {
+        boolean hasMore() {
+            return users.size() >= PAGE_SIZE;
         }
     }
-}
\ No newline at end of file
+}
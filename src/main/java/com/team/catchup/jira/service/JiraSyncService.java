@@ -1,21 +1,26 @@
 package com.team.catchup.jira.service;
 
+import com.team.catchup.jira.config.JiraProperties;
 import com.team.catchup.jira.dto.response.JiraSyncProgress;
 import com.team.catchup.common.sse.dto.SseEventType;
 import com.team.catchup.common.sse.dto.SyncTarget;
 import com.team.catchup.common.sse.event.SyncEvent;
+import com.team.catchup.jira.dto.JiraSyncMode;
 import com.team.catchup.jira.dto.JiraSyncStep;
-import com.team.catchup.common.sse.dto.SyncCount;
 import com.team.catchup.jira.dto.response.ProjectSyncResult;
 import com.team.catchup.jira.entity.JiraProject;
 import com.team.catchup.jira.repository.JiraProjectRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 @Slf4j
 @Service
@@ -25,141 +30,171 @@ public class JiraSyncService {
     private final JiraProcessor jiraProcessor;
     private final JiraProjectRepository jiraProjectRepository;
     private final ApplicationEventPublisher publisher;
+    private final JiraProperties jiraProperties;
+    private final Scheduler jiraPersistenceScheduler;
 
-    @Async
     public void fullSync(Long userId) {
         fullSyncFrom(userId, JiraSyncStep.PROJECTS, null);
     }
 
-    @Async
     public void fullSyncFrom(Long userId, JiraSyncStep startFrom, List<String> targetProjectKeys) {
-        log.info("[JIRA][FULL SYNC] Background Process Started | startFrom: {}", startFrom);
+        runSync(userId, startFrom, targetProjectKeys, JiraSyncMode.FULL);
+    }
+
+    /**
+     * Incremental Sync
+     * Project / User / IssueType은 전체 동기화하고, Issue는 프로젝트별 Watermark 이후 변경분만 조회
+     * (Watermark가 없는 프로젝트는 전체 조회)
+     */
+    public void incrementalSync(Long userId, List<String> targetProjectKeys) {
+        runSync(userId, JiraSyncStep.PROJECTS, targetProjectKeys, JiraSyncMode.INCREMENTAL);
+    }
+
+    /**
+     * 단계별 동기화를 하나의 Reactive 체인으로 구성해 백그라운드에서 실행 (요청 스레드는 즉시 반환)
+     * API 조회는 jiraWebClient(Netty), DB 저장은 jiraPersistenceScheduler에서 실행되어 스레드를 점유하며 대기하지 않음
+     */
+    private void runSync(Long userId, JiraSyncStep startFrom, List<String> targetProjectKeys, JiraSyncMode mode) {
+        String syncLabel = mode == JiraSyncMode.INCREMENTAL ? "Jira Incremental Sync" : "Jira Full Sync";
+        log.info("[JIRA][{} SYNC] Background Process Started | startFrom: {}", mode, startFrom);
         long startTime = System.currentTimeMillis();
 
-        try {
-            publishSimpleMessage(userId, SseEventType.IN_PROGRESS, "Starting Jira Full Sync");
-
-            // Jira Projects
-            if (shouldExecute(startFrom, JiraSyncStep.PROJECTS)) {
-                syncProjects(userId);
-            }
-
-            // Jira Users
-            if (shouldExecute(startFrom, JiraSyncStep.USERS)) {
-                syncUsers(userId);
-            }
-
-            // Issue Types
-            if (shouldExecute(startFrom, JiraSyncStep.ISSUE_TYPES)) {
-                syncIssueTypes(userId);
-            }
-
-            // Project Issues
-            if (shouldExecute(startFrom, JiraSyncStep.PROJECT_ISSUES)) {
-                syncProjectIssues(userId, targetProjectKeys);
-            }
-
-            long duration = System.currentTimeMillis() - startTime;
-            String completeMsg = String.format("Jira Full Sync Completed | Time Used : %ds",duration/1000);
-
-            JiraSyncProgress progress = JiraSyncProgress.of(
-                    JiraSyncStep.COMPLETED,
-                    null,
-                    completeMsg
-            );
-            publishProgressMessage(userId, SseEventType.COMPLETED, completeMsg, progress);
-            log.info("[JIRA][FULL SYNC] All Steps Completed - Time Used: {}ms", duration);
-
-        } catch (Exception e) {
-            log.error("[JIRA][FULL SYNC] FAILED", e);
-            publishSimpleMessage(userId, SseEventType.FAILED, "Jira Full Sync Failed: " + e.getMessage());
-        }
+        publishSimpleMessage(userId, SseEventType.IN_PROGRESS, "Starting " + syncLabel);
+
+        step(startFrom, JiraSyncStep.PROJECTS, () -> syncProjects(userId))
+                .then(step(startFrom, JiraSyncStep.USERS, () -> syncUsers(userId)))
+                .then(step(startFrom, JiraSyncStep.ISSUE_TYPES, () -> syncIssueTypes(userId)))
+                .then(step(startFrom, JiraSyncStep.PROJECT_ISSUES, () -> syncProjectIssues(userId, targetProjectKeys, mode)))
+                .subscribe(
+                        null,
+                        e -> {
+                            log.error("[JIRA][{} SYNC] FAILED", mode, e);
+                            publishSimpleMessage(userId, SseEventType.FAILED, syncLabel + " Failed: " + e.getMessage());
+                        },
+                        () -> {
+                            long duration = System.currentTimeMillis() - startTime;
+                            String completeMsg = String.format("%s Completed | Time Used : %ds", syncLabel, duration/1000);
+
+                            JiraSyncProgress progress = JiraSyncProgress.of(
+                                    JiraSyncStep.COMPLETED,
+                                    null,
+                                    completeMsg
+                            );
+                            publishProgressMessage(userId, SseEventType.COMPLETED, completeMsg, progress);
+                            log.info("[JIRA][{} SYNC] All Steps Completed - Time Used: {}ms", mode, duration);
+                        }
+                );
     }
 
-    @Async
     public void retryFailedProjects(List<String> failedProjectKeys) {
         log.info("[JIRA][RETRY] Retrying failed projects: {}", failedProjectKeys);
 
-        for (String projectKey : failedProjectKeys) {
-            try {
-                jiraProcessor.syncSingleProjectIssue(projectKey);
-            } catch (Exception e) {
-                log.error("[JIRA][RETRY] Project {} Failed again", projectKey, e);
-            }
-        }
-        log.info("[JIRA][RETRY] Completed");
+        // 페이지마다 Watermark가 저장되므로 실패 직전까지 저장된 페이지 이후부터 이어서 조회
+        syncProjectsConcurrently(failedProjectKeys, JiraSyncMode.INCREMENTAL)
+                .doOnNext(result -> {
+                    if (!result.success()) {
+                        log.error("[JIRA][RETRY] Project {} Failed again: {}", result.projectKey(), result.errorMessage());
+                    }
+                })
+                .subscribe(
+                        null,
+                        e -> log.error("[JIRA][RETRY] Failed", e),
+                        () -> log.info("[JIRA][RETRY] Completed")
+                );
     }
 
     //==================================================================================================================
-    private void syncProjects(Long userId) {
-        SyncCount count = jiraProcessor.syncProjects();
-
-        JiraSyncProgress progress = JiraSyncProgress.of(
-                JiraSyncStep.PROJECTS,
-                count,
-                "Project Sync Completed"
-        );
-
-        publishProgressMessage(userId, SseEventType.IN_PROGRESS, "Project Sync Completed", progress);
-        log.info("[JIRA SYNC] Projects completed - total: {}, saved: {}",
-                count.getTotal(), count.getSaved());
+    private Mono<Void> syncProjects(Long userId) {
+        return jiraProcessor.syncProjects()
+                .doOnNext(count -> {
+                    JiraSyncProgress progress = JiraSyncProgress.of(
+                            JiraSyncStep.PROJECTS,
+                            count,
+                            "Project Sync Completed"
+                    );
+
+                    publishProgressMessage(userId, SseEventType.IN_PROGRESS, "Project Sync Completed", progress);
+                    log.info("[JIRA SYNC] Projects completed - total: {}, saved: {}",
+                            count.getTotal(), count.getSaved());
+                })
+                .then();
     }
 
-    private void syncUsers(Long userId) {
-        SyncCount count = jiraProcessor.syncUsers();
-
-        JiraSyncProgress progress = JiraSyncProgress.of(
-                JiraSyncStep.USERS,
-                count,
-                "User Sync Completed"
-        );
-
-        publishProgressMessage(userId, SseEventType.IN_PROGRESS, "User Sync Completed", progress);
-        log.info("[JIRA SYNC] Users completed - total: {}, saved: {}",
-                count.getTotal(), count.getSaved());
+    private Mono<Void> syncUsers(Long userId) {
+        return jiraProcessor.syncUsers()
+                .doOnNext(count -> {
+                    JiraSyncProgress progress = JiraSyncProgress.of(
+                            JiraSyncStep.USERS,
+                            count,
+                            "User Sync Completed"
+                    );
+
+                    publishProgressMessage(userId, SseEventType.IN_PROGRESS, "User Sync Completed", progress);
+                    log.info("[JIRA SYNC] Users completed - total: {}, saved: {}",
+                            count.getTotal(), count.getSaved());
+                })
+                .then();
     }
 
-    private void syncIssueTypes(Long userId) {
-        SyncCount count = jiraProcessor.syncIssueTypes();
-
-        JiraSyncProgress progress = JiraSyncProgress.of(
-                JiraSyncStep.ISSUE_TYPES,
-                count,
-                "Issue Type Sync Completed"
-        );
-
-        publishProgressMessage(userId, SseEventType.IN_PROGRESS, "Issue Type Sync Completed", progress);
-        log.info("[JIRA SYNC] IssueTypes completed - total: {}, saved: {}",
-                count.getTotal(), count.getSaved());
+    private Mono<Void> syncIssueTypes(Long userId) {
+        return jiraProcessor.syncIssueTypes()
+                .doOnNext(count -> {
+                    JiraSyncProgress progress = JiraSyncProgress.of(
+                            JiraSyncStep.ISSUE_TYPES,
+                            count,
+                            "Issue Type Sync Completed"
+                    );
+
+                    publishProgressMessage(userId, SseEventType.IN_PROGRESS, "Issue Type Sync Completed", progress);
+                    log.info("[JIRA SYNC] IssueTypes completed - total: {}, saved: {}",
+                            count.getTotal(), count.getSaved());
+                })
+                .then();
     }
 
-    private void syncProjectIssues(Long userId, List<String> targetProjectKeys) {
-        List<String> projectKeys = resolveTargetProjectKeys(targetProjectKeys);
-        int totalProjects = projectKeys.size();
-        int currentIdx = 0;
-
-        publishSimpleMessage(userId, SseEventType.IN_PROGRESS, "Starting Jira Issue Sync");
-        log.info("[JIRA SYNC] Issue sync started - projects: {}", totalProjects);
-
-        for (String projectKey : projectKeys) {
-            currentIdx++;
-
-            ProjectSyncResult result = jiraProcessor.syncSingleProjectIssue(projectKey);
-
-            String msg = String.format("[%d/%d] Sync completed for project: %s",
-                    currentIdx, totalProjects, projectKey);
-
-            JiraSyncProgress progress = JiraSyncProgress.ofProjectIssue(
-                    JiraSyncStep.PROJECT_ISSUES,
-                    result,
-                    projectKey,
-                    msg
-            );
+    private Mono<Void> syncProjectIssues(Long userId, List<String> targetProjectKeys, JiraSyncMode mode) {
+        return Mono.fromCallable(() -> resolveTargetProjectKeys(targetProjectKeys))
+                .subscribeOn(jiraPersistenceScheduler)
+                .flatMapMany(projectKeys -> {
+                    int totalProjects = projectKeys.size();
+                    AtomicInteger completed = new AtomicInteger();
+
+                    publishSimpleMessage(userId, SseEventType.IN_PROGRESS, "Starting Jira Issue Sync");
+                    log.info("[JIRA SYNC] Issue sync started - projects: {}, mode: {}, concurrency: {}",
+                            totalProjects, mode, jiraProperties.getSync().getProjectConcurrency());
+
+                    // [i/N]의 i는 완료된 프로젝트 수 (병렬 처리 시 완료 순서대로 발행)
+                    return syncProjectsConcurrently(projectKeys, mode)
+                            .doOnNext(result -> {
+                                String msg = String.format("[%d/%d] Sync completed for project: %s",
+                                        completed.incrementAndGet(), totalProjects, result.projectKey());
+
+                                JiraSyncProgress progress = JiraSyncProgress.ofProjectIssue(
+                                        JiraSyncStep.PROJECT_ISSUES,
+                                        result,
+                                        result.projectKey(),
+                                        msg
+                                );
+
+                                publishProgressMessage(userId, SseEventType.IN_PROGRESS, msg, progress);
+                            });
+                })
+                .then();
+    }
 
-            publishProgressMessage(userId, SseEventType.IN_PROGRESS, msg, progress);
-        }
+    /**
+     * 프로젝트별 Issue 동기화를 최대 project-concurrency개씩 동시에 실행
+     * API 호출 속도는 jiraWebClient의 JiraRateLimiter가 전체 프로젝트 합산으로 제한
+     */
+    private Flux<ProjectSyncResult> syncProjectsConcurrently(List<String> projectKeys, JiraSyncMode mode) {
+        int concurrency = Math.max(1, jiraProperties.getSync().getProjectConcurrency());
+        return Flux.fromIterable(projectKeys)
+                .flatMap(projectKey -> jiraProcessor.syncSingleProjectIssue(projectKey, mode), concurrency);
     }
 
+    private Mono<Void> step(JiraSyncStep startFrom, JiraSyncStep target, Supplier<Mono<Void>> step) {
+        return shouldExecute(startFrom, target) ? Mono.defer(step) : Mono.empty();
+    }
 
     private List<String> resolveTargetProjectKeys(List<String> targetProjectKeys) {
         if (targetProjectKeys != null && !targetProjectKeys.isEmpty()) {
@@ -21,7 +21,7 @@ public class ChatHistory {
 
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "chat_history_seq")
-    @SequenceGenerator(name = "chat_history_seq", sequenceName = "chat_history_id_seq", allocationSize = 1)
+    @SequenceGenerator(name = "chat_history_seq", sequenceName = "chat_history_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,23 @@
+-- ============================================
+-- 대량 저장 엔티티 ID 생성 방식 변경: IDENTITY -> Sequence (pooled-lo, allocationSize 50)
+-- ddl-auto가 create / create-drop이 아닌 환경(validate, none)에서 애플리케이션 배포 전에 실행
+-- ============================================
+
+-- github_commit
+CREATE SEQUENCE IF NOT EXISTS github_commit_seq START WITH 1 INCREMENT BY 50;
+ALTER TABLE github_commit ALTER COLUMN commit_id DROP IDENTITY IF EXISTS;
+SELECT setval('github_commit_seq', COALESCE((SELECT MAX(commit_id) FROM github_commit), 0) + 1, false);
+
+-- github_commit_parent
+CREATE SEQUENCE IF NOT EXISTS github_commit_parent_seq START WITH 1 INCREMENT BY 50;
+ALTER TABLE github_commit_parent ALTER COLUMN id DROP IDENTITY IF EXISTS;
+SELECT setval('github_commit_parent_seq', COALESCE((SELECT MAX(id) FROM github_commit_parent), 0) + 1, false);
+
+-- github_file_change
+CREATE SEQUENCE IF NOT EXISTS github_file_change_seq START WITH 1 INCREMENT BY 50;
+ALTER TABLE github_file_change ALTER COLUMN file_change_id DROP IDENTITY IF EXISTS;
+SELECT setval('github_file_change_seq', COALESCE((SELECT MAX(file_change_id) FROM github_file_change), 0) + 1, false);
+
+-- chat_history (allocationSize 1 -> 50)
+ALTER SEQUENCE chat_history_id_seq INCREMENT BY 50;
+SELECT setval('chat_history_id_seq', COALESCE((SELECT MAX(id) FROM chat_history), 0) + 1, false);
@@ -0,0 +1,68 @@
+-- ============================================
+-- File Change 경로 정규화: github_file_path 사전 + file_path_id 참조
+-- ddl-auto가 create / create-drop이 아닌 환경(validate, none)에서 애플리케이션 배포 전에 실행
+-- ============================================
+
+CREATE SEQUENCE IF NOT EXISTS github_file_path_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS github_file_path (
+    file_path_id BIGINT PRIMARY KEY,
+    path VARCHAR(1000) COLLATE "C" NOT NULL,
+    CONSTRAINT uk_file_path_path UNIQUE (path)
+);
+
+-- 기존 경로 등록
+INSERT INTO github_file_path (file_path_id, path)
+SELECT nextval('github_file_path_seq'), path
+FROM (
+    SELECT file_path AS path FROM github_file_change
+    UNION
+    SELECT previous_file_path FROM github_file_change WHERE previous_file_path IS NOT NULL
+) paths
+ON CONFLICT (path) DO NOTHING;
+
+-- nextval을 행마다 호출했으므로 pooled-lo 할당 구간과 겹치지 않도록 Sequence를 최대 ID 이후로 이동
+SELECT setval('github_file_path_seq', COALESCE((SELECT MAX(file_path_id) FROM github_file_path), 0) + 1, false);
+
+ALTER TABLE github_file_change ADD COLUMN IF NOT EXISTS file_path_id BIGINT;
+ALTER TABLE github_file_change ADD COLUMN IF NOT EXISTS previous_file_path_id BIGINT;
+
+UPDATE github_file_change fc
+SET file_path_id = fp.file_path_id
+FROM github_file_path fp
+WHERE fp.path = fc.file_path;
+
+UPDATE github_file_change fc
+SET previous_file_path_id = fp.file_path_id
+FROM github_file_path fp
+WHERE fp.path = fc.previous_file_path;
+
+-- 재동기화로 중복 저장된 행 정리 (가장 최근 행만 유지)
+DELETE FROM github_file_change fc
+USING github_file_change newer
+WHERE fc.commit_sha IS NOT NULL
+  AND fc.repository_id = newer.repository_id
+  AND fc.commit_sha = newer.commit_sha
+  AND fc.file_path_id = newer.file_path_id
+  AND fc.file_change_id < newer.file_change_id;
+
+DELETE FROM github_file_change fc
+USING github_file_change newer
+WHERE fc.pull_request_id IS NOT NULL
+  AND fc.pull_request_id = newer.pull_request_id
+  AND fc.file_path_id = newer.file_path_id
+  AND fc.file_change_id < newer.file_change_id;
+
+ALTER TABLE github_file_change ALTER COLUMN file_path_id SET NOT NULL;
+ALTER TABLE github_file_change DROP CONSTRAINT IF EXISTS uk_file_change_commit_path;
+ALTER TABLE github_file_change DROP CONSTRAINT IF EXISTS uk_file_change_pull_request_path;
+ALTER TABLE github_file_change DROP COLUMN file_path;
+ALTER TABLE github_file_change DROP COLUMN previous_file_path;
+
+ALTER TABLE github_file_change
+    ADD CONSTRAINT fk_file_change_file_path FOREIGN KEY (file_path_id) REFERENCES github_file_path (file_path_id),
+    ADD CONSTRAINT fk_file_change_previous_file_path FOREIGN KEY (previous_file_path_id) REFERENCES github_file_path (file_path_id),
+    ADD CONSTRAINT uk_file_change_commit_path UNIQUE (repository_id, commit_sha, file_path_id),
+    ADD CONSTRAINT uk_file_change_pull_request_path UNIQUE (pull_request_id, file_path_id);
+
+CREATE INDEX IF NOT EXISTS idx_file_change_file_path ON github_file_change (file_path_id);
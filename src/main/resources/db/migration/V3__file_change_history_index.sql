@@ -0,0 +1,27 @@
+-- ============================================
+-- 파일 이력 조회: 변경 시각 컬럼 + (repository_id, file_path_id, changed_at, file_change_id) 인덱스
+-- ddl-auto가 create / create-drop이 아닌 환경(validate, none)에서 애플리케이션 배포 전에 실행
+-- ============================================
+
+ALTER TABLE github_file_change ADD COLUMN IF NOT EXISTS changed_at TIMESTAMP(6);
+
+-- Commit의 변경: 작성 시각
+UPDATE github_file_change fc
+SET changed_at = c.author_date
+FROM github_commit c
+WHERE fc.commit_sha IS NOT NULL
+  AND c.repository_id = fc.repository_id
+  AND c.sha = fc.commit_sha;
+
+-- PR의 변경: Merge 시각, 없으면 마지막 갱신 시각
+UPDATE github_file_change fc
+SET changed_at = COALESCE(pr.merged_at, pr.updated_at)
+FROM github_pull_request pr
+WHERE fc.pull_request_id = pr.pull_request_id;
+
+UPDATE github_file_change SET changed_at = now() WHERE changed_at IS NULL;
+ALTER TABLE github_file_change ALTER COLUMN changed_at SET NOT NULL;
+
+DROP INDEX IF EXISTS idx_file_change_file_path;
+CREATE INDEX IF NOT EXISTS idx_file_change_history
+    ON github_file_change (repository_id, file_path_id, changed_at DESC, file_change_id DESC);
@@ -0,0 +1,8 @@
+-- ============================================
+-- 파일 이력 조회: (repository_id, changed_at, file_change_id) 인덱스
+-- 일치 경로가 prefix-max-paths를 넘는 PREFIX / GLOB 조회가 최신순으로 훑다가 LIMIT에서 멈추도록 함
+-- ddl-auto가 create / create-drop이 아닌 환경(validate, none)에서 애플리케이션 배포 전에 실행
+-- ============================================
+
+CREATE INDEX IF NOT EXISTS idx_file_change_recent
+    ON github_file_change (repository_id, changed_at DESC, file_change_id DESC);
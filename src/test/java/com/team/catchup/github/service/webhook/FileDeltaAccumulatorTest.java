@@ -0,0 +1,119 @@
+package com.team.catchup.github.service.webhook;
+
+import com.team.catchup.github.entity.GithubFileChange.FileChangeType;
+import com.team.catchup.github.service.webhook.FileDeltaAccumulator.FileDelta;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileDeltaAccumulatorTest {
+
+    @Test
+    void addThenDeleteDropsPath() {
+        FileDeltaAccumulator accumulator = new FileDeltaAccumulator();
+
+        accumulator.record("a.txt", FileChangeType.ADDED);
+        accumulator.record("a.txt", FileChangeType.MODIFIED);
+        accumulator.record("a.txt", FileChangeType.DELETED);
+
+        assertThat(accumulator.isEmpty()).isTrue();
+    }
+
+    @Test
+    void deleteThenAddBecomesModified() {
+        FileDeltaAccumulator accumulator = new FileDeltaAccumulator();
+
+        accumulator.record("a.txt", FileChangeType.DELETED);
+        accumulator.record("a.txt", FileChangeType.ADDED);
+
+        assertThat(accumulator.deltas().get("a.txt"))
+                .isEqualTo(new FileDelta(FileChangeType.MODIFIED, null, true));
+    }
+
+    @Test
+    void addThenModifyStaysAdded() {
+        FileDeltaAccumulator accumulator = new FileDeltaAccumulator();
+
+        accumulator.record("a.txt", FileChangeType.ADDED);
+        accumulator.record("a.txt", FileChangeType.MODIFIED);
+
+        assertThat(accumulator.deltas().get("a.txt").changeType()).isEqualTo(FileChangeType.ADDED);
+    }
+
+    @Test
+    void modifyThenDeleteBecomesDeleted() {
+        FileDeltaAccumulator accumulator = new FileDeltaAccumulator();
+
+        accumulator.record("a.txt", FileChangeType.MODIFIED);
+        accumulator.record("a.txt", FileChangeType.DELETED);
+
+        assertThat(accumulator.deltas().get("a.txt"))
+                .isEqualTo(new FileDelta(FileChangeType.DELETED, null, false));
+    }
+
+    @Test
+    void renamedAndCopiedAreNormalisedToAdded() {
+        FileDeltaAccumulator accumulator = new FileDeltaAccumulator();
+
+        accumulator.record("renamed.txt", FileChangeType.RENAMED);
+        accumulator.record("copied.txt", FileChangeType.COPIED);
+
+        assertThat(accumulator.deltas().get("renamed.txt").changeType()).isEqualTo(FileChangeType.ADDED);
+        assertThat(accumulator.deltas().get("copied.txt").changeType()).isEqualTo(FileChangeType.ADDED);
+
+        // 정규화 후에도 같은 규칙 적용 (추가 후 삭제 = 제외)
+        accumulator.record("renamed.txt", FileChangeType.DELETED);
+        assertThat(accumulator.deltas()).containsOnlyKeys("copied.txt");
+    }
+
+    @Test
+    void mergeAppliesSameRulesAsRecord() {
+        FileDeltaAccumulator first = new FileDeltaAccumulator();
+        first.record("added-then-deleted.txt", FileChangeType.ADDED);
+        first.record("deleted-then-added.txt", FileChangeType.DELETED);
+        first.record("modified-then-deleted.txt", FileChangeType.MODIFIED);
+
+        FileDeltaAccumulator second = new FileDeltaAccumulator();
+        second.record("added-then-deleted.txt", FileChangeType.DELETED);
+        second.record("deleted-then-added.txt", FileChangeType.ADDED);
+        second.record("modified-then-deleted.txt", FileChangeType.DELETED);
+        second.record("only-second.txt", FileChangeType.MODIFIED);
+
+        first.merge(second);
+
+        assertThat(first.deltas()).containsOnlyKeys(
+                "deleted-then-added.txt", "modified-then-deleted.txt", "only-second.txt");
+        assertThat(first.deltas().get("deleted-then-added.txt").changeType()).isEqualTo(FileChangeType.MODIFIED);
+        assertThat(first.deltas().get("modified-then-deleted.txt").changeType()).isEqualTo(FileChangeType.DELETED);
+        assertThat(first.deltas().get("only-second.txt").changeType()).isEqualTo(FileChangeType.MODIFIED);
+    }
+
+    @Test
+    void markRenamedMergesDeletedAndAddedPair() {
+        FileDeltaAccumulator accumulator = new FileDeltaAccumulator();
+        accumulator.record("old.txt", FileChangeType.DELETED);
+        accumulator.record("new.txt", FileChangeType.ADDED);
+        assertThat(accumulator.hasRenameCandidates()).isTrue();
+
+        boolean renamed = accumulator.markRenamed("new.txt", "old.txt", false);
+
+        assertThat(renamed).isTrue();
+        assertThat(accumulator.deltas()).containsOnlyKeys("new.txt");
+        assertThat(accumulator.deltas().get("new.txt"))
+                .isEqualTo(new FileDelta(FileChangeType.RENAMED, "old.txt", false));
+        assertThat(accumulator.changedPaths()).containsExactly("new.txt", "old.txt");
+        assertThat(accumulator.hasRenameCandidates()).isFalse();
+    }
+
+    @Test
+    void markRenamedIgnoresPathsThatAreNotAnAddDeletePair() {
+        FileDeltaAccumulator accumulator = new FileDeltaAccumulator();
+        accumulator.record("old.txt", FileChangeType.DELETED);
+        accumulator.record("new.txt", FileChangeType.MODIFIED);
+
+        assertThat(accumulator.markRenamed("new.txt", "old.txt", true)).isFalse();
+        assertThat(accumulator.markRenamed("missing.txt", "old.txt", true)).isFalse();
+        assertThat(accumulator.deltas().get("old.txt").changeType()).isEqualTo(FileChangeType.DELETED);
+        assertThat(accumulator.deltas().get("new.txt").changeType()).isEqualTo(FileChangeType.MODIFIED);
+    }
+}
@@ -0,0 +1,38 @@
+package com.team.catchup.github.service.webhook;
+
+import java.util.function.Supplier;
+
+/**
+ * JUnit에서 실행하는 간단한 반복 측정 (JMH 대체)
+ * 워밍업 후 평균 소요 시간을 출력하며, 결과값을 소비해 JIT가 측정 대상을 제거하지 않도록 한다.
+ * 수치는 참고용이므로 테스트는 결과의 정확성만 검증한다.
+ */
+final class MicroBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 2_000;
+
+    private static volatile Object sink;
+
+    private MicroBenchmark() {
+    }
+
+    /**
+     * @param iterations 측정 횟수 (워밍업은 이 횟수와 WARMUP_ITERATIONS 중 작은 값)
+     * @return 1회 평균 소요 시간 (ns)
+     */
+    static double measure(String name, int iterations, Supplier<?> task) {
+        int warmup = Math.min(WARMUP_ITERATIONS, iterations);
+        for (int i = 0; i < warmup; i++) {
+            sink = task.get();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink = task.get();
+        }
+        double averageNanos = (double) (System.nanoTime() - start) / iterations;
+
+        System.out.printf("[Benchmark] %s: %.1f ns/op (%d ops)%n", name, averageNanos, iterations);
+        return averageNanos;
+    }
+}
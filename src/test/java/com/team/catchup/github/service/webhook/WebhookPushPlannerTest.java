@@ -0,0 +1,160 @@
+package com.team.catchup.github.service.webhook;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team.catchup.github.dto.webhook.WebhookPushPayload;
+import com.team.catchup.github.entity.GithubCommit;
+import com.team.catchup.github.entity.GithubFileChange;
+import com.team.catchup.github.entity.GithubFileChange.FileChangeType;
+import com.team.catchup.github.entity.GithubRepository;
+import com.team.catchup.github.service.webhook.WebhookPushPlanner.PushPlan;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class WebhookPushPlannerTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final GithubRepository repository = GithubRepository.builder()
+            .repositoryId(1L)
+            .build();
+
+    @Test
+    void skipsDuplicateShasInPayload() {
+        List<WebhookPushPayload.Commit> commits = List.of(
+                commit("a", List.of("a.txt"), List.of(), List.of()),
+                commit("a", List.of("a.txt"), List.of(), List.of()),
+                commit("b", List.of(), List.of("a.txt"), List.of())
+        );
+
+        PushPlan plan = WebhookPushPlanner.plan(repository, commits, Set.of());
+
+        assertThat(plan.commitShas()).containsExactly("a", "b");
+        assertThat(plan.commits()).extracting(GithubCommit::getSha).containsExactly("a", "b");
+        assertThat(plan.fileChanges())
+                .extracting(GithubFileChange::getCommitSha, GithubFileChange::getChangeType)
+                .containsExactly(
+                        tuple("a", FileChangeType.ADDED),
+                        tuple("b", FileChangeType.MODIFIED)
+                );
+    }
+
+    @Test
+    void skipsAlreadyStoredCommits() {
+        List<WebhookPushPayload.Commit> commits = List.of(
+                commit("a", List.of("stored.txt"), List.of(), List.of()),
+                commit("b", List.of("new.txt"), List.of(), List.of())
+        );
+
+        PushPlan plan = WebhookPushPlanner.plan(repository, commits, Set.of("a"));
+
+        assertThat(plan.commitShas()).containsExactly("b");
+        assertThat(plan.fileChanges()).extracting(GithubFileChange::getCommitSha).containsOnly("b");
+        // 이미 저장된 Commit의 변경은 누적에 포함되지 않음
+        assertThat(plan.delta().deltas()).containsOnlyKeys("new.txt");
+    }
+
+    @Test
+    void returnsEmptyPlanWhenEveryCommitIsStored() {
+        List<WebhookPushPayload.Commit> commits = List.of(
+                commit("a", List.of("a.txt"), List.of(), List.of())
+        );
+
+        PushPlan plan = WebhookPushPlanner.plan(repository, commits, Set.of("a"));
+
+        assertThat(plan.commitShas()).isEmpty();
+        assertThat(plan.commits()).isEmpty();
+        assertThat(plan.fileChanges()).isEmpty();
+        assertThat(plan.delta().isEmpty()).isTrue();
+    }
+
+    @Test
+    void foldsFileChangesAcrossCommitsIntoDelta() {
+        List<WebhookPushPayload.Commit> commits = List.of(
+                commit("a", List.of("kept.txt", "temp.txt"), List.of(), List.of("gone.txt")),
+                commit("b", List.of(), List.of("kept.txt"), List.of("temp.txt")),
+                commit("c", List.of("gone.txt"), List.of(), List.of())
+        );
+
+        PushPlan plan = WebhookPushPlanner.plan(repository, commits, Set.of());
+
+        // Commit별 변경은 모두 저장 대상
+        assertThat(plan.fileChanges()).hasSize(6);
+        // 누적 결과: 추가 후 수정 = 추가, 추가 후 삭제 = 제외, 삭제 후 추가 = 수정
+        assertThat(plan.delta().deltas()).containsOnlyKeys("kept.txt", "gone.txt");
+        assertThat(plan.delta().deltas().get("kept.txt").changeType()).isEqualTo(FileChangeType.ADDED);
+        assertThat(plan.delta().deltas().get("gone.txt").changeType()).isEqualTo(FileChangeType.MODIFIED);
+    }
+
+    /**
+     * 2,000 Commit Push (절반은 이미 저장됨): HashSet 필터링 계획 vs 이전 List.contains 필터링
+     */
+    @Test
+    void measuresPlanningLargePush() {
+        List<WebhookPushPayload.Commit> commits = new ArrayList<>();
+        Set<String> existingShas = new HashSet<>();
+        for (int i = 0; i < 2_000; i++) {
+            String sha = String.format("%040x", i);
+            commits.add(commit(sha, List.of("file-" + i + ".txt"), List.of(), List.of()));
+            if (i % 2 == 0) {
+                existingShas.add(sha);
+            }
+        }
+
+        MicroBenchmark.measure("List.contains filter only (2,000 commits)", 20,
+                () -> legacyFilter(commits, existingShas));
+        MicroBenchmark.measure("WebhookPushPlanner.plan (2,000 commits)", 200,
+                () -> WebhookPushPlanner.plan(repository, commits, existingShas));
+
+        PushPlan plan = WebhookPushPlanner.plan(repository, commits, existingShas);
+        assertThat(plan.commitShas()).hasSize(1_000);
+        assertThat(plan.commits()).extracting(GithubCommit::getSha)
+                .containsExactlyElementsOf(legacyFilter(commits, existingShas));
+    }
+
+    /**
+     * 이전 WebhookPushHandler의 필터링: 새 SHA 목록을 만든 뒤 Commit / File Change 단계에서 각각 List.contains
+     */
+    private List<String> legacyFilter(List<WebhookPushPayload.Commit> commits, Set<String> existingShas) {
+        List<String> newCommitShas = commits.stream()
+                .map(WebhookPushPayload.Commit::getId)
+                .distinct()
+                .filter(sha -> !existingShas.contains(sha))
+                .collect(Collectors.toList());
+
+        List<String> newCommits = commits.stream()
+                .map(WebhookPushPayload.Commit::getId)
+                .filter(newCommitShas::contains)
+                .collect(Collectors.toList());
+        int fileChangeCommits = 0;
+        for (WebhookPushPayload.Commit commit : commits) {
+            if (newCommitShas.contains(commit.getId())) {
+                fileChangeCommits++;
+            }
+        }
+        if (fileChangeCommits != newCommits.size()) {
+            throw new IllegalStateException("filter mismatch");
+        }
+        return newCommits;
+    }
+
+    private WebhookPushPayload.Commit commit(String sha, List<String> added, List<String> modified,
+                                             List<String> removed) {
+        return OBJECT_MAPPER.convertValue(Map.of(
+                "id", sha,
+                "message", "commit " + sha,
+                "timestamp", "2025-01-01T10:00:00+09:00",
+                "added", added,
+                "modified", modified,
+                "removed", removed
+        ), WebhookPushPayload.Commit.class);
+    }
+}
@@ -0,0 +1,118 @@
+package com.team.catchup.github.service.webhook;
+
+import com.team.catchup.github.config.WebhookProperties;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HexFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WebhookSignatureValidatorTest {
+
+    private static final String SECRET = "webhook-secret";
+    private static final int CHUNK_SIZE = 8 * 1024;
+
+    private final WebhookSignatureValidator validator = new WebhookSignatureValidator(properties());
+
+    @Test
+    void acceptsSignatureOfRawBody() throws Exception {
+        byte[] payload = "{\"ref\":\"refs/heads/main\"}".getBytes(StandardCharsets.UTF_8);
+
+        assertThat(validator.validateSignature(payload, sign(payload))).isTrue();
+        // 재사용한 Mac이 reset 되었는지 확인 (같은 입력 -> 같은 결과)
+        assertThat(validator.validateSignature(payload, sign(payload))).isTrue();
+    }
+
+    @Test
+    void rejectsTamperedBodyAndMalformedHeaders() throws Exception {
+        byte[] payload = "{\"ref\":\"refs/heads/main\"}".getBytes(StandardCharsets.UTF_8);
+        String signature = sign(payload);
+        byte[] tampered = "{\"ref\":\"refs/heads/dev\"}".getBytes(StandardCharsets.UTF_8);
+
+        assertThat(validator.validateSignature(tampered, signature)).isFalse();
+        assertThat(validator.validateSignature(payload, null)).isFalse();
+        assertThat(validator.validateSignature(payload, "sha1=" + signature.substring(7))).isFalse();
+        assertThat(validator.validateSignature(payload, signature.substring(0, signature.length() - 2))).isFalse();
+        assertThat(validator.validateSignature(payload, "sha256=" + "zz".repeat(32))).isFalse();
+    }
+
+    /**
+     * 재사용 Mac vs 본문 String 변환 + 호출마다 Mac 생성 + hex 문자열 비교 (이전 구현)
+     * 본문을 청크 단위로 update하는 경우(수신 중 계산)와 한 번에 doFinal하는 경우의 비용도 함께 출력한다.
+     * 다이제스트 계산량은 같으므로, 본문을 byte[]로 받는 대신 잃는 것은 CPU가 아니라 최대 본문 크기만큼의 메모리다.
+     */
+    @Test
+    void measuresSignatureValidation() throws Exception {
+        byte[] smallPayload = payload(2 * 1024);
+        byte[] largePayload = payload(1024 * 1024);
+        String smallSignature = sign(smallPayload);
+        String largeSignature = sign(largePayload);
+        SecretKeySpec key = new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+
+        MicroBenchmark.measure("String body + new Mac + hex string (2KB)", 5_000,
+                () -> legacyValidate(key, new String(smallPayload, StandardCharsets.UTF_8), smallSignature));
+        MicroBenchmark.measure("reused Mac + byte compare (2KB)", 5_000,
+                () -> validator.validateSignature(smallPayload, smallSignature));
+        MicroBenchmark.measure("reused Mac + byte compare (1MB)", 200,
+                () -> validator.validateSignature(largePayload, largeSignature));
+        MicroBenchmark.measure("chunked update (1MB)", 200,
+                () -> chunkedDigest(key, largePayload));
+
+        assertThat(legacyValidate(key, new String(smallPayload, StandardCharsets.UTF_8), smallSignature)).isTrue();
+        assertThat(validator.validateSignature(largePayload, largeSignature)).isTrue();
+        assertThat(HexFormat.of().formatHex(chunkedDigest(key, largePayload))).isEqualTo(largeSignature.substring(7));
+    }
+
+    private static boolean legacyValidate(SecretKeySpec key, String payload, String signature) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(key);
+            StringBuilder hex = new StringBuilder("sha256=");
+            for (byte b : mac.doFinal(payload.getBytes(StandardCharsets.UTF_8))) {
+                hex.append(String.format("%02x", b));
+            }
+            return MessageDigest.isEqual(
+                    hex.toString().getBytes(StandardCharsets.UTF_8),
+                    signature.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] chunkedDigest(SecretKeySpec key, byte[] payload) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(key);
+            for (int offset = 0; offset < payload.length; offset += CHUNK_SIZE) {
+                mac.update(payload, offset, Math.min(CHUNK_SIZE, payload.length - offset));
+            }
+            return mac.doFinal();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String sign(byte[] payload) throws GeneralSecurityException {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        return "sha256=" + HexFormat.of().formatHex(mac.doFinal(payload));
+    }
+
+    private static byte[] payload(int size) {
+        byte[] payload = new byte[size];
+        Arrays.fill(payload, (byte) 'a');
+        return payload;
+    }
+
+    private static WebhookProperties properties() {
+        WebhookProperties properties = new WebhookProperties();
+        properties.setSecret(SECRET);
+        return properties;
+    }
+}